@@ -0,0 +1,35 @@
+plugins {
+    `java-library`
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_17
+    targetCompatibility = JavaVersion.VERSION_17
+}
+
+// Kütüphanenin Android'e bağımlı olmayan sınıfları doğrudan kaynak ağacından derlenir;
+// böylece benchmark'lar görünümün çalıştırdığı kodun aynısını ölçer.
+sourceSets {
+    main {
+        java {
+            srcDir("../MervBottomNavigationViewLibrary/src/main/java")
+            include(
+                "com/merv/bottomnavigationview/library/Geometry/**",
+                "com/merv/bottomnavigationview/library/Animation/MervSelectionTransition.java",
+                "com/merv/bottomnavigationview/library/Interpolar/MervEasing.java",
+                "com/merv/bottomnavigationview/library/Interpolar/MervBezierEasing.java"
+            )
+        }
+    }
+}
+
+tasks.withType<JavaCompile>().configureEach {
+    options.encoding = "UTF-8"
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
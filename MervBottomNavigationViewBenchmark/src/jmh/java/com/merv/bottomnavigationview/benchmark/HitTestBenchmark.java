@@ -0,0 +1,79 @@
+package com.merv.bottomnavigationview.benchmark;
+
+import com.merv.bottomnavigationview.library.Geometry.MervNavGeometry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dokunma X koordinatından öğe indeksinin bulunması (ACTION_DOWN).
+ * mWeighted true iken öğeler farklı genişliktedir ve arama önek toplamı üzerinde ikili aramadır.
+ * Sonuçlar tek bir çağrı başına verilir.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HitTestBenchmark {
+
+    private static final int TOUCH_COUNT = 256;
+    private static final int VIEW_WIDTH = 1080;
+
+    @Param({"3", "5", "30"})
+    public int mItemCount;
+
+    @Param({"false", "true"})
+    public boolean mWeighted;
+
+    private MervNavGeometry mGeometry;
+    private final float[] mTouchX = new float[TOUCH_COUNT];
+
+    @Setup
+    public void setUp() {
+        mGeometry = new MervNavGeometry();
+        mGeometry.setDensity(2.75f);
+        mGeometry.setIconSizes(66f, 55f);
+        mGeometry.setItemCount(mItemCount);
+
+        // Sabit tohumlu ağırlıklar ve görünümün biraz dışına da taşan dokunuşlar
+        Random mRandom = new Random(42);
+        if (mWeighted) {
+            float[] mWeights = new float[mItemCount];
+            for (int mI = 0; mI < mItemCount; mI++) {
+                mWeights[mI] = 0.5f + mRandom.nextFloat() * 2f;
+            }
+            mGeometry.setItemWeights(mWeights, mItemCount);
+        }
+        mGeometry.setViewSize(VIEW_WIDTH, 330);
+        mGeometry.compute();
+
+        for (int mI = 0; mI < TOUCH_COUNT; mI++) {
+            mTouchX[mI] = mRandom.nextFloat() * (VIEW_WIDTH + 40f) - 20f;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TOUCH_COUNT)
+    public int indexAtX() {
+        int mSum = 0;
+        for (int mI = 0; mI < TOUCH_COUNT; mI++) {
+            mSum += mGeometry.indexAtX(mTouchX[mI]);
+        }
+        return mSum;
+    }
+}
@@ -0,0 +1,89 @@
+package com.merv.bottomnavigationview.benchmark;
+
+import com.merv.bottomnavigationview.library.Interpolar.MervBezierEasing;
+import com.merv.bottomnavigationview.library.Interpolar.MervEasing;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Her MervInterpolator tipinin tek bir kare için değerlendirilmesi.
+ * <p>
+ * Framework interpolatörleri düz JVM üzerinde çalışamadığından ölçülen kod MervEasing kopyasıdır;
+ * görünüm framework örneklerini kullanır. FAST_OUT_SLOW_IN burada PathInterpolator değil,
+ * örneklenmiş tablo yaklaşımıdır. CUSTOM, registerCubicBezier ile
+ * kaydedilen özel eğrilerin kullandığı arama tablosu yoludur.
+ * Sonuçlar tek bir değerlendirme başına verilir.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterpolatorBenchmark {
+
+    /**
+     * 120 Hz'de 500 ms'lik varsayılan geçişin kare sayısı.
+     */
+    private static final int FRAME_COUNT = 60;
+
+    @Param({
+            "LINEAR", "ACCELERATE", "DECELERATE", "ACCELERATE_DECELERATE", "OVERSHOOT",
+            "BOUNCE", "NONE", "ANTICIPATE", "ANTICIPATE_OVERSHOOT", "FAST_OUT_SLOW_IN", "CUSTOM"
+    })
+    public String mType;
+
+    private int mTypeValue;
+    private MervBezierEasing mCustom;
+    private final float[] mFractions = new float[FRAME_COUNT];
+
+    @Setup
+    public void setUp() {
+        switch (mType) {
+            case "LINEAR": mTypeValue = MervEasing.LINEAR; break;
+            case "ACCELERATE": mTypeValue = MervEasing.ACCELERATE; break;
+            case "DECELERATE": mTypeValue = MervEasing.DECELERATE; break;
+            case "ACCELERATE_DECELERATE": mTypeValue = MervEasing.ACCELERATE_DECELERATE; break;
+            case "OVERSHOOT": mTypeValue = MervEasing.OVERSHOOT; break;
+            case "BOUNCE": mTypeValue = MervEasing.BOUNCE; break;
+            case "NONE": mTypeValue = MervEasing.NONE; break;
+            case "ANTICIPATE": mTypeValue = MervEasing.ANTICIPATE; break;
+            case "ANTICIPATE_OVERSHOOT": mTypeValue = MervEasing.ANTICIPATE_OVERSHOOT; break;
+            case "FAST_OUT_SLOW_IN": mTypeValue = MervEasing.FAST_OUT_SLOW_IN; break;
+            default: mTypeValue = -1; break;
+        }
+        mCustom = MervBezierEasing.cubic(0.34f, 1.56f, 0.64f, 1f);
+        for (int mI = 0; mI < FRAME_COUNT; mI++) {
+            mFractions[mI] = mI / (float) (FRAME_COUNT - 1);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAME_COUNT)
+    public float evaluate() {
+        float mSum = 0f;
+        if (mTypeValue < 0) {
+            for (int mI = 0; mI < FRAME_COUNT; mI++) {
+                mSum += mCustom.getInterpolation(mFractions[mI]);
+            }
+        } else {
+            for (int mI = 0; mI < FRAME_COUNT; mI++) {
+                mSum += MervEasing.evaluate(mTypeValue, mFractions[mI]);
+            }
+        }
+        return mSum;
+    }
+}
@@ -0,0 +1,70 @@
+package com.merv.bottomnavigationview.benchmark;
+
+import com.merv.bottomnavigationview.library.Geometry.MervNavGeometry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Yerleşim ve çıkıntı (bump) geometrisi üretiminin maliyeti.
+ * <p>
+ * compute: her çağrıda genişlik değiştirilerek tam yeniden hesaplama zorlanır (onSizeChanged / döndürme).
+ * computeClean: girdiler değişmediğinde erken çıkış yolu (her onMeasure).
+ * writeBumpOutline: çıkıntı eğrisinin kontrol noktalarının yazılması (Path oluşturmanın saf kısmı).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NavGeometryBenchmark {
+
+    @Param({"3", "4", "5"})
+    public int mItemCount;
+
+    private MervNavGeometry mGeometry;
+    private final float[] mOutline = new float[MervNavGeometry.BUMP_OUTLINE_SIZE];
+    private boolean mToggle;
+
+    @Setup
+    public void setUp() {
+        mGeometry = new MervNavGeometry();
+        mGeometry.setDensity(2.75f);
+        mGeometry.setIconSizes(66f, 55f);
+        mGeometry.setText(33f, 22f, -30.6f);
+        mGeometry.setItemCount(mItemCount);
+        mGeometry.setViewSize(1080, 330);
+        mGeometry.compute();
+    }
+
+    @Benchmark
+    public boolean compute() {
+        mToggle = !mToggle;
+        mGeometry.setViewSize(mToggle ? 1080 : 2400, 330);
+        return mGeometry.compute();
+    }
+
+    @Benchmark
+    public boolean computeClean() {
+        mGeometry.setViewSize(mGeometry.getViewWidth(), 330);
+        return mGeometry.compute();
+    }
+
+    @Benchmark
+    public float[] writeBumpOutline() {
+        mGeometry.writeBumpOutline(mOutline);
+        return mOutline;
+    }
+}
@@ -0,0 +1,104 @@
+package com.merv.bottomnavigationview.benchmark;
+
+import com.merv.bottomnavigationview.library.Animation.MervSelectionTransition;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Seçim geçişinin durum güncellemeleri, 5 öğe yuvasının tüm sıralı çiftleri (5 x 4 = 20 geçiş) üzerinde.
+ * <p>
+ * applyFrame: tek bir karenin apply çağrısı (sonuç kare başına).
+ * fullTransition: dokunuşta start, 60 kare apply ve bitişte finish (sonuç geçiş başına).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectionTransitionBenchmark {
+
+    private static final int SLOT_COUNT = 5;
+    private static final int PAIR_COUNT = SLOT_COUNT * (SLOT_COUNT - 1);
+    private static final int FRAME_COUNT = 60;
+    private static final float VIEW_WIDTH = 1080f;
+    private static final float SELECTED_ICON_SIZE = 66f;
+    private static final float UNSELECTED_ICON_SIZE = 55f;
+    private static final float TEXT_ANIM_DISTANCE = 55f;
+
+    private final MervSelectionTransition mTransition = new MervSelectionTransition();
+    private final int[] mFrom = new int[PAIR_COUNT];
+    private final int[] mTo = new int[PAIR_COUNT];
+    private final float[] mCenterX = new float[SLOT_COUNT];
+    private final float[] mIconSizes = new float[SLOT_COUNT];
+    private final float[] mTextAlphas = new float[SLOT_COUNT];
+    private final float[] mTextOffsets = new float[SLOT_COUNT];
+    private final MervSelectionTransition[] mRunning = new MervSelectionTransition[PAIR_COUNT];
+
+    @Setup
+    public void setUp() {
+        float mSection = VIEW_WIDTH / SLOT_COUNT;
+        for (int mI = 0; mI < SLOT_COUNT; mI++) {
+            mCenterX[mI] = mSection * mI + mSection / 2f;
+        }
+        int mPair = 0;
+        for (int mFromIndex = 0; mFromIndex < SLOT_COUNT; mFromIndex++) {
+            for (int mToIndex = 0; mToIndex < SLOT_COUNT; mToIndex++) {
+                if (mFromIndex == mToIndex) continue;
+                mFrom[mPair] = mFromIndex;
+                mTo[mPair] = mToIndex;
+                mRunning[mPair] = new MervSelectionTransition();
+                Start(mRunning[mPair], mFromIndex, mToIndex);
+                mPair++;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIR_COUNT)
+    public float applyFrame() {
+        float mSum = 0f;
+        for (int mPair = 0; mPair < PAIR_COUNT; mPair++) {
+            mSum += mRunning[mPair].apply(0.37f, mIconSizes, mTextAlphas, mTextOffsets);
+        }
+        return mSum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIR_COUNT)
+    public float fullTransition() {
+        float mSum = 0f;
+        for (int mPair = 0; mPair < PAIR_COUNT; mPair++) {
+            Start(mTransition, mFrom[mPair], mTo[mPair]);
+            for (int mFrame = 1; mFrame <= FRAME_COUNT; mFrame++) {
+                mSum += mTransition.apply(mFrame / (float) FRAME_COUNT, mIconSizes, mTextAlphas, mTextOffsets);
+            }
+            mSum += mTransition.finish(mIconSizes, mTextAlphas, mTextOffsets);
+        }
+        return mSum;
+    }
+
+    private void Start(MervSelectionTransition mTarget, int mFromIndex, int mToIndex) {
+        mTarget.start(
+                mFromIndex,
+                mToIndex,
+                mCenterX[mFromIndex],
+                mCenterX[mToIndex],
+                SELECTED_ICON_SIZE,
+                UNSELECTED_ICON_SIZE,
+                TEXT_ANIM_DISTANCE
+        );
+    }
+}
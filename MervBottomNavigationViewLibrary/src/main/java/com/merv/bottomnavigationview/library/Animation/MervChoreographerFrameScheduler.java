@@ -0,0 +1,77 @@
+package com.merv.bottomnavigationview.library.Animation;
+
+import android.animation.ValueAnimator;
+import android.view.Choreographer;
+
+import java.util.Arrays;
+
+/**
+ * Choreographer'a bağlı varsayılan zamanlayıcı.
+ * <p>
+ * Bekleyen tüm geri çağırımlar tek bir Choreographer.FrameCallback üzerinden dağıtılır;
+ * kare başına nesne oluşturulmaz. Süre çarpanı sistemin animatör ölçeğidir
+ * (Geliştirici seçenekleri → Animatör süre ölçeği, ValueAnimator.getDurationScale()).
+ * <p>
+ * Oluşturulduğu (Looper sahibi) iş parçacığından kullanılmalıdır.
+ */
+public class MervChoreographerFrameScheduler implements MervFrameScheduler, Choreographer.FrameCallback {
+
+    private final Choreographer mChoreographer = Choreographer.getInstance();
+    private FrameCallback[] mPending = new FrameCallback[2];
+    private FrameCallback[] mDispatching = new FrameCallback[2];
+    private int mPendingCount;
+    private boolean mScheduled;
+
+    @Override
+    public void postFrameCallback(FrameCallback mCallback) {
+        for (int mI = 0; mI < mPendingCount; mI++) {
+            if (mPending[mI] == mCallback) return;
+        }
+        if (mPendingCount == mPending.length) {
+            mPending = Arrays.copyOf(mPending, mPendingCount * 2);
+        }
+        mPending[mPendingCount++] = mCallback;
+        if (!mScheduled) {
+            mScheduled = true;
+            mChoreographer.postFrameCallback(this);
+        }
+    }
+
+    @Override
+    public void removeFrameCallback(FrameCallback mCallback) {
+        for (int mI = 0; mI < mPendingCount; mI++) {
+            if (mPending[mI] == mCallback) {
+                System.arraycopy(mPending, mI + 1, mPending, mI, mPendingCount - mI - 1);
+                mPending[--mPendingCount] = null;
+                break;
+            }
+        }
+        if (mPendingCount == 0 && mScheduled) {
+            mScheduled = false;
+            mChoreographer.removeFrameCallback(this);
+        }
+    }
+
+    @Override
+    public float getDurationScale() {
+        return ValueAnimator.getDurationScale();
+    }
+
+    @Override
+    public void doFrame(long mFrameTimeNanos) {
+        mScheduled = false;
+        int mCount = mPendingCount;
+        if (mDispatching.length < mCount) {
+            mDispatching = new FrameCallback[mPending.length];
+        }
+        System.arraycopy(mPending, 0, mDispatching, 0, mCount);
+        Arrays.fill(mPending, 0, mCount, null);
+        mPendingCount = 0;
+
+        for (int mI = 0; mI < mCount; mI++) {
+            FrameCallback mCallback = mDispatching[mI];
+            mDispatching[mI] = null;
+            mCallback.doFrame(mFrameTimeNanos);
+        }
+    }
+}
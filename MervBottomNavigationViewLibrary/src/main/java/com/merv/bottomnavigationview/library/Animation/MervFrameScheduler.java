@@ -0,0 +1,44 @@
+package com.merv.bottomnavigationview.library.Animation;
+
+/**
+ * Animasyon karelerinin zaman kaynağı ve zamanlayıcısı.
+ * <p>
+ * Varsayılan uygulama (MervChoreographerFrameScheduler) gerçek ekran karelerine bağlıdır.
+ * Testler ve benchmark'lar MervManualFrameScheduler ile zamanı elle ilerletip
+ * geçişleri tam istenen kesirlerde durdurabilir.
+ */
+public interface MervFrameScheduler {
+
+    /**
+     * Bir sonraki karede çağrılacak geri çağırım.
+     */
+    interface FrameCallback {
+
+        /**
+         * @param mFrameTimeNanos Karenin zamanı (nanosaniye, monoton saat)
+         */
+        void doFrame(long mFrameTimeNanos);
+    }
+
+    /**
+     * Geri çağırımı bir sonraki kare için bir kez çalışacak şekilde kaydeder.
+     * Zaten bekleyen bir geri çağırım tekrar eklenmez.
+     *
+     * @param mCallback Kare geri çağırımı
+     */
+    void postFrameCallback(FrameCallback mCallback);
+
+    /**
+     * Bekleyen geri çağırımı kaldırır; bekleyen yoksa hiçbir şey yapmaz.
+     *
+     * @param mCallback Kare geri çağırımı
+     */
+    void removeFrameCallback(FrameCallback mCallback);
+
+    /**
+     * Animasyon sürelerine uygulanacak çarpan. 0 ise animasyonlar anında biter.
+     *
+     * @return Süre çarpanı
+     */
+    float getDurationScale();
+}
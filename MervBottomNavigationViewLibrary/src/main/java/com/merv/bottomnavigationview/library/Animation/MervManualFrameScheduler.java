@@ -0,0 +1,98 @@
+package com.merv.bottomnavigationview.library.Animation;
+
+import java.util.Arrays;
+
+/**
+ * Zamanı yalnızca advanceBy(long) çağrıldığında ilerleyen, testler ve benchmark'lar için zamanlayıcı.
+ * <p>
+ * Her advanceBy çağrısı tek bir kare üretir: saat verilen milisaniye kadar ilerletilir ve o ana kadar
+ * kaydedilmiş tüm geri çağırımlar yeni kare zamanıyla bir kez çalıştırılır. Geri çağırım sırasında
+ * yeniden kaydolanlar bir sonraki kareyi bekler. Süre çarpanı varsayılan olarak 1'dir.
+ * <p>
+ * Android bağımlılığı yoktur; tek iş parçacığından kullanılmalıdır.
+ */
+public class MervManualFrameScheduler implements MervFrameScheduler {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private FrameCallback[] mPending = new FrameCallback[2];
+    private FrameCallback[] mDispatching = new FrameCallback[2];
+    private int mPendingCount;
+    private long mFrameTimeNanos;
+    private float mDurationScale = 1f;
+
+    @Override
+    public void postFrameCallback(FrameCallback mCallback) {
+        for (int mI = 0; mI < mPendingCount; mI++) {
+            if (mPending[mI] == mCallback) return;
+        }
+        if (mPendingCount == mPending.length) {
+            mPending = Arrays.copyOf(mPending, mPendingCount * 2);
+        }
+        mPending[mPendingCount++] = mCallback;
+    }
+
+    @Override
+    public void removeFrameCallback(FrameCallback mCallback) {
+        for (int mI = 0; mI < mPendingCount; mI++) {
+            if (mPending[mI] == mCallback) {
+                System.arraycopy(mPending, mI + 1, mPending, mI, mPendingCount - mI - 1);
+                mPending[--mPendingCount] = null;
+                return;
+            }
+        }
+    }
+
+    @Override
+    public float getDurationScale() {
+        return mDurationScale;
+    }
+
+    /**
+     * @param mDurationScale Süre çarpanı (0 veya üstü)
+     */
+    public void setDurationScale(float mDurationScale) {
+        this.mDurationScale = Math.max(0f, mDurationScale);
+    }
+
+    /**
+     * Saati ilerletir ve bekleyen geri çağırımları tek bir kare olarak çalıştırır.
+     * advanceBy(0), saati ilerletmeden bir kare üretir (ör. geçişin ilk, kesir 0 karesi).
+     *
+     * @param mMillis İlerleme miktarı (milisaniye, 0 veya üstü)
+     */
+    public void advanceBy(long mMillis) {
+        if (mMillis < 0) {
+            throw new IllegalArgumentException("Zaman geri alınamaz: " + mMillis);
+        }
+        mFrameTimeNanos += mMillis * NANOS_PER_MILLI;
+
+        int mCount = mPendingCount;
+        if (mDispatching.length < mCount) {
+            mDispatching = new FrameCallback[mPending.length];
+        }
+        System.arraycopy(mPending, 0, mDispatching, 0, mCount);
+        Arrays.fill(mPending, 0, mCount, null);
+        mPendingCount = 0;
+
+        for (int mI = 0; mI < mCount; mI++) {
+            FrameCallback mCallback = mDispatching[mI];
+            mDispatching[mI] = null;
+            mCallback.doFrame(mFrameTimeNanos);
+        }
+    }
+
+    /**
+     * @return Geçerli kare zamanı (nanosaniye)
+     */
+    public long getFrameTimeNanos() {
+        return mFrameTimeNanos;
+    }
+
+    /**
+     * @return Bir sonraki karede çalışacak geri çağırım sayısı
+     */
+    public int getPendingCount() {
+        return mPendingCount;
+    }
+}
@@ -0,0 +1,160 @@
+package com.merv.bottomnavigationview.library.Animation;
+
+/**
+ * Seçim geçişinin (bir öğeden diğerine) tüm animasyonlu değerlerini tek bir kesirden hesaplayan motor.
+ * <p>
+ * Daire merkezinin X konumu, eski ve yeni ikonun boyutu, eski ve yeni metnin saydamlığı ve offset'i
+ * aynı interpolasyonlu kesirden türetilir ve görünümün mevcut ilkel dizilerine doğrudan yazılır.
+ * Nesne görünüm başına bir kez oluşturulur ve her dokunuşta yeniden kullanılır;
+ * ne geçiş başlatılırken ne de kare başına herhangi bir bellek ayrılır.
+ * <p>
+ * Android bağımlılığı yoktur, düz JVM üzerinde de çalıştırılabilir.
+ */
+public class MervSelectionTransition {
+
+    private int mFromIndex = -1;
+    private int mToIndex = -1;
+    private float mStartCenterX;
+    private float mEndCenterX;
+    private float mSelectedIconSize;
+    private float mUnselectedIconSize;
+    private float mTextAnimDistance;
+    private float mCurrentCenterX;
+
+    /**
+     * Yeni bir geçiş için başlangıç ve bitiş değerlerini hazırlar.
+     *
+     * @param mFromIndex          Önceki seçili öğenin indeksi
+     * @param mToIndex            Yeni seçili öğenin indeksi
+     * @param mStartCenterX       Dairenin başlangıç X koordinatı
+     * @param mEndCenterX         Dairenin bitiş X koordinatı
+     * @param mSelectedIconSize   Seçili ikon boyutu (piksel)
+     * @param mUnselectedIconSize Seçilmeyen ikon boyutu (piksel)
+     * @param mTextAnimDistance   Metnin animasyon boyunca kaydığı mesafe (piksel)
+     */
+    public void start(
+            int mFromIndex,
+            int mToIndex,
+            float mStartCenterX,
+            float mEndCenterX,
+            float mSelectedIconSize,
+            float mUnselectedIconSize,
+            float mTextAnimDistance
+    ) {
+        this.mFromIndex = mFromIndex;
+        this.mToIndex = mToIndex;
+        this.mStartCenterX = mStartCenterX;
+        this.mEndCenterX = mEndCenterX;
+        this.mSelectedIconSize = mSelectedIconSize;
+        this.mUnselectedIconSize = mUnselectedIconSize;
+        this.mTextAnimDistance = mTextAnimDistance;
+        this.mCurrentCenterX = mStartCenterX;
+    }
+
+    /**
+     * Verilen (interpolatörden geçmiş) kesire göre tüm değerleri hesaplar ve dizilere yazar.
+     * <p>
+     * Kesir, OVERSHOOT gibi interpolatörlerde [0, 1] aralığının dışına çıkabilir;
+     * değerler buna göre doğrusal olarak uzatılır.
+     *
+     * @param mFraction   İnterpolasyonlu kesir
+     * @param mIconSizes  Öğelerin ikon boyutlarını tutan dizi
+     * @param mTextAlphas Öğelerin metin saydamlıklarını tutan dizi
+     * @param mTextOffsets Öğelerin metin offset'lerini tutan dizi
+     * @return Dairenin bu karedeki merkez X koordinatı
+     */
+    public float apply(float mFraction, float[] mIconSizes, float[] mTextAlphas, float[] mTextOffsets) {
+        if (mToIndex < 0) return mCurrentCenterX;
+
+        mCurrentCenterX = Lerp(mStartCenterX, mEndCenterX, mFraction);
+
+        if (mFromIndex >= 0) {
+            mIconSizes[mFromIndex] = Lerp(mSelectedIconSize, mUnselectedIconSize, mFraction);
+            mTextAlphas[mFromIndex] = 1f - mFraction;
+            mTextOffsets[mFromIndex] = mTextAnimDistance * mFraction;
+        }
+
+        mIconSizes[mToIndex] = Lerp(mUnselectedIconSize, mSelectedIconSize, mFraction);
+        mTextAlphas[mToIndex] = mFraction;
+        mTextOffsets[mToIndex] = mTextAnimDistance * (1f - mFraction);
+
+        return mCurrentCenterX;
+    }
+
+    /**
+     * Geçişi bitmiş hale getirir: yeni seçili öğe kesin seçili değerlerine oturtulur.
+     *
+     * @param mIconSizes   Öğelerin ikon boyutlarını tutan dizi
+     * @param mTextAlphas  Öğelerin metin saydamlıklarını tutan dizi
+     * @param mTextOffsets Öğelerin metin offset'lerini tutan dizi
+     * @return Dairenin bitiş X koordinatı
+     */
+    public float finish(float[] mIconSizes, float[] mTextAlphas, float[] mTextOffsets) {
+        if (mToIndex < 0) return mCurrentCenterX;
+
+        if (mFromIndex >= 0 && mFromIndex != mToIndex) {
+            mIconSizes[mFromIndex] = mUnselectedIconSize;
+            mTextAlphas[mFromIndex] = 0f;
+            mTextOffsets[mFromIndex] = mTextAnimDistance;
+        }
+        mIconSizes[mToIndex] = mSelectedIconSize;
+        mTextAlphas[mToIndex] = 1f;
+        mTextOffsets[mToIndex] = 0f;
+
+        mCurrentCenterX = mEndCenterX;
+        return mCurrentCenterX;
+    }
+
+    /**
+     * Süren geçişin bitiş X'ini değiştirir (ör. öğe geometrisi geçiş sırasında değiştiğinde).
+     * Sonraki kareler ve finish dairenin yeni hedefine göre hesaplanır.
+     *
+     * @param mEndCenterX Dairenin yeni bitiş X koordinatı
+     */
+    public void setEndCenterX(float mEndCenterX) {
+        this.mEndCenterX = mEndCenterX;
+    }
+
+    /**
+     * Süren geçişin ikon boyutlarını günceller; sonraki kareler ve finish yeni boyutlara göre hesaplanır.
+     *
+     * @param mSelectedIconSize   Seçili ikon boyutu (piksel)
+     * @param mUnselectedIconSize Seçilmeyen ikon boyutu (piksel)
+     */
+    public void setIconSizes(float mSelectedIconSize, float mUnselectedIconSize) {
+        this.mSelectedIconSize = mSelectedIconSize;
+        this.mUnselectedIconSize = mUnselectedIconSize;
+    }
+
+    /**
+     * @return Önceki seçili öğenin indeksi, geçiş yoksa -1
+     */
+    public int getFromIndex() {
+        return mFromIndex;
+    }
+
+    /**
+     * @return Yeni seçili öğenin indeksi, geçiş yoksa -1
+     */
+    public int getToIndex() {
+        return mToIndex;
+    }
+
+    /**
+     * @return Dairenin başlangıç X koordinatı
+     */
+    public float getStartCenterX() {
+        return mStartCenterX;
+    }
+
+    /**
+     * @return Dairenin bitiş X koordinatı
+     */
+    public float getEndCenterX() {
+        return mEndCenterX;
+    }
+
+    private static float Lerp(float mStart, float mEnd, float mFraction) {
+        return mStart + (mEnd - mStart) * mFraction;
+    }
+}
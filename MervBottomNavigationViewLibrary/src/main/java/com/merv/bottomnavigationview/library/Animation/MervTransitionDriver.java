@@ -0,0 +1,139 @@
+package com.merv.bottomnavigationview.library.Animation;
+
+/**
+ * Seçim geçişini bir MervFrameScheduler üzerinden süren, ValueAnimator yerine kullanılan zamanlayıcı.
+ * <p>
+ * Başlangıç zamanı ilk karenin zamanıdır (ValueAnimator ile aynı): ilk karede kesir 0'dır ve
+ * sonraki her karede kesir (kare zamanı - başlangıç) / (süre * süre çarpanı) olarak hesaplanır.
+ * Kesir doğrusaldır; interpolatör dinleyici tarafından uygulanır.
+ * Süre veya süre çarpanı 0 ise geçiş start() içinde kesir 1 ile hemen biter.
+ * <p>
+ * Nesne görünüm başına bir kez oluşturulur ve her geçişte yeniden kullanılır; kare başına bellek ayırmaz.
+ * Android bağımlılığı yoktur.
+ */
+public class MervTransitionDriver implements MervFrameScheduler.FrameCallback {
+
+    /**
+     * Geçiş olaylarını alan dinleyici.
+     */
+    public interface Listener {
+
+        /**
+         * @param mLinearFraction Geçen sürenin oranı (0..1, interpolatörsüz)
+         */
+        void onTransitionFrame(float mLinearFraction);
+
+        /**
+         * @param mCanceled Geçiş cancel() ile kesildiyse true
+         */
+        void onTransitionEnd(boolean mCanceled);
+    }
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final Listener mListener;
+    private MervFrameScheduler mScheduler;
+    private long mDurationMs;
+    private long mScaledDurationNanos;
+    private long mStartTimeNanos;
+    private boolean mStarted;
+    private boolean mRunning;
+
+    public MervTransitionDriver(MervFrameScheduler mScheduler, Listener mListener) {
+        if (mScheduler == null || mListener == null) {
+            throw new IllegalArgumentException("Zamanlayıcı ve dinleyici null olamaz.");
+        }
+        this.mScheduler = mScheduler;
+        this.mListener = mListener;
+    }
+
+    /**
+     * Zamanlayıcıyı değiştirir. Devam eden geçiş yeni zamanlayıcının karelerinde sürer.
+     *
+     * @param mScheduler Yeni zamanlayıcı
+     */
+    public void setScheduler(MervFrameScheduler mScheduler) {
+        if (mScheduler == null) {
+            throw new IllegalArgumentException("Zamanlayıcı null olamaz.");
+        }
+        if (this.mScheduler == mScheduler) return;
+        if (mRunning) {
+            this.mScheduler.removeFrameCallback(this);
+            mScheduler.postFrameCallback(this);
+        }
+        this.mScheduler = mScheduler;
+    }
+
+    public MervFrameScheduler getScheduler() {
+        return mScheduler;
+    }
+
+    /**
+     * @param mDurationMs Geçiş süresi (milisaniye); bir sonraki start() ile geçerli olur
+     */
+    public void setDuration(long mDurationMs) {
+        this.mDurationMs = Math.max(0L, mDurationMs);
+    }
+
+    /**
+     * Geçişi başlatır. Devam eden bir geçiş varsa önce cancel() ile kesilir.
+     */
+    public void start() {
+        cancel();
+        mScaledDurationNanos = (long) (mDurationMs * NANOS_PER_MILLI * (double) mScheduler.getDurationScale());
+        mRunning = true;
+        mStarted = false;
+        if (mScaledDurationNanos <= 0L) {
+            Finish();
+            return;
+        }
+        mScheduler.postFrameCallback(this);
+    }
+
+    /**
+     * Devam eden geçişi olduğu yerde keser; dinleyiciye iptal bildirilir.
+     */
+    public void cancel() {
+        if (!mRunning) return;
+        mRunning = false;
+        mScheduler.removeFrameCallback(this);
+        mListener.onTransitionEnd(true);
+    }
+
+    /**
+     * Devam eden geçişi kesir 1 ile hemen bitirir.
+     */
+    public void end() {
+        if (!mRunning) return;
+        mScheduler.removeFrameCallback(this);
+        Finish();
+    }
+
+    public boolean isRunning() {
+        return mRunning;
+    }
+
+    @Override
+    public void doFrame(long mFrameTimeNanos) {
+        if (!mRunning) return;
+        if (!mStarted) {
+            mStarted = true;
+            mStartTimeNanos = mFrameTimeNanos;
+        }
+        long mElapsed = mFrameTimeNanos - mStartTimeNanos;
+        if (mElapsed >= mScaledDurationNanos) {
+            Finish();
+            return;
+        }
+        mListener.onTransitionFrame(mElapsed <= 0L ? 0f : mElapsed / (float) mScaledDurationNanos);
+        if (mRunning) {
+            mScheduler.postFrameCallback(this);
+        }
+    }
+
+    private void Finish() {
+        mListener.onTransitionFrame(1f);
+        mRunning = false;
+        mListener.onTransitionEnd(false);
+    }
+}
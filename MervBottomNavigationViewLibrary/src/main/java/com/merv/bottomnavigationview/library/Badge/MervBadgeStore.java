@@ -0,0 +1,218 @@
+package com.merv.bottomnavigationview.library.Badge;
+
+import java.util.Arrays;
+
+/**
+ * Öğe rozetlerinin (badge) herhangi bir iş parçacığından yazılabilen, birleştirici (coalescing) deposu.
+ * <p>
+ * Yazan taraf (ör. soket iş parçacığı) set / setMaxCount çağırır; değer yalnızca depoya yazılır ve
+ * kirli (dirty) olarak işaretlenir. Son boşaltmadan (drain) bu yana ilk değişiklikte çağrı true döner;
+ * çağıran taraf yalnızca o zaman UI iş parçacığında bir boşaltma planlar. Bir kare içinde gelen yüzlerce
+ * güncelleme böylece tek bir boşaltmada, her öğenin yalnızca son değeriyle uygulanır.
+ * <p>
+ * Android bağımlılığı yoktur. drain UI iş parçacığından çağrılmalıdır.
+ */
+public final class MervBadgeStore {
+
+    /**
+     * Rozet yok.
+     */
+    public static final int BADGE_NONE = 0;
+
+    /**
+     * Sayı olmadan yalnızca nokta gösteren rozet.
+     */
+    public static final int BADGE_DOT = -1;
+
+    /**
+     * Varsayılan en büyük gösterilen sayı; üstü "99+" olarak gösterilir.
+     */
+    public static final int DEFAULT_MAX_COUNT = 99;
+
+    /**
+     * İzin verilen en büyük sayı sınırı ("9999+").
+     */
+    public static final int MAX_COUNT_LIMIT = 9999;
+
+    private static final int INITIAL_CAPACITY = 5;
+
+    /**
+     * UI iş parçacığında boşaltılan değişiklikleri alan hedef.
+     */
+    public interface Sink {
+
+        /**
+         * @param mIndex Değişen öğenin indeksi
+         * @param mValue Öğenin son rozet değeri (BADGE_NONE, BADGE_DOT veya sayı)
+         */
+        void onBadgeChanged(int mIndex, int mValue);
+
+        /**
+         * @param mMaxCount Yeni sayı sınırı
+         */
+        void onMaxCountChanged(int mMaxCount);
+    }
+
+    private final Object mLock = new Object();
+    private int[] mValues = new int[INITIAL_CAPACITY];
+    private boolean[] mDirty = new boolean[INITIAL_CAPACITY];
+    private int[] mDirtyIndices = new int[INITIAL_CAPACITY];
+    private int mDirtyCount;
+    private int mMaxCount = DEFAULT_MAX_COUNT;
+    private boolean mMaxCountDirty;
+    private boolean mDrainPending;
+
+    /**
+     * Yalnızca boşaltan (UI) iş parçacığının kullandığı kopya dizileri; hedef, kilit bırakıldıktan sonra
+     * bunlardan beslenir.
+     */
+    private int[] mDrainIndices = new int[INITIAL_CAPACITY];
+    private int[] mDrainValues = new int[INITIAL_CAPACITY];
+
+    /**
+     * Öğenin rozet değerini yazar. Herhangi bir iş parçacığından çağrılabilir.
+     *
+     * @param mIndex Öğe indeksi (0 tabanlı); henüz var olmayan öğeler için de yazılabilir
+     * @param mValue BADGE_NONE, BADGE_DOT veya pozitif sayı
+     * @return Çağıranın bir boşaltma planlaması gerekiyorsa true
+     * @throws IllegalArgumentException İndeks negatifse veya değer BADGE_DOT'tan küçükse
+     */
+    public boolean set(int mIndex, int mValue) {
+        if (mIndex < 0) {
+            throw new IllegalArgumentException("Rozet indeksi negatif olamaz: " + mIndex);
+        }
+        if (mValue < BADGE_DOT) {
+            throw new IllegalArgumentException("Geçersiz rozet değeri: " + mValue);
+        }
+        synchronized (mLock) {
+            if (mIndex >= mValues.length) {
+                if (mValue == BADGE_NONE) return false;
+                EnsureCapacity(mIndex + 1);
+            }
+            if (mValues[mIndex] == mValue) return false;
+            mValues[mIndex] = mValue;
+            if (!mDirty[mIndex]) {
+                mDirty[mIndex] = true;
+                mDirtyIndices[mDirtyCount++] = mIndex;
+            }
+            return SchedulePending();
+        }
+    }
+
+    /**
+     * Gösterilecek en büyük sayıyı yazar. Herhangi bir iş parçacığından çağrılabilir.
+     *
+     * @param mMaxCount 1 ile MAX_COUNT_LIMIT arasında sınır
+     * @return Çağıranın bir boşaltma planlaması gerekiyorsa true
+     * @throws IllegalArgumentException Sınır aralık dışındaysa
+     */
+    public boolean setMaxCount(int mMaxCount) {
+        if (mMaxCount < 1 || mMaxCount > MAX_COUNT_LIMIT) {
+            throw new IllegalArgumentException("Rozet sayı sınırı 1 ile " + MAX_COUNT_LIMIT + " arasında olmalıdır: " + mMaxCount);
+        }
+        synchronized (mLock) {
+            if (this.mMaxCount == mMaxCount) return false;
+            this.mMaxCount = mMaxCount;
+            mMaxCountDirty = true;
+            return SchedulePending();
+        }
+    }
+
+    /**
+     * Tüm rozetleri kaldırır. Herhangi bir iş parçacığından çağrılabilir.
+     *
+     * @return Çağıranın bir boşaltma planlaması gerekiyorsa true
+     */
+    public boolean clear() {
+        synchronized (mLock) {
+            boolean mChanged = false;
+            for (int mI = 0; mI < mValues.length; mI++) {
+                if (mValues[mI] == BADGE_NONE) continue;
+                mValues[mI] = BADGE_NONE;
+                if (!mDirty[mI]) {
+                    mDirty[mI] = true;
+                    mDirtyIndices[mDirtyCount++] = mI;
+                }
+                mChanged = true;
+            }
+            return mChanged && SchedulePending();
+        }
+    }
+
+    /**
+     * @param mIndex Öğe indeksi
+     * @return Öğenin en son yazılmış rozet değeri (henüz çizilmemiş olabilir)
+     */
+    public int get(int mIndex) {
+        synchronized (mLock) {
+            return mIndex >= 0 && mIndex < mValues.length ? mValues[mIndex] : BADGE_NONE;
+        }
+    }
+
+    /**
+     * @return En son yazılmış sayı sınırı
+     */
+    public int getMaxCount() {
+        synchronized (mLock) {
+            return mMaxCount;
+        }
+    }
+
+    /**
+     * Son boşaltmadan bu yana değişen her öğeyi, yalnızca son değeriyle bir kez hedefe bildirir.
+     * <p>
+     * Kilit altında yalnızca kirli öğeler kopya dizilerine alınır ve işaretler temizlenir; hedef, kilit
+     * bırakıldıktan sonra çağrılır. Böylece hedefteki çizim işi sürerken yazan iş parçacıkları beklemez.
+     * Kararlı durumda bellek ayırmaz. UI iş parçacığından (her zaman aynı iş parçacığından) çağrılmalıdır.
+     *
+     * @param mSink Değişiklikleri alacak hedef
+     */
+    public void drain(Sink mSink) {
+        int mCount;
+        int mMaxCountValue = 0;
+        boolean mMaxCountChanged;
+        synchronized (mLock) {
+            mDrainPending = false;
+            mMaxCountChanged = mMaxCountDirty;
+            if (mMaxCountDirty) {
+                mMaxCountDirty = false;
+                mMaxCountValue = mMaxCount;
+            }
+            mCount = mDirtyCount;
+            if (mCount > mDrainIndices.length) {
+                mDrainIndices = new int[mDirtyIndices.length];
+                mDrainValues = new int[mDirtyIndices.length];
+            }
+            for (int mI = 0; mI < mCount; mI++) {
+                int mIndex = mDirtyIndices[mI];
+                mDirty[mIndex] = false;
+                mDrainIndices[mI] = mIndex;
+                mDrainValues[mI] = mValues[mIndex];
+            }
+            mDirtyCount = 0;
+        }
+
+        if (mMaxCountChanged) {
+            mSink.onMaxCountChanged(mMaxCountValue);
+        }
+        for (int mI = 0; mI < mCount; mI++) {
+            mSink.onBadgeChanged(mDrainIndices[mI], mDrainValues[mI]);
+        }
+    }
+
+    /**
+     * Bir boşaltma zaten bekliyorsa false, yoksa bekliyor olarak işaretleyip true döndürür.
+     */
+    private boolean SchedulePending() {
+        if (mDrainPending) return false;
+        mDrainPending = true;
+        return true;
+    }
+
+    private void EnsureCapacity(int mCapacity) {
+        int mNewCapacity = Math.max(mCapacity, mValues.length * 2);
+        mValues = Arrays.copyOf(mValues, mNewCapacity);
+        mDirty = Arrays.copyOf(mDirty, mNewCapacity);
+        mDirtyIndices = Arrays.copyOf(mDirtyIndices, mNewCapacity);
+    }
+}
@@ -0,0 +1,543 @@
+package com.merv.bottomnavigationview.library.Geometry;
+
+import java.util.Arrays;
+
+/**
+ * Alt gezinme çubuğunun tüm yerleşim (layout) hesaplarını yapan, Android'den bağımsız geometri motoru.
+ * <p>
+ * Ekran yoğunluğu, görünüm boyutu, ikon/metin boyutları ve öğe sayısı girdi olarak verilir;
+ * compute() çağrıldığında daire yarıçapı, çıkıntı ölçüleri, çubuk konumu, ikon merkezleri,
+ * metin taban çizgisi ve her öğenin merkez X koordinatı bir kez hesaplanıp ilkel alanlara yazılır.
+ * Girdiler değişmedikçe compute() tekrar hesap yapmaz.
+ * <p>
+ * Öğe sayısı görünür öğe sınırını (setMaxVisibleItems) aşarsa çubuk taşma moduna geçer: her bölüm
+ * görünüm genişliğinin sınıra bölümü kadar olur ve öğeler görünümden geniş bir içerik şeridine
+ * dizilir. Tüm X koordinatları bu içerik koordinatlarındadır; kaydırma görünümün işidir.
+ * <p>
+ * Öğe ağırlıkları verilirse (setItemWeights) bölümler eşit değil, ağırlıklarla orantılı genişliktedir.
+ * Öğe kenarları compute() sırasında bir kez önek toplamı (prefix sum) dizisine yazılır; dokunmadan
+ * indekse ve görünür aralığa geçiş bu dizide ikili arama ile O(log n) sürede yapılır.
+ * <p>
+ * Görünüm (MervBottomNavigationView) yalnızca bu sonuçları okur; onDraw ve dokunma işlemlerinde
+ * yeniden hesaplama veya DisplayMetrics erişimi yapılmaz. Düz JVM üzerinde test edilebilir.
+ */
+public class MervNavGeometry {
+
+    /**
+     * Seçili ikon ile daire kenarı arasındaki boşluk (dp).
+     */
+    public static final float CIRCLE_PADDING_DP = 8f;
+
+    /**
+     * Çıkıntının daireden taşan ekstra yarıçapı (dp).
+     */
+    public static final float BUMP_EXTRA_DP = 4f;
+
+    /**
+     * Çıkıntının yarı genişliğinin, toplam yarıçapa oranı.
+     */
+    public static final float BUMP_WIDTH_FACTOR = 1.7f;
+
+    /**
+     * Çubuğun iç dikey boşluğu (dp).
+     */
+    public static final float BAR_PADDING_DP = 10f;
+
+    /**
+     * Çıkıntının üzerinde bırakılan boşluk (dp).
+     */
+    public static final float TOP_BAR_PADDING_DP = 12f;
+
+    /**
+     * Görünümün en az yüksekliği (dp).
+     */
+    public static final float MIN_HEIGHT_DP = 48f;
+
+    /**
+     * Seçili ikon ile metin arasındaki boşluk (dp).
+     */
+    public static final float TEXT_BELOW_ICON_DP = 4f;
+
+    /**
+     * Metnin geçiş animasyonunda kaydığı mesafe (dp).
+     */
+    public static final float TEXT_ANIM_DISTANCE_DP = 20f;
+
+    /**
+     * Çıkıntı kontrol noktalarının yarıçapa oranı.
+     */
+    public static final float BUMP_CONTROL_FACTOR = 0.95f;
+
+    /**
+     * writeBumpOutline(float[]) çıktısının uzunluğu: başlangıç noktası (2) + iki kübik parça (2 x 6).
+     */
+    public static final int BUMP_OUTLINE_SIZE = 14;
+
+    // Girdiler
+    private float mDensity = 1f;
+    private float mSelectedIconSize;
+    private float mUnselectedIconSize;
+    private float mTextSize;
+    private float mTextMarginTop;
+    private float mTextAscent;
+    private int mItemCount;
+    private int mMaxVisibleItems;
+    private float[] mItemWeights = new float[0];
+    private int mItemWeightCount;
+    private boolean mWeighted;
+    private int mViewWidth;
+    private int mViewHeight;
+    private boolean mDirty = true;
+    private boolean mUniform = true;
+
+    // Çıktılar
+    private int mDesiredHeight;
+    private float mCircleRadius;
+    private float mBumpRadius;
+    private float mBumpHalfWidth;
+    private float mBarTopY;
+    private float mBarHeight;
+    private float mCircleCenterY;
+    private float mUnselectedIconCenterY;
+    private float mTextBaselineY;
+    private float mTextAnimDistance;
+    private float mSectionWidth;
+    private float mContentWidth;
+    private float mMaxItemWidth;
+    private float[] mItemCenterX = new float[0];
+
+    /**
+     * Öğe kenarlarının önek toplamı: i. öğe [mItemEdges[i], mItemEdges[i + 1]) aralığını kaplar.
+     */
+    private float[] mItemEdges = new float[1];
+
+    /**
+     * Ekran yoğunluğunu ayarlar (DisplayMetrics.density).
+     *
+     * @param mDensity dp → px çarpanı
+     */
+    public void setDensity(float mDensity) {
+        if (this.mDensity == mDensity) return;
+        this.mDensity = mDensity;
+        mDirty = true;
+    }
+
+    /**
+     * Seçili ve seçilmeyen ikon boyutlarını ayarlar.
+     *
+     * @param mSelectedIconSize   Seçili ikon boyutu (piksel)
+     * @param mUnselectedIconSize Seçilmeyen ikon boyutu (piksel)
+     */
+    public void setIconSizes(float mSelectedIconSize, float mUnselectedIconSize) {
+        if (this.mSelectedIconSize == mSelectedIconSize
+                && this.mUnselectedIconSize == mUnselectedIconSize) {
+            return;
+        }
+        this.mSelectedIconSize = mSelectedIconSize;
+        this.mUnselectedIconSize = mUnselectedIconSize;
+        mDirty = true;
+    }
+
+    /**
+     * Metin ölçülerini ayarlar.
+     *
+     * @param mTextSize      Metin boyutu (piksel)
+     * @param mTextMarginTop Metnin üst boşluğu (piksel)
+     * @param mTextAscent    Yazı tipinin ascent değeri (Paint.ascent(), negatif)
+     */
+    public void setText(float mTextSize, float mTextMarginTop, float mTextAscent) {
+        if (this.mTextSize == mTextSize
+                && this.mTextMarginTop == mTextMarginTop
+                && this.mTextAscent == mTextAscent) {
+            return;
+        }
+        this.mTextSize = mTextSize;
+        this.mTextMarginTop = mTextMarginTop;
+        this.mTextAscent = mTextAscent;
+        mDirty = true;
+    }
+
+    /**
+     * Öğe sayısını ayarlar.
+     *
+     * @param mItemCount Menüdeki öğe sayısı
+     */
+    public void setItemCount(int mItemCount) {
+        if (this.mItemCount == mItemCount) return;
+        this.mItemCount = mItemCount;
+        mDirty = true;
+    }
+
+    /**
+     * Aynı anda görünen en fazla öğe sayısını ayarlar. Öğe sayısı bu sınırı aşarsa
+     * çubuk yatay kaydırılabilir taşma moduna geçer.
+     *
+     * @param mMaxVisibleItems Görünür öğe sınırı; 0 veya negatifse sınır yoktur (tüm öğeler sığdırılır)
+     */
+    public void setMaxVisibleItems(int mMaxVisibleItems) {
+        int mValue = Math.max(0, mMaxVisibleItems);
+        if (this.mMaxVisibleItems == mValue) return;
+        this.mMaxVisibleItems = mValue;
+        mDirty = true;
+    }
+
+    /**
+     * Öğe genişliklerini belirleyen ağırlıkları ayarlar. Her öğe, ağırlığının toplam ağırlığa oranı kadar
+     * içerik genişliği alır; içerik genişliği eşit bölümlerdekiyle aynı kalır. Ağırlığı verilmeyen
+     * öğelerin ağırlığı 1'dir.
+     *
+     * @param mWeights Ağırlıklar (0'dan büyük); null ise tüm öğeler eşit genişliktedir
+     * @param mCount   Dizideki geçerli ağırlık sayısı
+     */
+    public void setItemWeights(float[] mWeights, int mCount) {
+        if (mWeights == null) {
+            if (!mWeighted) return;
+            mWeighted = false;
+            mItemWeightCount = 0;
+            mDirty = true;
+            return;
+        }
+        if (mWeighted && mItemWeightCount == mCount) {
+            boolean mSame = true;
+            for (int mI = 0; mI < mCount; mI++) {
+                if (mItemWeights[mI] != mWeights[mI]) {
+                    mSame = false;
+                    break;
+                }
+            }
+            if (mSame) return;
+        }
+        if (mItemWeights.length < mCount) {
+            mItemWeights = new float[mCount];
+        }
+        System.arraycopy(mWeights, 0, mItemWeights, 0, mCount);
+        mItemWeightCount = mCount;
+        mWeighted = true;
+        mDirty = true;
+    }
+
+    /**
+     * Görünümün boyutunu ayarlar. Yükseklik hiçbir hesaplamayı etkilemediği için
+     * yalnızca genişlik değişimi yeniden hesaplama gerektirir.
+     *
+     * @param mViewWidth  Genişlik (piksel)
+     * @param mViewHeight Yükseklik (piksel)
+     */
+    public void setViewSize(int mViewWidth, int mViewHeight) {
+        this.mViewHeight = mViewHeight;
+        if (this.mViewWidth == mViewWidth) return;
+        this.mViewWidth = mViewWidth;
+        mDirty = true;
+    }
+
+    /**
+     * Girdiler son hesaplamadan bu yana değiştiyse tüm çıktıları yeniden hesaplar.
+     *
+     * @return Hesaplama yapıldıysa true, sonuçlar zaten güncelse false
+     */
+    public boolean compute() {
+        if (!mDirty) return false;
+        mDirty = false;
+
+        mCircleRadius = (mSelectedIconSize / 2f) + dp(CIRCLE_PADDING_DP);
+        mBumpRadius = mCircleRadius + dp(BUMP_EXTRA_DP);
+        mBumpHalfWidth = mBumpRadius * BUMP_WIDTH_FACTOR;
+
+        float mMaxIconSize = Math.max(mSelectedIconSize, mUnselectedIconSize);
+        mBarHeight = mMaxIconSize + mTextMarginTop + mTextSize + dp(BAR_PADDING_DP);
+
+        float mTopBarPadding = dp(TOP_BAR_PADDING_DP);
+        int mRawDesiredHeight = (int) Math.ceil(mBumpRadius + mBarHeight + mTopBarPadding);
+        mDesiredHeight = Math.max(mRawDesiredHeight, (int) dp(MIN_HEIGHT_DP));
+
+        mBarTopY = mBumpRadius + mTopBarPadding;
+        mCircleCenterY = mBarTopY;
+        mUnselectedIconCenterY = mBarTopY + mBarHeight / 2f;
+        mTextBaselineY = mBarTopY + mSelectedIconSize + dp(TEXT_BELOW_ICON_DP) - mTextAscent;
+        mTextAnimDistance = dp(TEXT_ANIM_DISTANCE_DP);
+
+        if (mItemCenterX.length < mItemCount) {
+            mItemCenterX = Arrays.copyOf(mItemCenterX, mItemCount);
+        }
+        if (mItemEdges.length < mItemCount + 1) {
+            mItemEdges = Arrays.copyOf(mItemEdges, mItemCount + 1);
+        }
+        int mVisibleSlots = isScrollable() ? mMaxVisibleItems : mItemCount;
+        mSectionWidth = mVisibleSlots > 0 ? mViewWidth / (float) mVisibleSlots : 0f;
+        mContentWidth = isScrollable() ? mSectionWidth * mItemCount : mViewWidth;
+
+        float mWeightSum = 0f;
+        if (mWeighted) {
+            for (int mI = 0; mI < mItemCount; mI++) {
+                mWeightSum += WeightAt(mI);
+            }
+        }
+        boolean mUseWeights = mWeighted && mWeightSum > 0f;
+        float mWidthPerWeight = mUseWeights ? mContentWidth / mWeightSum : 0f;
+
+        mMaxItemWidth = 0f;
+        mItemEdges[0] = 0f;
+        for (int mI = 0; mI < mItemCount; mI++) {
+            float mWidth;
+            if (mUseWeights) {
+                mWidth = WeightAt(mI) * mWidthPerWeight;
+                mItemEdges[mI + 1] = mItemEdges[mI] + mWidth;
+            } else {
+                mWidth = mSectionWidth;
+                mItemEdges[mI + 1] = mSectionWidth * (mI + 1);
+            }
+            mItemCenterX[mI] = mItemEdges[mI] + mWidth / 2f;
+            mMaxItemWidth = Math.max(mMaxItemWidth, mWidth);
+        }
+        if (mItemCount > 0) {
+            // Kayan nokta toplamı son kenarı kaydırmasın: son öğe içeriğin sonuna kadar uzanır
+            mItemEdges[mItemCount] = mContentWidth;
+        }
+        mUniform = !mUseWeights;
+        return true;
+    }
+
+    private float WeightAt(int mIndex) {
+        return mIndex < mItemWeightCount ? mItemWeights[mIndex] : 1f;
+    }
+
+    /**
+     * Kenarı mX'ten küçük (mInclusive ise küçük veya eşit) olan son öğeyi ikili aramayla bulur.
+     *
+     * @return Öğe indeksi; hiçbir öğe koşulu sağlamıyorsa 0
+     */
+    private int LastItemStartingBefore(float mX, boolean mInclusive) {
+        int mLow = 0;
+        int mHigh = mItemCount - 1;
+        while (mLow < mHigh) {
+            int mMid = (mLow + mHigh + 1) >>> 1;
+            float mEdge = mItemEdges[mMid];
+            if (mEdge < mX || (mInclusive && mEdge == mX)) {
+                mLow = mMid;
+            } else {
+                mHigh = mMid - 1;
+            }
+        }
+        return mLow;
+    }
+
+    /**
+     * Verilen X koordinatına denk gelen öğenin indeksini döndürür.
+     *
+     * @param mX İçerik koordinatlarında X (görünüm X'i + kaydırma)
+     * @return Öğe indeksi; öğe yoksa veya X görünümün dışındaysa -1
+     */
+    public int indexAtX(float mX) {
+        if (mItemCount <= 0 || mSectionWidth <= 0f || mX < 0f) return -1;
+        if (mUniform) {
+            int mIndex = (int) (mX / mSectionWidth);
+            return mIndex < mItemCount ? mIndex : -1;
+        }
+        if (mX >= mItemEdges[mItemCount]) return -1;
+        return LastItemStartingBefore(mX, true);
+    }
+
+    /**
+     * İçerik koordinatlarında [mLeftX, mRightX) aralığına değen ilk öğenin indeksini döndürür.
+     * Çizimde yalnızca görünür öğeleri dolaşmak için visibleEndIndex ile birlikte kullanılır.
+     *
+     * @param mLeftX Aralığın sol kenarı (içerik koordinatları)
+     * @return İlk görünür öğe; öğe yoksa -1
+     */
+    public int visibleStartIndex(float mLeftX) {
+        if (mItemCount <= 0 || mSectionWidth <= 0f) return -1;
+        if (mUniform) {
+            int mIndex = (int) (Math.max(0f, mLeftX) / mSectionWidth);
+            return Math.min(mIndex, mItemCount - 1);
+        }
+        return LastItemStartingBefore(mLeftX, true);
+    }
+
+    /**
+     * İçerik koordinatlarında [mLeftX, mRightX) aralığına değen son öğenin indeksini döndürür.
+     *
+     * @param mRightX Aralığın sağ kenarı, hariç (içerik koordinatları)
+     * @return Son görünür öğe; öğe yoksa -1
+     */
+    public int visibleEndIndex(float mRightX) {
+        if (mItemCount <= 0 || mSectionWidth <= 0f) return -1;
+        if (mUniform) {
+            int mIndex = (int) Math.ceil(mRightX / mSectionWidth) - 1;
+            return Math.max(0, Math.min(mIndex, mItemCount - 1));
+        }
+        return LastItemStartingBefore(mRightX, false);
+    }
+
+    /**
+     * Verilen öğeyi görünümün ortasına getiren kaydırma değerini döndürür, [0, getMaxScrollX()] aralığına kırpılmış.
+     *
+     * @param mIndex Öğe indeksi
+     * @return Kaydırma (piksel); taşma yoksa 0
+     */
+    public int scrollXForIndex(int mIndex) {
+        if (!isScrollable()) return 0;
+        float mTarget = getItemCenterX(mIndex) - mViewWidth / 2f;
+        return Math.max(0, Math.min(Math.round(mTarget), getMaxScrollX()));
+    }
+
+    /**
+     * Çıkıntının (bump) eğrisini, merkez x = 0 ve çubuk üstü y = 0 olan yerel koordinatlarda
+     * verilen diziye yazar. Sıra: başlangıç (x, y), ardından iki kübik parçanın her biri için
+     * 1. kontrol (x, y), 2. kontrol (x, y), bitiş (x, y). Bellek ayırmaz.
+     *
+     * @param mOut En az BUMP_OUTLINE_SIZE uzunluğunda dizi
+     */
+    public void writeBumpOutline(float[] mOut) {
+        float mRadius = mBumpRadius;
+        float mControl = mRadius * BUMP_CONTROL_FACTOR;
+        float mLeftX = -mBumpHalfWidth;
+        float mRightX = mBumpHalfWidth;
+
+        mOut[0] = mLeftX;
+        mOut[1] = 0f;
+
+        // Sol yamaç: çubuk üstünden dairenin tepesine
+        mOut[2] = mLeftX + mControl;
+        mOut[3] = 0f;
+        mOut[4] = -mRadius;
+        mOut[5] = -mControl;
+        mOut[6] = 0f;
+        mOut[7] = -mRadius;
+
+        // Sağ yamaç: dairenin tepesinden çubuk üstüne
+        mOut[8] = mRadius;
+        mOut[9] = -mControl;
+        mOut[10] = mRightX - mControl;
+        mOut[11] = 0f;
+        mOut[12] = mRightX;
+        mOut[13] = 0f;
+    }
+
+    /**
+     * Verilen öğenin merkez X koordinatını döndürür.
+     *
+     * @param mIndex Öğe indeksi (0 tabanlı)
+     * @return Merkez X; öğe yoksa veya indeks geçersizse görünümün ortası
+     */
+    public float getItemCenterX(int mIndex) {
+        if (mIndex < 0 || mIndex >= mItemCount) return mViewWidth / 2f;
+        return mItemCenterX[mIndex];
+    }
+
+    public int getDesiredHeight() {
+        return mDesiredHeight;
+    }
+
+    public float getCircleRadius() {
+        return mCircleRadius;
+    }
+
+    public float getBumpRadius() {
+        return mBumpRadius;
+    }
+
+    public float getBumpHalfWidth() {
+        return mBumpHalfWidth;
+    }
+
+    public float getBarTopY() {
+        return mBarTopY;
+    }
+
+    public float getBarHeight() {
+        return mBarHeight;
+    }
+
+    public float getCircleCenterY() {
+        return mCircleCenterY;
+    }
+
+    /**
+     * @return Seçilmeyen ikonların merkez Y koordinatı (çubuğun dikey ortası)
+     */
+    public float getUnselectedIconCenterY() {
+        return mUnselectedIconCenterY;
+    }
+
+    /**
+     * @return Seçili öğe metninin taban çizgisi (baseline) Y koordinatı
+     */
+    public float getTextBaselineY() {
+        return mTextBaselineY;
+    }
+
+    public float getTextAnimDistance() {
+        return mTextAnimDistance;
+    }
+
+    /**
+     * @return Eşit bölüm genişliği; ağırlıklı düzende ortalama öğe genişliği
+     */
+    public float getSectionWidth() {
+        return mSectionWidth;
+    }
+
+    /**
+     * @param mIndex Öğe indeksi
+     * @return Öğenin genişliği; indeks geçersizse 0
+     */
+    public float getItemWidth(int mIndex) {
+        if (mIndex < 0 || mIndex >= mItemCount) return 0f;
+        return mItemEdges[mIndex + 1] - mItemEdges[mIndex];
+    }
+
+    /**
+     * @return En geniş öğenin genişliği
+     */
+    public float getMaxItemWidth() {
+        return mMaxItemWidth;
+    }
+
+    /**
+     * @return Tüm öğeleri kapsayan içerik genişliği; taşma yoksa görünüm genişliği
+     */
+    public float getContentWidth() {
+        return mContentWidth;
+    }
+
+    /**
+     * @return En büyük geçerli kaydırma değeri (piksel); taşma yoksa 0
+     */
+    public int getMaxScrollX() {
+        return Math.max(0, (int) Math.ceil(mContentWidth - mViewWidth));
+    }
+
+    /**
+     * @return Öğe sayısı görünür öğe sınırını aşıyorsa true
+     */
+    public boolean isScrollable() {
+        return mMaxVisibleItems > 0 && mItemCount > mMaxVisibleItems;
+    }
+
+    public int getMaxVisibleItems() {
+        return mMaxVisibleItems;
+    }
+
+    public int getItemCount() {
+        return mItemCount;
+    }
+
+    public int getViewWidth() {
+        return mViewWidth;
+    }
+
+    public int getViewHeight() {
+        return mViewHeight;
+    }
+
+    /**
+     * DP değerini piksele dönüştürür. Negatif değerler 0'a, 1000 dp üstü değerler 1000 dp'ye kırpılır.
+     *
+     * @param mDP DP cinsinden değer
+     * @return Piksel cinsinden değer
+     */
+    public float dp(float mDP) {
+        if (mDP < 0) return 0f;
+        return Math.min(mDP, 1000f) * mDensity;
+    }
+}
@@ -0,0 +1,207 @@
+package com.merv.bottomnavigationview.library.Interpolar;
+
+import java.util.Arrays;
+
+/**
+ * Bir veya daha fazla kübik Bezier parçasından oluşan, önceden örneklenmiş yumuşatma (easing) eğrisi.
+ * <p>
+ * Eğri oluşturulurken parametrik Bezier yoğun biçimde örneklenir ve eşit aralıklı X değerleri için
+ * Y değerleri bir arama tablosuna (lookup table) yazılır. Çalışma anında değerlendirme,
+ * tablodan iki komşu değerin okunup doğrusal interpolasyonundan ibarettir;
+ * kare başına Newton-Raphson gibi yinelemeli bir çözüm yapılmaz ve bellek ayrılmaz.
+ * <p>
+ * Eğri (0, 0) noktasından başlar ve son parçanın bitiş X değeri 1 olmalıdır.
+ * Her parçanın kontrol noktalarının X değerleri, parçanın başlangıç ve bitiş X değerleri
+ * arasında olmalıdır (CSS cubic-bezier kuralı); böylece eğri X'e göre bir fonksiyon olur.
+ * <p>
+ * Android bağımlılığı yoktur, düz JVM üzerinde de çalıştırılabilir.
+ */
+public final class MervBezierEasing {
+
+    /**
+     * Arama tablosunun varsayılan aralık sayısı.
+     */
+    public static final int DEFAULT_SAMPLE_COUNT = 256;
+
+    /**
+     * Tablo oluşturulurken her parça için parametrik örnek sayısının, tablo aralık sayısına oranı.
+     */
+    private static final int OVERSAMPLING = 8;
+
+    /**
+     * Eşit aralıklı X değerlerindeki Y değerleri (uzunluk: aralık sayısı + 1).
+     */
+    private final float[] mTable;
+
+    /**
+     * Tablonun aralık sayısı.
+     */
+    private final int mSampleCount;
+
+    private MervBezierEasing(float[] mTable) {
+        this.mTable = mTable;
+        this.mSampleCount = mTable.length - 1;
+    }
+
+    /**
+     * CSS cubic-bezier(x1, y1, x2, y2) ile aynı tanıma sahip tek parçalı bir eğri oluşturur.
+     *
+     * @param mX1 1. kontrol noktası X (0..1)
+     * @param mY1 1. kontrol noktası Y
+     * @param mX2 2. kontrol noktası X (0..1)
+     * @param mY2 2. kontrol noktası Y
+     * @return Örneklenmiş eğri
+     */
+    public static MervBezierEasing cubic(float mX1, float mY1, float mX2, float mY2) {
+        return new Builder().cubicTo(mX1, mY1, mX2, mY2, 1f, 1f).build();
+    }
+
+    /**
+     * Verilen girdi için eğrinin değerini tablo araması ve doğrusal interpolasyonla döndürür.
+     *
+     * @param mInput Geçen sürenin oranı (0..1); aralık dışı değerler sınırlara kırpılır
+     * @return Eğrinin değeri
+     */
+    public float getInterpolation(float mInput) {
+        if (mInput <= 0f) return mTable[0];
+        if (mInput >= 1f) return mTable[mSampleCount];
+        float mPosition = mInput * mSampleCount;
+        int mIndex = (int) mPosition;
+        float mLocal = mPosition - mIndex;
+        float mStart = mTable[mIndex];
+        return mStart + (mTable[mIndex + 1] - mStart) * mLocal;
+    }
+
+    /**
+     * @return Tablonun aralık sayısı
+     */
+    public int getSampleCount() {
+        return mSampleCount;
+    }
+
+    /**
+     * Çok parçalı kübik Bezier eğrileri oluşturmak için kullanılan yardımcı sınıf.
+     * Path API'sine benzer şekilde (0, 0) noktasından başlanır ve her cubicTo bir parça ekler.
+     */
+    public static final class Builder {
+
+        private float[] mSegments = new float[6 * 4];
+        private int mSegmentCount = 0;
+        private float mLastX = 0f;
+        private float mLastY = 0f;
+
+        /**
+         * Son noktadan (x, y) noktasına bir kübik Bezier parçası ekler.
+         *
+         * @param mC1X 1. kontrol noktası X
+         * @param mC1Y 1. kontrol noktası Y
+         * @param mC2X 2. kontrol noktası X
+         * @param mC2Y 2. kontrol noktası Y
+         * @param mX   Bitiş noktası X
+         * @param mY   Bitiş noktası Y
+         * @return Aynı Builder
+         * @throws IllegalArgumentException Bitiş X değeri son noktadan büyük değilse, 1'i aşıyorsa
+         *                                  ya da kontrol noktalarının X değerleri parça aralığının dışındaysa.
+         */
+        public Builder cubicTo(float mC1X, float mC1Y, float mC2X, float mC2Y, float mX, float mY) {
+            if (!(mX > mLastX) || mX > 1f) {
+                throw new IllegalArgumentException(
+                        "Parça bitiş X değeri (" + mX + ") önceki noktadan (" + mLastX + ") büyük ve en fazla 1 olmalı."
+                );
+            }
+            if (mC1X < mLastX || mC1X > mX || mC2X < mLastX || mC2X > mX) {
+                throw new IllegalArgumentException(
+                        "Kontrol noktalarının X değerleri parça aralığında [" + mLastX + ", " + mX + "] olmalı."
+                );
+            }
+            if (mSegments.length < (mSegmentCount + 1) * 6) {
+                mSegments = Arrays.copyOf(mSegments, mSegments.length * 2);
+            }
+            int mOffset = mSegmentCount * 6;
+            mSegments[mOffset] = mC1X;
+            mSegments[mOffset + 1] = mC1Y;
+            mSegments[mOffset + 2] = mC2X;
+            mSegments[mOffset + 3] = mC2Y;
+            mSegments[mOffset + 4] = mX;
+            mSegments[mOffset + 5] = mY;
+            mSegmentCount++;
+            mLastX = mX;
+            mLastY = mY;
+            return this;
+        }
+
+        /**
+         * Varsayılan tablo çözünürlüğü ile eğriyi örnekler.
+         *
+         * @return Örneklenmiş eğri
+         */
+        public MervBezierEasing build() {
+            return build(DEFAULT_SAMPLE_COUNT);
+        }
+
+        /**
+         * Verilen tablo çözünürlüğü ile eğriyi örnekler.
+         *
+         * @param mSampleCount Tablonun aralık sayısı (en az 2)
+         * @return Örneklenmiş eğri
+         * @throws IllegalStateException Eğri hiç parça içermiyorsa veya X = 1'de bitmiyorsa.
+         */
+        public MervBezierEasing build(int mSampleCount) {
+            if (mSegmentCount == 0 || mLastX != 1f) {
+                throw new IllegalStateException("Eğri en az bir parça içermeli ve X = 1 noktasında bitmeli.");
+            }
+            if (mSampleCount < 2) {
+                throw new IllegalArgumentException("Tablo aralık sayısı en az 2 olmalı: " + mSampleCount);
+            }
+
+            float[] mTable = new float[mSampleCount + 1];
+            int mSteps = mSampleCount * OVERSAMPLING;
+            int mTableIndex = 0;
+            float mPrevX = 0f;
+            float mPrevY = 0f;
+            float mStartX = 0f;
+            float mStartY = 0f;
+
+            for (int mSegment = 0; mSegment < mSegmentCount; mSegment++) {
+                int mOffset = mSegment * 6;
+                float mC1X = mSegments[mOffset];
+                float mC1Y = mSegments[mOffset + 1];
+                float mC2X = mSegments[mOffset + 2];
+                float mC2Y = mSegments[mOffset + 3];
+                float mEndX = mSegments[mOffset + 4];
+                float mEndY = mSegments[mOffset + 5];
+
+                for (int mStep = 1; mStep <= mSteps; mStep++) {
+                    float mT = mStep / (float) mSteps;
+                    float mX = Bezier(mStartX, mC1X, mC2X, mEndX, mT);
+                    float mY = Bezier(mStartY, mC1Y, mC2Y, mEndY, mT);
+                    while (mTableIndex <= mSampleCount) {
+                        float mTargetX = mTableIndex / (float) mSampleCount;
+                        if (mTargetX > mX) break;
+                        float mSpan = mX - mPrevX;
+                        float mLocal = mSpan <= 0f ? 1f : (mTargetX - mPrevX) / mSpan;
+                        mTable[mTableIndex++] = mPrevY + (mY - mPrevY) * mLocal;
+                    }
+                    mPrevX = mX;
+                    mPrevY = mY;
+                }
+                mStartX = mEndX;
+                mStartY = mEndY;
+            }
+            while (mTableIndex <= mSampleCount) {
+                mTable[mTableIndex++] = mLastY;
+            }
+            mTable[0] = 0f;
+            mTable[mSampleCount] = mLastY;
+            return new MervBezierEasing(mTable);
+        }
+
+        private static float Bezier(float mP0, float mP1, float mP2, float mP3, float mT) {
+            float mInverse = 1f - mT;
+            return mInverse * mInverse * mInverse * mP0
+                    + 3f * mInverse * mInverse * mT * mP1
+                    + 3f * mInverse * mT * mT * mP2
+                    + mT * mT * mT * mP3;
+        }
+    }
+}
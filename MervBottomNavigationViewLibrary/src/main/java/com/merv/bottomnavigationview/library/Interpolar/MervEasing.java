@@ -0,0 +1,107 @@
+package com.merv.bottomnavigationview.library.Interpolar;
+
+/**
+ * MervInterpolator tiplerinin düz JVM üzerinde çalışan saf Java kopyası.
+ * <p>
+ * Görünüm bu sınıfı kullanmaz; MervInterpolator framework interpolatörlerini döndürür. Bu sınıf
+ * yalnızca android.view.animation sınıflarının çalışamadığı JMH benchmark modülünde ölçülür.
+ * Kapalı formüller framework interpolatörlerinin varsayılan parametrelerle yaptığı hesabı izler.
+ * FAST_OUT_SLOW_IN ise PathInterpolator değil, aynı kübik eğrinin (0.4, 0) - (0.2, 1)
+ * MervBezierEasing ile önceden örneklenmiş tablosudur; framework eğrisine yalnızca yaklaşır.
+ */
+public final class MervEasing {
+
+    public static final int LINEAR = 0;
+    public static final int ACCELERATE = 1;
+    public static final int DECELERATE = 2;
+    public static final int ACCELERATE_DECELERATE = 3;
+    public static final int OVERSHOOT = 4;
+    public static final int BOUNCE = 5;
+    public static final int NONE = 6;
+    public static final int ANTICIPATE = 7;
+    public static final int ANTICIPATE_OVERSHOOT = 8;
+    public static final int FAST_OUT_SLOW_IN = 9;
+
+    /**
+     * Yerleşik tip sayısı.
+     */
+    public static final int TYPE_COUNT = 10;
+
+    /**
+     * OvershootInterpolator ve AnticipateInterpolator'ın varsayılan gerginlik (tension) değeri.
+     */
+    private static final float TENSION = 2f;
+
+    /**
+     * AnticipateOvershootInterpolator'ın varsayılan gerginliği (2 * 1.5).
+     */
+    private static final float ANTICIPATE_OVERSHOOT_TENSION = TENSION * 1.5f;
+
+    /**
+     * FAST_OUT_SLOW_IN eğrisi: cubic-bezier(0.4, 0, 0.2, 1).
+     */
+    private static final MervBezierEasing FAST_OUT_SLOW_IN_CURVE = MervBezierEasing.cubic(0.4f, 0f, 0.2f, 1f);
+
+    private MervEasing() {
+    }
+
+    /**
+     * Verilen tip için eğrinin değerini hesaplar.
+     *
+     * @param mType  Tip sabiti (LINEAR ... FAST_OUT_SLOW_IN)
+     * @param mInput Geçen sürenin oranı (0..1)
+     * @return Eğrinin değeri; bilinmeyen tiplerde OVERSHOOT
+     */
+    public static float evaluate(int mType, float mInput) {
+        switch (mType) {
+            case LINEAR:
+                return mInput;
+            case ACCELERATE:
+                return mInput * mInput;
+            case DECELERATE:
+                return 1f - (1f - mInput) * (1f - mInput);
+            case ACCELERATE_DECELERATE:
+                return (float) (Math.cos((mInput + 1) * Math.PI) / 2.0f) + 0.5f;
+            case BOUNCE:
+                return Bounce(mInput);
+            case NONE:
+                return 1f;
+            case ANTICIPATE:
+                return mInput * mInput * ((TENSION + 1) * mInput - TENSION);
+            case ANTICIPATE_OVERSHOOT:
+                return AnticipateOvershoot(mInput);
+            case FAST_OUT_SLOW_IN:
+                return FAST_OUT_SLOW_IN_CURVE.getInterpolation(mInput);
+            case OVERSHOOT:
+            default:
+                return Overshoot(mInput);
+        }
+    }
+
+    private static float Overshoot(float mInput) {
+        mInput -= 1.0f;
+        return mInput * mInput * ((TENSION + 1) * mInput + TENSION) + 1.0f;
+    }
+
+    private static float BounceCurve(float mT) {
+        return mT * mT * 8.0f;
+    }
+
+    private static float Bounce(float mInput) {
+        mInput *= 1.1226f;
+        if (mInput < 0.3535f) return BounceCurve(mInput);
+        else if (mInput < 0.7408f) return BounceCurve(mInput - 0.54719f) + 0.7f;
+        else if (mInput < 0.9644f) return BounceCurve(mInput - 0.8526f) + 0.9f;
+        else return BounceCurve(mInput - 1.0435f) + 0.95f;
+    }
+
+    private static float AnticipateOvershoot(float mInput) {
+        float mTension = ANTICIPATE_OVERSHOOT_TENSION;
+        if (mInput < 0.5f) {
+            float mT = mInput * 2.0f;
+            return 0.5f * (mT * mT * ((mTension + 1) * mT - mTension));
+        }
+        float mT = mInput * 2.0f - 2.0f;
+        return 0.5f * (mT * mT * ((mTension + 1) * mT + mTension) + 2.0f);
+    }
+}
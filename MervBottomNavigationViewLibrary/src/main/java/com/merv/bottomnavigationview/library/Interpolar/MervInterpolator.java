@@ -4,51 +4,127 @@ import android.animation.TimeInterpolator;
 import android.content.Context;
 import android.view.animation.AccelerateDecelerateInterpolator;
 import android.view.animation.AccelerateInterpolator;
-import android.view.animation.AnimationUtils;
 import android.view.animation.AnticipateInterpolator;
 import android.view.animation.AnticipateOvershootInterpolator;
 import android.view.animation.BounceInterpolator;
 import android.view.animation.DecelerateInterpolator;
 import android.view.animation.LinearInterpolator;
 import android.view.animation.OvershootInterpolator;
+import android.view.animation.PathInterpolator;
+
+import java.util.Arrays;
 
 public class MervInterpolator {
 
-    public static final int LINEAR = 0;
-    public static final int ACCELERATE = 1;
-    public static final int DECELERATE = 2;
-    public static final int ACCELERATE_DECELERATE = 3;
-    public static final int OVERSHOOT = 4;
-    public static final int BOUNCE = 5;
-    public static final int NONE = 6;
-    public static final int ANTICIPATE = 7;
-    public static final int ANTICIPATE_OVERSHOOT = 8;
-    public static final int FAST_OUT_SLOW_IN = 9;
+    public static final int LINEAR = MervEasing.LINEAR;
+    public static final int ACCELERATE = MervEasing.ACCELERATE;
+    public static final int DECELERATE = MervEasing.DECELERATE;
+    public static final int ACCELERATE_DECELERATE = MervEasing.ACCELERATE_DECELERATE;
+    public static final int OVERSHOOT = MervEasing.OVERSHOOT;
+    public static final int BOUNCE = MervEasing.BOUNCE;
+    public static final int NONE = MervEasing.NONE;
+    public static final int ANTICIPATE = MervEasing.ANTICIPATE;
+    public static final int ANTICIPATE_OVERSHOOT = MervEasing.ANTICIPATE_OVERSHOOT;
+    public static final int FAST_OUT_SLOW_IN = MervEasing.FAST_OUT_SLOW_IN;
 
-    public static TimeInterpolator get(int mType, Context mContext) {
-        switch (mType) {
-            case LINEAR:
-                return new LinearInterpolator();
-            case ACCELERATE:
-                return new AccelerateInterpolator();
-            case DECELERATE:
-                return new DecelerateInterpolator();
-            case ACCELERATE_DECELERATE:
-                return new AccelerateDecelerateInterpolator();
-            case OVERSHOOT:
-                return new OvershootInterpolator();
-            case BOUNCE:
-                return new BounceInterpolator();
-            case NONE:
-                return mInput -> 1f;
-            case ANTICIPATE:
-                return new AnticipateInterpolator();
-            case ANTICIPATE_OVERSHOOT:
-                return new AnticipateOvershootInterpolator();
-            case FAST_OUT_SLOW_IN:
-                return AnimationUtils.loadInterpolator(mContext, android.R.interpolator.fast_out_slow_in);
-            default:
-                return new OvershootInterpolator();
+    /**
+     * registerCubicBezier / registerCurve ile kaydedilen özel eğrilere verilen ilk tip değeri.
+     * Kayıt sırasına göre 100, 101, 102 ... değerleri dağıtılır.
+     */
+    public static final int CUSTOM_TYPE_START = 100;
+
+    /**
+     * Her tip için süreç boyunca paylaşılan, durumsuz interpolatör örnekleri.
+     * Dizi indeksi tip sabitine karşılık gelir.
+     * <p>
+     * FAST_OUT_SLOW_IN, android.R.interpolator.fast_out_slow_in kaynağının tanımladığı
+     * kübik eğriyle (0.4, 0) - (0.2, 1) birebir aynı olan bir PathInterpolator olarak oluşturulur;
+     * böylece kaynak dosyası hiç ayrıştırılmaz ve Context gerekmez.
+     * <p>
+     * Görünüm her zaman bu framework örneklerini kullanır. MervEasing yalnızca benchmark modülünün
+     * düz JVM üzerinde ölçtüğü kopyadır ve FAST_OUT_SLOW_IN için bu eğriye yalnızca yaklaşır.
+     */
+    private static final TimeInterpolator[] INTERPOLATORS = {
+            new LinearInterpolator(),
+            new AccelerateInterpolator(),
+            new DecelerateInterpolator(),
+            new AccelerateDecelerateInterpolator(),
+            new OvershootInterpolator(),
+            new BounceInterpolator(),
+            mInput -> 1f,
+            new AnticipateInterpolator(),
+            new AnticipateOvershootInterpolator(),
+            new PathInterpolator(0.4f, 0f, 0.2f, 1f)
+    };
+
+    /**
+     * Kaydedilmiş özel eğriler. Yazma sırasında kopyalanır (copy-on-write),
+     * böylece get(int) kilit almadan okuyabilir.
+     */
+    private static volatile TimeInterpolator[] sCustomInterpolators = new TimeInterpolator[0];
+
+    /**
+     * CSS cubic-bezier(x1, y1, x2, y2) tanımıyla özel bir eğri kaydeder.
+     * Eğri kayıt sırasında bir kez arama tablosuna örneklenir.
+     *
+     * @param mX1 1. kontrol noktası X (0..1)
+     * @param mY1 1. kontrol noktası Y
+     * @param mX2 2. kontrol noktası X (0..1)
+     * @param mY2 2. kontrol noktası Y
+     * @return setBottomNavAnimationInterpolator(int) ile kullanılabilecek tip değeri
+     */
+    public static int registerCubicBezier(float mX1, float mY1, float mX2, float mY2) {
+        return registerCurve(MervBezierEasing.cubic(mX1, mY1, mX2, mY2));
+    }
+
+    /**
+     * Önceden örneklenmiş (tek veya çok parçalı) bir eğriyi kaydeder.
+     *
+     * @param mEasing MervBezierEasing.Builder ile oluşturulmuş eğri
+     * @return setBottomNavAnimationInterpolator(int) ile kullanılabilecek tip değeri
+     */
+    public static synchronized int registerCurve(MervBezierEasing mEasing) {
+        if (mEasing == null) {
+            throw new IllegalArgumentException("Eğri null olamaz.");
         }
+        TimeInterpolator[] mCurrent = sCustomInterpolators;
+        TimeInterpolator[] mUpdated = Arrays.copyOf(mCurrent, mCurrent.length + 1);
+        mUpdated[mCurrent.length] = mEasing::getInterpolation;
+        sCustomInterpolators = mUpdated;
+        return CUSTOM_TYPE_START + mCurrent.length;
+    }
+
+    /**
+     * Verilen tipe karşılık gelen, önbelleğe alınmış paylaşılan interpolatörü döndürür.
+     * Hiçbir nesne oluşturmaz ve Context gerektirmez.
+     *
+     * @param mType Interpolatör tipi (LINEAR ... FAST_OUT_SLOW_IN veya kaydedilmiş özel tip)
+     * @return Paylaşılan interpolatör; bilinmeyen tiplerde OVERSHOOT
+     */
+    public static TimeInterpolator get(int mType) {
+        if (mType >= CUSTOM_TYPE_START) {
+            TimeInterpolator[] mCustom = sCustomInterpolators;
+            int mCustomIndex = mType - CUSTOM_TYPE_START;
+            if (mCustomIndex < mCustom.length) {
+                return mCustom[mCustomIndex];
+            }
+            return INTERPOLATORS[OVERSHOOT];
+        }
+        if (mType < 0 || mType >= INTERPOLATORS.length) {
+            return INTERPOLATORS[OVERSHOOT];
+        }
+        return INTERPOLATORS[mType];
+    }
+
+    /**
+     * Geriye dönük uyumluluk için korunur; Context artık kullanılmaz.
+     *
+     * @param mType    Interpolatör tipi
+     * @param mContext Kullanılmaz
+     * @return Paylaşılan interpolatör
+     * @see #get(int)
+     */
+    public static TimeInterpolator get(int mType, Context mContext) {
+        return get(mType);
     }
 }
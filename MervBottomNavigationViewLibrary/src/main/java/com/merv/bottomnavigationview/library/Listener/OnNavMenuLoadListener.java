@@ -0,0 +1,20 @@
+package com.merv.bottomnavigationview.library.Listener;
+
+public interface OnNavMenuLoadListener {
+
+    /**
+     * Asenkron ayrıştırılan menü görünüme uygulandığında UI iş parçacığında çağrılır.
+     *
+     * @param mMenuRes Yüklenen menü kaynağının resource ID'si
+     */
+    void onMenuLoaded(int mMenuRes);
+
+    /**
+     * Asenkron ayrıştırma veya doğrulama başarısız olduğunda UI iş parçacığında çağrılır.
+     * Görünüm bu durumda boş kalır; yeni bir setMenu() veya setMenuAsync() çağrısı yapılabilir.
+     *
+     * @param mMenuRes Yüklenemeyen menü kaynağının resource ID'si
+     * @param mError   setMenu()'nün aynı kaynak için fırlatacağı istisna
+     */
+    void onMenuLoadFailed(int mMenuRes, RuntimeException mError);
+}
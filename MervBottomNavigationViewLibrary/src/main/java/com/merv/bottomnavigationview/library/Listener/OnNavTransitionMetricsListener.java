@@ -0,0 +1,16 @@
+package com.merv.bottomnavigationview.library.Listener;
+
+import com.merv.bottomnavigationview.library.Metrics.MervTransitionMetrics;
+
+public interface OnNavTransitionMetricsListener {
+
+    /**
+     * Bir seçim geçişi bittiğinde (veya yeni bir dokunuşla kesildiğinde) UI iş parçacığında çağrılır.
+     * <p>
+     * Metrik nesnesi görünüm tarafından yeniden kullanılır; değerler yalnızca bu çağrı süresince geçerlidir.
+     * Saklanacaksa ilkel değerler kopyalanmalıdır.
+     *
+     * @param mMetrics Biten geçişin metrikleri
+     */
+    void onTransitionMetrics(MervTransitionMetrics mMetrics);
+}
@@ -0,0 +1,68 @@
+package com.merv.bottomnavigationview.library.Menu;
+
+/**
+ * Menü kaynağından okunan, görünüme verilmeye hazır öğe listesi.
+ * <p>
+ * Yalnızca geçerli (ikonu ve başlığı olan) öğeleri tutar; atlanan öğeler getRawCount() farkından anlaşılır.
+ * İkonlar resource ID olarak tutulur ve görünümde ilk çizimde MervIconCache üzerinden çözülür.
+ * Oluşturulduktan sonra değişmez, bu yüzden arka plan iş parçacığında üretilip UI iş parçacığına güvenle verilebilir.
+ */
+public final class MervMenuModel {
+
+    private final int mMenuRes;
+    private final int mRawCount;
+    private final int mCount;
+    private final int[] mIds;
+    private final String[] mTitles;
+    private final int[] mIconRes;
+
+    MervMenuModel(int mMenuRes, int mRawCount, int mCount, int[] mIds, String[] mTitles, int[] mIconRes) {
+        this.mMenuRes = mMenuRes;
+        this.mRawCount = mRawCount;
+        this.mCount = mCount;
+        this.mIds = mIds;
+        this.mTitles = mTitles;
+        this.mIconRes = mIconRes;
+    }
+
+    /**
+     * @return Modelin okunduğu menü kaynağının ID'si
+     */
+    public int getMenuRes() {
+        return mMenuRes;
+    }
+
+    /**
+     * @return Menüde bulunan tüm &lt;item&gt; sayısı (geçersizler dahil)
+     */
+    public int getRawCount() {
+        return mRawCount;
+    }
+
+    /**
+     * @return Geçerli öğe sayısı
+     */
+    public int getCount() {
+        return mCount;
+    }
+
+    /**
+     * @param mIndex Öğe indeksi (0 tabanlı)
+     * @return Öğenin android:id değeri; yoksa View.NO_ID
+     */
+    public int getId(int mIndex) {
+        return mIds[mIndex];
+    }
+
+    public String getTitle(int mIndex) {
+        return mTitles[mIndex];
+    }
+
+    /**
+     * @param mIndex Öğe indeksi (0 tabanlı)
+     * @return Öğenin android:icon resource ID'si
+     */
+    public int getIconRes(int mIndex) {
+        return mIconRes[mIndex];
+    }
+}
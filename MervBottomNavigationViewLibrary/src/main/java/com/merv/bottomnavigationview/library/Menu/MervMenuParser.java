@@ -0,0 +1,209 @@
+package com.merv.bottomnavigationview.library.Menu;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.content.res.TypedArray;
+import android.content.res.XmlResourceParser;
+import android.util.Log;
+import android.view.Menu;
+import android.view.View;
+
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Menü kaynağını (menu XML) PopupMenu / MenuInflater kullanmadan okuyan hafif ayrıştırıcı.
+ * <p>
+ * Yalnızca üst düzey &lt;item&gt; etiketlerinin android:id, android:title, android:icon,
+ * android:menuCategory ve android:orderInCategory değerleri okunur; &lt;group&gt; içindeki öğeler üst düzey
+ * sayılır ve grubun menuCategory / orderInCategory değerlerini varsayılan olarak alır, alt menülerdeki öğeler
+ * atlanır. Değerler MenuInflater'da olduğu gibi bağlamın temasıyla TypedArray üzerinden çözülür, böylece
+ * "?attr/..." referansları da çalışır. Öğeler MenuBuilder ile aynı sırayla (kategori, ardından
+ * orderInCategory; eşitlerde belge sırası) döndürülür.
+ * <p>
+ * Menu / MenuItem nesneleri oluşturulmaz, ikonlar yüklenmez ve View'a ihtiyaç duyulmaz; bu sayede
+ * parse() arka plan iş parçacığında çalıştırılabilir.
+ */
+public final class MervMenuParser {
+
+    private static final String TAG = "MervBNV";
+    private static final String TAG_MENU = "menu";
+    private static final String TAG_GROUP = "group";
+    private static final String TAG_ITEM = "item";
+    private static final int INITIAL_CAPACITY = 5;
+
+    /**
+     * MenuBuilder'daki kategori -> sıra tablosu (menuCategory'nin üst 16 biti indekstir).
+     */
+    private static final int[] CATEGORY_TO_ORDER = {1, 4, 5, 3, 2, 0};
+
+    /**
+     * obtainStyledAttributes artan sırada öznitelik ister; indeksler sıralamadan sonra bulunur.
+     */
+    private static final int[] ITEM_ATTRS = SortedAttrs(
+            android.R.attr.id,
+            android.R.attr.title,
+            android.R.attr.icon,
+            android.R.attr.menuCategory,
+            android.R.attr.orderInCategory
+    );
+    private static final int ATTR_ID = Arrays.binarySearch(ITEM_ATTRS, android.R.attr.id);
+    private static final int ATTR_TITLE = Arrays.binarySearch(ITEM_ATTRS, android.R.attr.title);
+    private static final int ATTR_ICON = Arrays.binarySearch(ITEM_ATTRS, android.R.attr.icon);
+    private static final int ATTR_MENU_CATEGORY = Arrays.binarySearch(ITEM_ATTRS, android.R.attr.menuCategory);
+    private static final int ATTR_ORDER_IN_CATEGORY = Arrays.binarySearch(ITEM_ATTRS, android.R.attr.orderInCategory);
+
+    private static volatile ExecutorService sDefaultExecutor;
+
+    private MervMenuParser() {
+    }
+
+    /**
+     * Menü kaynağını okur ve geçerli öğeleri MenuBuilder sırasıyla içeren modeli döndürür.
+     * Herhangi bir iş parçacığından çağrılabilir.
+     *
+     * @param mContext Kaynakların ve temanın alınacağı bağlam
+     * @param mMenuRes Menü kaynağının ID'si
+     * @return Geçerli öğeleri taşıyan model
+     * @throws IllegalArgumentException Kaynak okunamıyorsa
+     */
+    public static MervMenuModel parse(Context mContext, int mMenuRes) {
+        Resources mResources = mContext.getResources();
+
+        int mCapacity = INITIAL_CAPACITY;
+        int[] mIds = new int[mCapacity];
+        String[] mTitles = new String[mCapacity];
+        int[] mIconResIds = new int[mCapacity];
+        int[] mOrderings = new int[mCapacity];
+        int mRawCount = 0;
+
+        try (XmlResourceParser mParser = mResources.getXml(mMenuRes)) {
+            int mMenuDepth = 0;
+            int mGroupCategory = 0;
+            int mGroupOrder = 0;
+            int mEventType = mParser.getEventType();
+            while (mEventType != XmlPullParser.END_DOCUMENT) {
+                if (mEventType == XmlPullParser.START_TAG) {
+                    String mName = mParser.getName();
+                    if (TAG_MENU.equals(mName)) {
+                        mMenuDepth++;
+                    } else if (TAG_GROUP.equals(mName) && mMenuDepth == 1) {
+                        TypedArray mGroup = mContext.obtainStyledAttributes(mParser, ITEM_ATTRS);
+                        try {
+                            mGroupCategory = mGroup.getInt(ATTR_MENU_CATEGORY, 0);
+                            mGroupOrder = mGroup.getInt(ATTR_ORDER_IN_CATEGORY, 0);
+                        } finally {
+                            mGroup.recycle();
+                        }
+                    } else if (TAG_ITEM.equals(mName) && mMenuDepth == 1) {
+                        if (mRawCount == mCapacity) {
+                            mCapacity *= 2;
+                            mIds = Arrays.copyOf(mIds, mCapacity);
+                            mTitles = Arrays.copyOf(mTitles, mCapacity);
+                            mIconResIds = Arrays.copyOf(mIconResIds, mCapacity);
+                            mOrderings = Arrays.copyOf(mOrderings, mCapacity);
+                        }
+                        TypedArray mItem = mContext.obtainStyledAttributes(mParser, ITEM_ATTRS);
+                        try {
+                            int mCategory = mItem.getInt(ATTR_MENU_CATEGORY, mGroupCategory);
+                            int mOrder = mItem.getInt(ATTR_ORDER_IN_CATEGORY, mGroupOrder);
+                            int mOrdering = GetOrdering((mCategory & Menu.CATEGORY_MASK) | (mOrder & Menu.USER_MASK));
+                            // MenuBuilder gibi: aynı sıradaki öğelerin sonuna eklenir
+                            int mIndex = mRawCount;
+                            while (mIndex > 0 && mOrderings[mIndex - 1] > mOrdering) {
+                                mIds[mIndex] = mIds[mIndex - 1];
+                                mTitles[mIndex] = mTitles[mIndex - 1];
+                                mIconResIds[mIndex] = mIconResIds[mIndex - 1];
+                                mOrderings[mIndex] = mOrderings[mIndex - 1];
+                                mIndex--;
+                            }
+                            CharSequence mTitle = mItem.getText(ATTR_TITLE);
+                            mIds[mIndex] = mItem.getResourceId(ATTR_ID, View.NO_ID);
+                            mTitles[mIndex] = mTitle != null ? mTitle.toString() : null;
+                            mIconResIds[mIndex] = mItem.getResourceId(ATTR_ICON, 0);
+                            mOrderings[mIndex] = mOrdering;
+                            mRawCount++;
+                        } finally {
+                            mItem.recycle();
+                        }
+                    }
+                } else if (mEventType == XmlPullParser.END_TAG) {
+                    String mName = mParser.getName();
+                    if (TAG_MENU.equals(mName)) {
+                        mMenuDepth--;
+                    } else if (TAG_GROUP.equals(mName) && mMenuDepth == 1) {
+                        mGroupCategory = 0;
+                        mGroupOrder = 0;
+                    }
+                }
+                mEventType = mParser.next();
+            }
+        } catch (XmlPullParserException | IOException | Resources.NotFoundException mException) {
+            throw new IllegalArgumentException("Menü kaynağı okunamadı: " + mMenuRes, mException);
+        }
+
+        // Geçersiz öğeler sıralı listeden çıkarılır; diziler yerinde sıkıştırılır
+        int mCount = 0;
+        for (int mI = 0; mI < mRawCount; mI++) {
+            String mTitle = mTitles[mI];
+            if (mIconResIds[mI] == 0 || mTitle == null || mTitle.trim().isEmpty()) {
+                Log.w(TAG, "Menü öğesi " + mI + " geçersiz. Atlanıyor.");
+                continue;
+            }
+            mIds[mCount] = mIds[mI];
+            mTitles[mCount] = mTitle;
+            mIconResIds[mCount] = mIconResIds[mI];
+            mCount++;
+        }
+
+        return new MervMenuModel(mMenuRes, mRawCount, mCount, mIds, mTitles, mIconResIds);
+    }
+
+    /**
+     * MenuBuilder.getOrdering ile aynı: kategoriyi sıra değerine çevirip kullanıcı sırasıyla birleştirir.
+     *
+     * @throws IllegalArgumentException Kategori geçersizse
+     */
+    private static int GetOrdering(int mCategoryOrder) {
+        int mIndex = (mCategoryOrder & Menu.CATEGORY_MASK) >> Menu.CATEGORY_SHIFT;
+        if (mIndex < 0 || mIndex >= CATEGORY_TO_ORDER.length) {
+            throw new IllegalArgumentException("Geçersiz menuCategory değeri: " + mCategoryOrder);
+        }
+        return (CATEGORY_TO_ORDER[mIndex] << Menu.CATEGORY_SHIFT) | (mCategoryOrder & Menu.USER_MASK);
+    }
+
+    private static int[] SortedAttrs(int... mAttrs) {
+        Arrays.sort(mAttrs);
+        return mAttrs;
+    }
+
+    /**
+     * Menüler için paylaşılan, tek iş parçacıklı varsayılan arka plan yürütücüsü.
+     * İlk çağrıda oluşturulur; iş parçacığı daemon'dur ve uygulamanın kapanmasını engellemez.
+     *
+     * @return Paylaşılan yürütücü
+     */
+    public static Executor getDefaultExecutor() {
+        ExecutorService mExecutor = sDefaultExecutor;
+        if (mExecutor == null) {
+            synchronized (MervMenuParser.class) {
+                mExecutor = sDefaultExecutor;
+                if (mExecutor == null) {
+                    mExecutor = Executors.newSingleThreadExecutor(mRunnable -> {
+                        Thread mThread = new Thread(mRunnable, "MervMenuParser");
+                        mThread.setDaemon(true);
+                        return mThread;
+                    });
+                    sDefaultExecutor = mExecutor;
+                }
+            }
+        }
+        return mExecutor;
+    }
+}
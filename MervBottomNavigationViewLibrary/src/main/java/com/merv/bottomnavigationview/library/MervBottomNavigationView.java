@@ -1,33 +1,53 @@
 package com.merv.bottomnavigationview.library;
 
-import androidx.core.content.res.ResourcesCompat;
-import android.animation.AnimatorListenerAdapter;
-import android.animation.AnimatorSet;
-import android.animation.ValueAnimator;
+import android.animation.TimeInterpolator;
 import android.content.Context;
-import android.content.res.TypedArray;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Path;
+import android.graphics.Rect;
+import android.graphics.RectF;
 import android.graphics.Typeface;
 import android.graphics.drawable.Drawable;
 import android.util.AttributeSet;
 import android.util.DisplayMetrics;
 import android.util.Log;
+import android.util.TypedValue;
+import android.view.Display;
 import android.view.MotionEvent;
+import android.view.VelocityTracker;
 import android.view.View;
+import android.view.ViewConfiguration;
+import android.view.ViewParent;
+import android.widget.OverScroller;
+import androidx.annotation.DrawableRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
-import androidx.appcompat.widget.PopupMenu;
-import androidx.core.content.ContextCompat;
 
 
+import com.merv.bottomnavigationview.library.Animation.MervChoreographerFrameScheduler;
+import com.merv.bottomnavigationview.library.Animation.MervFrameScheduler;
+import com.merv.bottomnavigationview.library.Animation.MervSelectionTransition;
+import com.merv.bottomnavigationview.library.Animation.MervTransitionDriver;
+import com.merv.bottomnavigationview.library.Badge.MervBadgeStore;
+import com.merv.bottomnavigationview.library.Geometry.MervNavGeometry;
 import com.merv.bottomnavigationview.library.Interpolar.MervInterpolator;
 import com.merv.bottomnavigationview.library.Listener.OnNavItemSelectedListener;
-
-import java.util.ArrayList;
-import java.util.List;
+import com.merv.bottomnavigationview.library.Listener.OnNavMenuLoadListener;
+import com.merv.bottomnavigationview.library.Listener.OnNavTransitionMetricsListener;
+import com.merv.bottomnavigationview.library.Menu.MervMenuModel;
+import com.merv.bottomnavigationview.library.Menu.MervMenuParser;
+import com.merv.bottomnavigationview.library.Metrics.MervNavCounters;
+import com.merv.bottomnavigationview.library.Metrics.MervTrace;
+import com.merv.bottomnavigationview.library.Metrics.MervTransitionMetrics;
+import com.merv.bottomnavigationview.library.Render.MervIconCache;
+import com.merv.bottomnavigationview.library.Render.MervIconRasterCache;
+import com.merv.bottomnavigationview.library.Render.MervShadowCache;
+import com.merv.bottomnavigationview.library.Style.MervNavStyle;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
 
 /**
  * The MIT License (MIT)
@@ -56,11 +76,109 @@ import java.util.List;
 
 public class MervBottomNavigationView extends View {
 
+    private static final String TAG = "MervBNV";
+
+    /**
+     * Donanım hızlandırmalı çizim modu (varsayılan).
+     * Gölgeler önceden Bitmap'e çizilir ve her karede yalnızca kopyalanır.
+     */
+    public static final int RENDER_MODE_HARDWARE = 0;
+
+    /**
+     * Yazılım katmanlı çizim modu.
+     * Gölgeler her karede Paint.setShadowLayer ile çizilir (eski görünüm).
+     */
+    public static final int RENDER_MODE_SOFTWARE = 1;
+
+    /**
+     * Tüm öğeler eşit genişlikte (varsayılan).
+     */
+    public static final int ITEM_WIDTH_EQUAL = 0;
+
+    /**
+     * Öğe genişlikleri setBottomNavItemWeight / setAddItem ile verilen ağırlıklarla orantılıdır.
+     */
+    public static final int ITEM_WIDTH_WEIGHT = 1;
+
+    /**
+     * Öğe genişlikleri ölçülen başlık uzunluğuyla (en az seçili ikon kadar) orantılıdır.
+     */
+    public static final int ITEM_WIDTH_TITLE = 2;
+
+    /**
+     * ITEM_WIDTH_TITLE modunda başlığın her iki yanına eklenen boşluk (dp).
+     */
+    private static final float ITEM_TITLE_PADDING_DP = 12f;
+
+    /**
+     * Arka plan ve daire gölgelerinde kullanılan renk (#33000000).
+     */
+    private static final int SHADOW_LAYER_COLOR = 0x33000000;
+
+    /**
+     * Rozetin ikon merkezinden sağa ve yukarı kaydırılma oranı (ikon boyutunun kesri).
+     */
+    private static final float BADGE_ANCHOR_FRACTION = 0.35f;
+
+    /**
+     * Rozetin en küçük yüksekliği (dp); tek haneli sayılarda rozet bu çapta bir dairedir.
+     */
+    private static final float BADGE_MIN_HEIGHT_DP = 16f;
+
+    /**
+     * Rozet metninin iki yanındaki boşluk (dp).
+     */
+    private static final float BADGE_PADDING_DP = 4f;
+
+    /**
+     * Nokta rozetin yarıçapı (dp).
+     */
+    private static final float BADGE_DOT_RADIUS_DP = 4f;
+
+    /**
+     * Rozet metninin boyutu (sp).
+     */
+    private static final float BADGE_TEXT_SIZE_SP = 10f;
+
+    private static final String BADGE_DIGITS = "0123456789";
+
     /**
      * Alt gezinme çubuğunun arka planının şekli için kullanılan Path objesi.
+     * Yalnızca yazılım modunda, gölgenin tek parça çizilebilmesi için her karede
+     * sabit dikdörtgen ve önbellekteki çıkıntı birleştirilerek doldurulur.
      */
     private final Path mBottomNavBackgroundPath = new Path();
 
+    /**
+     * Çıkıntının (bump) önbelleğe alınmış şekli.
+     * Merkez x = 0 ve çubuk üstü y = 0 olacak şekilde yerel koordinatlarda bir kez oluşturulur,
+     * her karede yalnızca animasyon merkezine ötelenerek çizilir.
+     */
+    private final Path mBottomNavBumpPath = new Path();
+
+    /**
+     * Çıkıntı eğrisinin yerel koordinatlardaki noktaları (MervNavGeometry.writeBumpOutline).
+     */
+    private final float[] mBumpOutline = new float[MervNavGeometry.BUMP_OUTLINE_SIZE];
+
+    /**
+     * Çubuğun çıkıntı dışındaki sabit dikdörtgen gövdesi.
+     */
+    private final RectF mBottomNavBarRect = new RectF();
+
+    /**
+     * Çıkıntı yolu ve çubuk dikdörtgeninin en son hangi değerlerle oluşturulduğu.
+     * Bu değerler değişmedikçe şekil yeniden oluşturulmaz.
+     */
+    private float mBumpPathKeyRadius = -1f, mBumpPathKeyBarTopY = -1f;
+    private int mBumpPathKeyWidth = -1, mBumpPathKeyHeight = -1;
+
+    /**
+     * Çıkıntı ile çubuk gövdesinin dikişsiz birleşmesi için çıkıntının alt kenarının
+     * çubuğun içine taştığı mesafe (piksel).
+     */
+    private static final float BUMP_PATH_OVERLAP_PX = 1f;
+
     /**
      * Arka plan çizimi için kullanılan Paint nesnesi.
      */
@@ -77,9 +195,86 @@ public class MervBottomNavigationView extends View {
     private Paint mBottomNavTextPaint;
 
     /**
-     * Daire animasyonunu kontrol eden ValueAnimator nesnesi.
+     * Daire konumu, ikon boyutları ve metin saydamlık/offset değerlerini
+     * tek bir kesirden hesaplayan geçiş motoru.
+     */
+    private final MervSelectionTransition mSelectionTransition = new MervSelectionTransition();
+
+    /**
+     * Seçili interpolatör tipine karşılık gelen, önbelleğe alınmış interpolatör nesnesi.
+     */
+    private TimeInterpolator mSelectionInterpolator = MervInterpolator.get(MervInterpolator.OVERSHOOT);
+
+    /**
+     * Geçişin karelerini ve bitişini alan dinleyici.
+     * Her karede doğrusal kesir interpolatörden geçirilip geçiş motoruna uygulanır.
+     * Geçiş yeni bir dokunuşla iptal edildiyse bitiş seçim olayını yaymaz.
+     */
+    private final MervTransitionDriver.Listener mSelectionDriverListener = new MervTransitionDriver.Listener() {
+        @Override
+        public void onTransitionFrame(float mLinearFraction) {
+            mAnimCenterX = mSelectionTransition.apply(
+                    mSelectionInterpolator.getInterpolation(mLinearFraction),
+                    mBottomNavItemIconSize,
+                    mBottomNavItemTextAlphas,
+                    mBottomNavItemTextOffsets
+            );
+            if (mTransitionScrollStartX != mTransitionScrollEndX) {
+                float mScrollFraction = Math.max(0f, Math.min(1f, mLinearFraction));
+                scrollTo(Math.round(mTransitionScrollStartX
+                        + (mTransitionScrollEndX - mTransitionScrollStartX) * mScrollFraction), 0);
+            }
+            InvalidateDamage(mTransitionDamageRect);
+        }
+
+        @Override
+        public void onTransitionEnd(boolean mCanceled) {
+            MervTrace.endAsync(
+                    MervTrace.ASYNC_SECTION_TRANSITION,
+                    System.identityHashCode(MervBottomNavigationView.this),
+                    mTransitionTraced
+            );
+            mTransitionTraced = false;
+            mCounters.increment(mCanceled
+                    ? MervNavCounters.TRANSITIONS_CANCELED
+                    : MervNavCounters.TRANSITIONS_COMPLETED);
+            if (mTransitionMetrics != null && mTransitionMetrics.isRecording()) {
+                if (mCanceled) {
+                    DispatchTransitionMetrics(true);
+                } else {
+                    mTransitionMetricsAwaitingFinalFrame = true;
+                }
+            }
+            if (mCanceled) return;
+            boolean mTraced = MervTrace.begin(MervTrace.SECTION_TRANSITION_END);
+            try {
+                mAnimCenterX = mSelectionTransition.finish(
+                        mBottomNavItemIconSize,
+                        mBottomNavItemTextAlphas,
+                        mBottomNavItemTextOffsets
+                );
+                if (mTransitionScrollStartX != mTransitionScrollEndX) {
+                    scrollTo(mTransitionScrollEndX, 0);
+                }
+                // Seçim görünümün boyutunu değiştirmez; düzen isteği yapılmaz
+                InvalidateView();
+                if (mListener != null) {
+                    mCounters.increment(MervNavCounters.LISTENER_DISPATCHES);
+                    mListener.onItemSelected(mSelectionTransition.getToIndex());
+                }
+            } finally {
+                MervTrace.end(mTraced);
+            }
+        }
+    };
+
+    /**
+     * Seçim geçişini süren tek zamanlayıcı. Varsayılan olarak Choreographer karelerine bağlıdır;
+     * setFrameScheduler ile elle ilerletilen bir zamanlayıcı verilebilir.
+     * Görünüm başına bir kez oluşturulur ve tüm dokunuşlarda yeniden kullanılır.
      */
-    private ValueAnimator mCircleAnimator;
+    private final MervTransitionDriver mSelectionDriver =
+            new MervTransitionDriver(new MervChoreographerFrameScheduler(), mSelectionDriverListener);
 
     /**
      * Alt gezinme çubuğunun arka plan rengi.
@@ -96,7 +291,7 @@ public class MervBottomNavigationView extends View {
      * Seçili dairenin rengi.
      * Varsayılan turuncu ton (#FF7043).
      */
-    private int mBottomNavCircleColor = Color.parseColor("#FF7043");
+    private int mBottomNavCircleColor = 0xFFFF7043;
 
     /**
      * Seçili dairenin gölge katmanının boyutu (piksel cinsinden).
@@ -113,7 +308,7 @@ public class MervBottomNavigationView extends View {
      * Seçilmeyen ikonların rengi.
      * Varsayılan turuncu ton (#FF7043).
      */
-    private int mBottomNavUnselectedIconColor = Color.parseColor("#FF7043");
+    private int mBottomNavUnselectedIconColor = 0xFFFF7043;
 
     /**
      * Seçili ikonların boyutu (piksel cinsinden).
@@ -159,47 +354,239 @@ public class MervBottomNavigationView extends View {
     private float mBottomNavTextAnimDistancePX;
 
     /**
-     * Menüdeki maksimum öğe sayısı.
-     * Şimdilik 3 olarak sabitlenmiştir.
+     * Öğe dizilerinin başlangıç kapasitesi. Daha fazla öğe eklendikçe diziler
+     * EnsureItemCapacity ile büyütülür; öğe sayısı için üst sınır yoktur.
      */
-    private static final int MAX_ITEMS_SIZE = 5;
+    private static final int INITIAL_ITEM_CAPACITY = 5;
 
     /**
      * Menü öğelerinin ikonlarını tutan Drawable dizisi.
      */
-    private final Drawable[] mBottomNavItemIcons = new Drawable[MAX_ITEMS_SIZE];
+    private Drawable[] mBottomNavItemIcons = new Drawable[INITIAL_ITEM_CAPACITY];
+
+    /**
+     * Resource ID ile verilen ikonlar; ikon ilk çizimde MervIconCache'ten çözülür (Drawable ile verilenlerde 0).
+     */
+    private int[] mBottomNavItemIconRes = new int[INITIAL_ITEM_CAPACITY];
+
 
     /**
      * Menü öğelerinin başlıklarını tutan String dizisi.
      */
-    private final String[] mBottomNavItemTitles = new String[MAX_ITEMS_SIZE];
+    private String[] mBottomNavItemTitles = new String[INITIAL_ITEM_CAPACITY];
 
     /**
      * Menü öğelerinin ikon boyutlarını tutan float dizisi.
      */
-    private final float[] mBottomNavItemIconSize = new float[MAX_ITEMS_SIZE];
+    private float[] mBottomNavItemIconSize = new float[INITIAL_ITEM_CAPACITY];
+
+    /**
+     * Her öğenin seçili ve seçilmemiş renk tonu önceden uygulanmış, mutate edilmiş ikon kopyaları.
+     * setTint her çağrıda yeni bir ColorStateList ve renk filtresi oluşturduğu için tonlar yalnızca
+     * kopyalar oluşturulurken ve ikon renkleri değiştiğinde uygulanır; çizim döngüsü yalnızca kopyayı seçer.
+     * ConstantState'i olmayan ikonlarda iki dizi aynı nesneyi tutar ve ton seçim değiştiğinde uygulanır.
+     */
+    private Drawable[] mBottomNavItemSelectedIcons = new Drawable[INITIAL_ITEM_CAPACITY];
+    private Drawable[] mBottomNavItemUnselectedIcons = new Drawable[INITIAL_ITEM_CAPACITY];
+
+    /**
+     * Kopyası oluşturulamayan (tek nesneli) ikonlara en son uygulanan renk.
+     */
+    private int[] mBottomNavItemAppliedTints = new int[INITIAL_ITEM_CAPACITY];
 
     /**
      * Menü metinlerinin saydamlık (alpha) değerlerini tutan float dizisi.
      * Değer aralığı 0.0f (tam saydam) ile 1.0f (tam görünür) arasındadır.
      */
-    private final float[] mBottomNavItemTextAlphas = new float[MAX_ITEMS_SIZE];
+    private float[] mBottomNavItemTextAlphas = new float[INITIAL_ITEM_CAPACITY];
 
     /**
      * Menü metinlerinin animasyon için yatay veya dikey offset değerlerini tutan float dizisi.
      */
-    private final float[] mBottomNavItemTextOffsets = new float[MAX_ITEMS_SIZE];
+    private float[] mBottomNavItemTextOffsets = new float[INITIAL_ITEM_CAPACITY];
+
+    /**
+     * Menü kaynağından gelen öğelerin android:id değerleri; manuel öğelerde View.NO_ID.
+     */
+    private int[] mBottomNavItemIds = new int[INITIAL_ITEM_CAPACITY];
+
+    /**
+     * UI iş parçacığında çizilen rozet değerleri: MervBadgeStore.BADGE_NONE, BADGE_DOT veya sayı.
+     * Öğe dizilerinden bağımsız büyür; rozetler indekse bağlıdır ve menü değişse de korunur.
+     */
+    private int[] mBottomNavItemBadges = new int[INITIAL_ITEM_CAPACITY];
+
+    /**
+     * Rozet güncellemelerinin herhangi bir iş parçacığından yazıldığı ve karede bir kez boşaltıldığı depo.
+     */
+    private final MervBadgeStore mBadgeStore = new MervBadgeStore();
+
+    /**
+     * Depodan boşaltılan son sayı sınırı; üstündeki sayılar "sınır+" olarak çizilir.
+     */
+    private int mBottomNavBadgeMaxCount = MervBadgeStore.DEFAULT_MAX_COUNT;
+
+    /**
+     * Rozet arka plan ve metin renkleri.
+     */
+    private int mBottomNavBadgeColor = 0xFFE53935;
+    private int mBottomNavBadgeTextColor = Color.WHITE;
+
+    private Paint mBottomNavBadgePaint;
+    private Paint mBottomNavBadgeTextPaint;
+
+    /**
+     * Rozet ölçüleri (piksel); kurucuda yoğunluk ve yazı ölçeğinden bir kez hesaplanır.
+     */
+    private float mBadgeHeight, mBadgePadding, mBadgeDotRadius, mBadgeTextBaselineOffset;
+
+    /**
+     * Önceden ölçülmüş rakam ('0'..'9') ve '+' genişlikleri; rozet metni çizimde ölçülmez.
+     */
+    private final float[] mBadgeDigitWidths = new float[10];
+    private float mBadgePlusWidth;
+
+    /**
+     * Rozet metninin yazıldığı, kare başına String üretmemek için yeniden kullanılan tampon ("9999+").
+     */
+    private final char[] mBadgeChars = new char[5];
+
+    /**
+     * FormatBadge'in son yazdığı metnin genişliği.
+     */
+    private float mBadgeTextWidth;
+
+    /**
+     * Rozeti değişen öğenin hasar alanı için yeniden kullanılan Rect.
+     */
+    private final Rect mBadgeDamageRect = new Rect();
+
+    /**
+     * Depodaki değişiklikleri UI tarafına uygular ve yalnızca değişen öğelerin alanını geçersiz kılar.
+     */
+    private final MervBadgeStore.Sink mBadgeSink = new MervBadgeStore.Sink() {
+        @Override
+        public void onBadgeChanged(int mIndex, int mValue) {
+            if (mIndex >= mBottomNavItemBadges.length) {
+                mBottomNavItemBadges = Arrays.copyOf(
+                        mBottomNavItemBadges,
+                        Math.max(mIndex + 1, mBottomNavItemBadges.length * 2)
+                );
+            }
+            int mPreviousValue = mBottomNavItemBadges[mIndex];
+            if (mPreviousValue == mValue) return;
+            mBottomNavItemBadges[mIndex] = mValue;
+            mCounters.increment(MervNavCounters.BADGE_CHANGES);
+            InvalidateBadge(mIndex, mPreviousValue, mValue);
+        }
+
+        @Override
+        public void onMaxCountChanged(int mMaxCount) {
+            int mPreviousMaxCount = mBottomNavBadgeMaxCount;
+            mBottomNavBadgeMaxCount = mMaxCount;
+            for (int mI = 0; mI < mBottomNavItemCount && mI < mBottomNavItemBadges.length; mI++) {
+                int mValue = mBottomNavItemBadges[mI];
+                if (mValue > Math.min(mPreviousMaxCount, mMaxCount)) {
+                    InvalidateBadge(mI, mValue, mValue);
+                }
+            }
+        }
+    };
+
+    /**
+     * Rozet deposunu UI iş parçacığında boşaltan geri çağırım; bir karede en fazla bir kez planlanır.
+     */
+    private final Runnable mBadgeFlushRunnable = new Runnable() {
+        @Override
+        public void run() {
+            mCounters.increment(MervNavCounters.BADGE_FLUSHES);
+            mBadgeStore.drain(mBadgeSink);
+        }
+    };
+
+    /**
+     * ITEM_WIDTH_WEIGHT modunda öğelerin ağırlıkları (varsayılan 1).
+     */
+    private float[] mBottomNavItemWeights = new float[INITIAL_ITEM_CAPACITY];
+
+    /**
+     * Geometri motoruna verilen ve ITEM_WIDTH_TITLE modunda ölçülen başlık genişlikleriyle doldurulan dizi.
+     */
+    private float[] mBottomNavItemLayoutWeights = new float[INITIAL_ITEM_CAPACITY];
+
+    /**
+     * Öğe genişlik modu: ITEM_WIDTH_EQUAL, ITEM_WIDTH_WEIGHT veya ITEM_WIDTH_TITLE.
+     */
+    private int mBottomNavItemWidthMode = ITEM_WIDTH_EQUAL;
+
+    /**
+     * Öğe ağırlıkları veya başlık ölçüleri son hesaplamadan bu yana değiştiyse true.
+     * Böylece başlıklar onMeasure'da değil, yalnızca değiştiklerinde yeniden ölçülür.
+     */
+    private boolean mItemWidthsDirty = true;
 
     /**
      * Menüde şu anda kaç tane öğe olduğu bilgisini tutar.
      */
     private int mBottomNavItemCount = 0;
 
+    /**
+     * Aynı anda görünen en fazla öğe sayısı. Öğe sayısı bunu aşarsa çubuk yatay kaydırılabilir
+     * taşma moduna geçer; 0 ise sınır yoktur ve tüm öğeler genişliğe sığdırılır.
+     */
+    private int mBottomNavMaxVisibleItems = 0;
+
+    /**
+     * Taşma modunda sürükleme ve savurma (fling) kaydırmasını yürüten kaydırıcı.
+     */
+    private OverScroller mScroller;
+
+    /**
+     * Taşma modunda savurma hızını ölçen izleyici; yalnızca bir sürükleme süresince tutulur.
+     */
+    private VelocityTracker mVelocityTracker;
+
+    /**
+     * Sürüklemenin başladığı kabul edilen mesafe ve savurma hız sınırları (ViewConfiguration).
+     */
+    private int mTouchSlop, mMinFlingVelocity, mMaxFlingVelocity;
+
+    /**
+     * Taşma modunda dokunmanın başladığı ve son görülen X (görünüm koordinatları).
+     */
+    private float mTouchDownX, mLastTouchX;
+
+    /**
+     * Taşma modunda geçerli dokunma bir sürüklemeye dönüştüyse true; bırakınca öğe seçilmez.
+     */
+    private boolean mIsDragging;
+
+    /**
+     * Seçim geçişinin başındaki ve sonundaki kaydırma değerleri; daire ve çıkıntı seçimle birlikte
+     * görünür alanda kalacak şekilde kaydırma geçişle aynı kesirle ilerler.
+     */
+    private int mTransitionScrollStartX, mTransitionScrollEndX;
+
     /**
      * Menü kaynak dosyasının (menu XML) resource ID'si.
      */
     private int mBottomNavMenuRes;
 
+    /**
+     * true ise XML'deki menü kaynağı yapıcıda değil, arka plan yürütücüsünde ayrıştırılır.
+     */
+    private boolean mBottomNavMenuAsync;
+
+    /**
+     * Asenkron menü ayrıştırması sürerken true; bu sırada yalnızca çubuk yer tutucu olarak çizilir.
+     */
+    private boolean mMenuLoading;
+
+    /**
+     * Her menü değişikliğinde artırılır; eski bir asenkron ayrıştırmanın sonucu bu değerle tanınıp atılır.
+     */
+    private int mMenuLoadGeneration;
+
     /**
      * Şu anda seçili olan menü öğesinin indeksi (0 tabanlı).
      */
@@ -222,14 +609,10 @@ public class MervBottomNavigationView extends View {
     private int mViewWidth, mViewHeight;
 
     /**
-     * Alt gezinme çubuğunun üst Y koordinatı ve yüksekliği (piksel cinsinden).
+     * Çubuk konumu, daire ve çıkıntı ölçüleri, ikon/metin konumları ve öğe merkezlerini
+     * bir kez hesaplayıp tutan geometri motoru. Çizim ve dokunma işlemleri yalnızca buradan okur.
      */
-    private float mBarTopY, mBarHeight;
-
-    /**
-     * Seçili dairenin yarıçapı ve Y koordinatı merkezi (piksel cinsinden).
-     */
-    private float mCircleRadius, mCircleCenterY;
+    private final MervNavGeometry mGeometry = new MervNavGeometry();
 
     /**
      * Animasyonun merkezi X koordinatı (daire hareketi için, piksel cinsinden).
@@ -241,6 +624,107 @@ public class MervBottomNavigationView extends View {
      */
     private OnNavItemSelectedListener mListener;
 
+    /**
+     * Geçiş metriklerini alan dinleyici; null ise metrik toplanmaz ve onDraw'da süre ölçülmez.
+     */
+    private OnNavTransitionMetricsListener mTransitionMetricsListener;
+
+    /**
+     * Dinleyici ayarlandığında bir kez oluşturulan ve her geçişte yeniden kullanılan metrik kaydı.
+     */
+    private MervTransitionMetrics mTransitionMetrics;
+
+    /**
+     * Geçiş bitti ve son (kesinleşmiş) kare henüz çizilmedi; metrikler o kare çizilince yayılır.
+     */
+    private boolean mTransitionMetricsAwaitingFinalFrame;
+
+    /**
+     * Süren geçiş için asenkron iz bölümü açıldıysa true; bitişte yalnızca o zaman kapatılır.
+     */
+    private boolean mTransitionTraced;
+
+    /**
+     * Çalışma zamanı sayaçları (yeniden çizim, kare, yol, Drawable, düzen, geçiş ve dinleyici).
+     */
+    private final MervNavCounters mCounters = new MervNavCounters();
+
+    /**
+     * Çizim modu: RENDER_MODE_HARDWARE veya RENDER_MODE_SOFTWARE.
+     */
+    private int mBottomNavRenderMode = RENDER_MODE_HARDWARE;
+
+    /**
+     * Donanım modunda kullanılan, önceden hesaplanmış gölge önbelleği.
+     */
+    private final MervShadowCache mShadowCache = new MervShadowCache();
+
+    /**
+     * Yazılım modunda ikonların renk tonu uygulanmış, boyut kovalarına göre hazırlanmış Bitmap'leri.
+     */
+    private final MervIconRasterCache mIconRasterCache = new MervIconRasterCache();
+
+    /**
+     * Gölge önbelleğini hazırlarken kullanılan, yerel koordinatlardaki çubuk şekli.
+     */
+    private final Path mBottomNavShadowOutlinePath = new Path();
+
+    /**
+     * Bekleyen yeniden çizim isteği yok.
+     */
+    private static final int INVALIDATE_NONE = 0;
+
+    /**
+     * Yalnızca mPendingDamageRect alanı için bekleyen yeniden çizim isteği var.
+     */
+    private static final int INVALIDATE_PARTIAL = 1;
+
+    /**
+     * Tüm görünüm için bekleyen yeniden çizim isteği var.
+     */
+    private static final int INVALIDATE_FULL = 2;
+
+    /**
+     * Bir sonraki onDraw'a kadar biriken yeniden çizim isteğinin türü.
+     * Aynı kare içinde gelen ek istekler bu sayede tek bir invalidate çağrısında birleştirilir.
+     */
+    private int mPendingInvalidate = INVALIDATE_NONE;
+
+    /**
+     * Bir sonraki onDraw'a kadar biriken hasar (damage) alanı.
+     */
+    private final Rect mPendingDamageRect = new Rect();
+
+    /**
+     * Devam eden geçişin etkilediği alan: eski ve yeni öğe merkezleri arasındaki yatay bant,
+     * çıkıntı genişliği ve gölge boşluğu kadar genişletilmiş haliyle. Geçiş başlarken bir kez hesaplanır.
+     */
+    private final Rect mTransitionDamageRect = new Rect();
+
+    /**
+     * onDraw sırasında Canvas'ın kırpma alanını okumak için yeniden kullanılan Rect.
+     */
+    private final Rect mDrawClipRect = new Rect();
+
+    /**
+     * İç içe BeginEdit sayısı; sıfırdan büyükken düzen ve yeniden çizim istekleri ertelenir.
+     */
+    private int mEditDepth;
+
+    /**
+     * Düzenleme sırasında ertelenen requestLayout ve yeniden çizim istekleri.
+     */
+    private boolean mEditLayoutRequested, mEditInvalidateRequested;
+
+    /**
+     * Son ölçümün girdileri ve sonucu. Ölçülen boyut yalnızca ölçüm spesifikasyonlarına ve geometri motorunun
+     * istenen yüksekliğine (ikon boyutları, metin boyutu ve üst boşluğu, yoğunluk) bağlıdır; bunlar
+     * değişmediyse onMeasure önceki sonucu yeniden kullanır. mMeasuredDesiredHeight -1 ise önbellek geçersizdir.
+     */
+    private int mMeasuredWidthSpec, mMeasuredHeightSpec;
+    private int mMeasuredDesiredHeight = -1;
+    private int mCachedMeasuredWidth, mCachedMeasuredHeight;
+
 
     public MervBottomNavigationView(Context mContext) {
         super(mContext);
@@ -271,8 +755,9 @@ public class MervBottomNavigationView extends View {
      *                      1. DisplayMetrics kullanılarak dp ve sp birimleri, cihazın yoğunluğuna göre
      *                      piksele dönüştürülür. Bu sayede farklı cihazlarda tutarlı boyutlar sağlanır.
      *                      <p>
-     *                      2. Eğer XML üzerinden AttributeSet sağlanmışsa, TypedArray ile
-     *                      tanımlanan tüm özel attribute değerleri okunur. Bu attribute’lar:
+     *                      2. Eğer XML üzerinden AttributeSet sağlanmışsa, tanımlanan tüm özel attribute
+     *                      değerleri MervNavStyle ile okunur. Aynı öznitelikler, tema ve yapılandırma için
+     *                      ayrıştırılmış stil örnekler arasında paylaşılır ve tek geçişte uygulanır. Bu attribute’lar:
      *                      <p>
      *                      - Arka plan rengi ve gölge büyüklüğü
      *                      - Seçili dairenin rengi ve gölge büyüklüğü
@@ -302,8 +787,9 @@ public class MervBottomNavigationView extends View {
      *                      7. Menü kaynağı belirtilmişse ilgili menü XML dosyasından
      *                      öğeler okunup menü oluşturulur.
      *                      <p>
-     *                      8. Gölge efektlerinin düzgün çalışması için View katman tipi
-     *                      yazılım katmanı (LAYER_TYPE_SOFTWARE) olarak ayarlanır.
+     *                      8. Çizim moduna göre (mBottomNavRenderMode) katman tipi ayarlanır.
+     *                      Varsayılan donanım modunda görünüm GPU ile çizilir ve gölgeler önceden
+     *                      hesaplanır; yazılım modunda eski davranış olan LAYER_TYPE_SOFTWARE kullanılır.
      *                      <p>
      *                      Böylece, alt navigasyon çubuğu görsel ve davranış olarak
      *                      tamamen tanımlanmış ve kullanıma hazır hale getirilir.
@@ -311,135 +797,24 @@ public class MervBottomNavigationView extends View {
 
     private void MervNavigationViewController(@Nullable AttributeSet mAttributeSet) {
         DisplayMetrics mDisplayMetrics = getResources().getDisplayMetrics();
-        float mDefaultBottomNavBackgroundElevationPx =
-                mBottomNavMorphBackgroundShadowLayerSize * mDisplayMetrics.density;
-        float mDefaultBottomNavCircleShadowElevationPx =
-                mBottomNavCircleShadowLayerSize * mDisplayMetrics.density;
-        float mDefaultBottomNavSelectedIconSizePx =
-                mBottomNavSelectedIconSize * mDisplayMetrics.density;
-        float mDefaultBottomNavUnselectedIconSizePx =
-                mBottomNavUnselectedIconSize * mDisplayMetrics.density;
-        float mDefaultBottomNavTextSizePx =
-                mBottomNavTextSize * mDisplayMetrics.scaledDensity;
-        float mDefaultBottomNavTextMarginTopPx =
-                mBottomNavTextMarginTop * mDisplayMetrics.density;
-
-        mBottomNavTextAnimDistancePX = dpToPx(20f);
-
-        if (mAttributeSet != null) {
-            TypedArray mTypedArray = getContext().obtainStyledAttributes(
-                    mAttributeSet,
-                    R.styleable.MervBottomNavigationView
-            );
+        mGeometry.setDensity(mDisplayMetrics.density);
+        mBottomNavTextAnimDistancePX = mGeometry.dp(MervNavGeometry.TEXT_ANIM_DISTANCE_DP);
 
-            mBottomNavMorphBackgroundColor = mTypedArray.getColor(
-                    R.styleable.MervBottomNavigationView_mBottomNavMorphBackgroundColor,
-                    Color.WHITE
-            );
-            mBottomNavMorphBackgroundShadowLayerSize = mTypedArray.getDimension(
-                    R.styleable.MervBottomNavigationView_mBottomNavMorphBackgroundShadowLayerSize,
-                    mDefaultBottomNavBackgroundElevationPx
-            );
-            mBottomNavCircleColor = mTypedArray.getColor(
-                    R.styleable.MervBottomNavigationView_mBottomNavCircleColor,
-                    Color.parseColor("#FF7043")
-            );
-            mBottomNavCircleShadowLayerSize = mTypedArray.getDimension(
-                    R.styleable.MervBottomNavigationView_mBottomNavCircleShadowLayerSize,
-                    mDefaultBottomNavCircleShadowElevationPx
-            );
-            mBottomNavSelectedIconColor = mTypedArray.getColor(
-                    R.styleable.MervBottomNavigationView_mBottomNavSelectedIconColor,
-                    Color.WHITE
-            );
-            mBottomNavUnselectedIconColor = mTypedArray.getColor(
-                    R.styleable.MervBottomNavigationView_mBottomNavUnselectedIconColor,
-                    Color.parseColor("#FF7043")
-            );
-            mBottomNavSelectedIconSize = mTypedArray.getDimension(
-                    R.styleable.MervBottomNavigationView_mBottomNavSelectedIconSize,
-                    mDefaultBottomNavSelectedIconSizePx
-            );
-            mBottomNavUnselectedIconSize = mTypedArray.getDimension(
-                    R.styleable.MervBottomNavigationView_mBottomNavUnselectedIconSize,
-                    mDefaultBottomNavUnselectedIconSizePx
-            );
-            mBottomNavTextColor = mTypedArray.getColor(
-                    R.styleable.MervBottomNavigationView_mBottomNavTextColor,
-                    Color.BLACK
-            );
-            mBottomNavTextSize = mTypedArray.getDimension(
-                    R.styleable.MervBottomNavigationView_mBottomNavTextSize,
-                    mDefaultBottomNavTextSizePx
-            );
-            mBottomNavTextFakeBold = mTypedArray.getBoolean(
-                    R.styleable.MervBottomNavigationView_mBottomNavTextFakeBold,
-                    true
-            );
-            int mTextChooseFontResourcesID = mTypedArray.getResourceId(
-                    R.styleable.MervBottomNavigationView_mBottomNavTextChooseFont,
-                    0
-            );
-            if (mTextChooseFontResourcesID != 0) {
-                try {
-                    Typeface tmpFont = androidx.core.content.res.ResourcesCompat.getFont(
-                            getContext(),
-                            mTextChooseFontResourcesID
-                    );
-                    if (tmpFont != null) {
-                        mBottomNavTextChooseFont = tmpFont;
-                    } else {
-                        mBottomNavTextChooseFont = Typeface.DEFAULT;
-                    }
-                } catch (Exception mException) {
-                    Log.e("MervBottomNavigationViewLog", "Geçersiz yazı tipi kaynağı: " + mException.getMessage());
-                    mBottomNavTextChooseFont = Typeface.DEFAULT;
-                }
-            } else {
-                mBottomNavTextChooseFont = Typeface.DEFAULT;
+        boolean mTraced = MervTrace.begin(MervTrace.SECTION_PARSE_ATTRIBUTES);
+        try {
+            if (mAttributeSet != null) {
+                ApplyStyle(MervNavStyle.obtain(getContext(), mAttributeSet));
             }
-            mBottomNavTextMarginTop = mTypedArray.getDimension(
-                    R.styleable.MervBottomNavigationView_mBottomNavTextMarginTop,
-                    mDefaultBottomNavTextMarginTopPx
-            );
-            mBottomNavAnimationInterpolatorType = mTypedArray.getInt(
-                    R.styleable.MervBottomNavigationView_mBottomNavAnimationInterpolator,
-                    mBottomNavAnimationInterpolatorType
-            );
-            mBottomNavSelectedIndex = mTypedArray.getInt(
-                    R.styleable.MervBottomNavigationView_mBottomNavSelectedIndex,
-                    mBottomNavSelectedIndex
-            );
-            mBottomNavItemAnimDuration = mTypedArray.getInt(
-                    R.styleable.MervBottomNavigationView_mBottomNavItemAnimationDuration,
-                    mBottomNavItemAnimDuration
-            );
-            mBottomNavMenuRes = mTypedArray.getResourceId(
-                    R.styleable.MervBottomNavigationView_mBottomNavMenuResource,
-                    mBottomNavMenuRes
-            );
-
-            mTypedArray.recycle();
+        } finally {
+            MervTrace.end(mTraced);
         }
 
         mBottomNavBackgroundPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         mBottomNavBackgroundPaint.setColor(mBottomNavMorphBackgroundColor);
         mBottomNavBackgroundPaint.setStyle(Paint.Style.FILL);
-        mBottomNavBackgroundPaint.setShadowLayer(
-                mBottomNavMorphBackgroundShadowLayerSize,
-                0,
-                0,
-                Color.parseColor("#33000000")
-        );
 
         mBottomNavCirclePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         mBottomNavCirclePaint.setColor(mBottomNavCircleColor);
-        mBottomNavCirclePaint.setShadowLayer(
-                mBottomNavCircleShadowLayerSize,
-                0,
-                0,
-                Color.parseColor("#33000000")
-        );
 
         mBottomNavTextPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         mBottomNavTextPaint.setColor(mBottomNavTextColor);
@@ -448,43 +823,170 @@ public class MervBottomNavigationView extends View {
         mBottomNavTextPaint.setTextAlign(Paint.Align.CENTER);
         mBottomNavTextPaint.setFakeBoldText(mBottomNavTextFakeBold);
 
-        for (int mI = 0; mI < MAX_ITEMS_SIZE; mI++) {
-            mBottomNavItemIcons[mI] = null;
-            mBottomNavItemTitles[mI] = null;
-            mBottomNavItemIconSize[mI] = mBottomNavUnselectedIconSize;
-            mBottomNavItemTextAlphas[mI] = 0f;
-            mBottomNavItemTextOffsets[mI] = mBottomNavTextAnimDistancePX;
-        }
+        mBottomNavBadgePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        mBottomNavBadgePaint.setColor(mBottomNavBadgeColor);
+
+        mBottomNavBadgeTextPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        mBottomNavBadgeTextPaint.setColor(mBottomNavBadgeTextColor);
+        mBottomNavBadgeTextPaint.setTypeface(Typeface.DEFAULT_BOLD);
+        mBottomNavBadgeTextPaint.setTextSize(
+                TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, BADGE_TEXT_SIZE_SP, mDisplayMetrics)
+        );
+        MeasureBadgeGlyphs();
+
+        ResetItems(0, mBottomNavItemIcons.length);
         mBottomNavItemCount = 0;
         mAnimCenterX = -1;
 
+        ViewConfiguration mViewConfiguration = ViewConfiguration.get(getContext());
+        mTouchSlop = mViewConfiguration.getScaledTouchSlop();
+        mMinFlingVelocity = mViewConfiguration.getScaledMinimumFlingVelocity();
+        mMaxFlingVelocity = mViewConfiguration.getScaledMaximumFlingVelocity();
+        mScroller = new OverScroller(getContext());
+        UpdateGeometry();
+
         if (isInEditMode() && mBottomNavMenuRes == 0) {
             setAddItem(
-                    ContextCompat.getDrawable(getContext(), R.drawable.ic_preview_home),
+                    R.drawable.ic_preview_home,
                     "Home"
             );
             setAddItem(
-                    ContextCompat.getDrawable(getContext(), R.drawable.ic_preview_search),
+                    R.drawable.ic_preview_search,
                     "Search"
             );
             setAddItem(
-                    ContextCompat.getDrawable(getContext(), R.drawable.ic_preview_add),
+                    R.drawable.ic_preview_add,
                     "Add"
             );
             setAddItem(
-                    ContextCompat.getDrawable(getContext(), R.drawable.ic_preview_reaction),
+                    R.drawable.ic_preview_reaction,
                     "Reaction"
             );
             setAddItem(
-                    ContextCompat.getDrawable(getContext(), R.drawable.ic_preview_favorite),
+                    R.drawable.ic_preview_favorite,
                     "Favorite"
             );
             setBottomNavSelectedIndex(2);
         }
         if (mBottomNavMenuRes != 0) {
-            setMenu(mBottomNavMenuRes);
+            if (mBottomNavMenuAsync && !isInEditMode()) {
+                setMenuAsync(mBottomNavMenuRes);
+            } else {
+                setMenu(mBottomNavMenuRes);
+            }
+        }
+        ApplyRenderMode();
+    }
+
+    /**
+     * XML'den ayrıştırılmış (ve örnekler arasında paylaşılan) stili tek geçişte alanlara yazar.
+     *
+     * @param mStyle Paylaşılan, değişmez stil
+     */
+    private void ApplyStyle(MervNavStyle mStyle) {
+        mBottomNavMorphBackgroundColor = mStyle.getBackgroundColor();
+        mBottomNavMorphBackgroundShadowLayerSize = mStyle.getBackgroundShadowLayerSize();
+        mBottomNavCircleColor = mStyle.getCircleColor();
+        mBottomNavCircleShadowLayerSize = mStyle.getCircleShadowLayerSize();
+        mBottomNavSelectedIconColor = mStyle.getSelectedIconColor();
+        mBottomNavUnselectedIconColor = mStyle.getUnselectedIconColor();
+        mBottomNavSelectedIconSize = mStyle.getSelectedIconSize();
+        mBottomNavUnselectedIconSize = mStyle.getUnselectedIconSize();
+        mBottomNavTextColor = mStyle.getTextColor();
+        mBottomNavTextSize = mStyle.getTextSize();
+        mBottomNavTextFakeBold = mStyle.isTextFakeBold();
+        mBottomNavTextChooseFont = mStyle.getTextFont();
+        mBottomNavTextMarginTop = mStyle.getTextMarginTop();
+        mBottomNavAnimationInterpolatorType = mStyle.getInterpolatorType();
+        mSelectionInterpolator = MervInterpolator.get(mBottomNavAnimationInterpolatorType);
+        mBottomNavSelectedIndex = mStyle.getSelectedIndex();
+        mBottomNavMaxVisibleItems = mStyle.getMaxVisibleItems();
+        mBottomNavItemAnimDuration = mStyle.getAnimationDuration();
+        mBottomNavMenuRes = mStyle.getMenuRes();
+        mBottomNavMenuAsync = mStyle.isMenuAsync();
+        mBottomNavRenderMode = mStyle.getRenderMode();
+        mBottomNavItemWidthMode = mStyle.getItemWidthMode();
+    }
+
+    /**
+     * Seçili çizim moduna göre katman tipini ve Paint gölgelerini ayarlar.
+     * <p>
+     * - RENDER_MODE_SOFTWARE: Görünüm yazılım katmanına alınır ve gölgeler
+     * Paint.setShadowLayer ile her karede çizilir.
+     * - RENDER_MODE_HARDWARE: Görünüm donanım hızlandırmalı kalır, Paint gölgeleri kaldırılır
+     * ve gölgeler MervShadowCache üzerinden önceden hesaplanmış Bitmap'lerle çizilir.
+     */
+    private void ApplyRenderMode() {
+        if (mBottomNavRenderMode == RENDER_MODE_SOFTWARE) {
+            mShadowCache.release();
+            setLayerType(LAYER_TYPE_SOFTWARE, null);
+        } else {
+            mIconRasterCache.clear();
+            setLayerType(LAYER_TYPE_NONE, null);
+        }
+        ApplyShadowLayers();
+    }
+
+    /**
+     * Arka plan ve daire Paint'lerinin gölge katmanlarını çizim moduna göre günceller.
+     */
+    private void ApplyShadowLayers() {
+        if (mBottomNavRenderMode == RENDER_MODE_SOFTWARE) {
+            mBottomNavBackgroundPaint.setShadowLayer(
+                    mBottomNavMorphBackgroundShadowLayerSize,
+                    0,
+                    0,
+                    SHADOW_LAYER_COLOR
+            );
+            mBottomNavCirclePaint.setShadowLayer(
+                    mBottomNavCircleShadowLayerSize,
+                    0,
+                    0,
+                    SHADOW_LAYER_COLOR
+            );
+        } else {
+            mBottomNavBackgroundPaint.clearShadowLayer();
+            mBottomNavCirclePaint.clearShadowLayer();
         }
-        setLayerType(LAYER_TYPE_SOFTWARE, null);
+    }
+
+    /**
+     * Çizim modunu ayarlar.
+     *
+     * @param mRenderMode RENDER_MODE_HARDWARE (varsayılan, GPU ile önceden hesaplanmış gölgeler)
+     *                    veya RENDER_MODE_SOFTWARE (yazılım katmanı ile Paint gölgeleri)
+     * @throws IllegalArgumentException Geçersiz bir mod verilirse fırlatılır.
+     */
+    public void setBottomNavRenderMode(int mRenderMode) {
+        CheckRenderMode(mRenderMode);
+        if (mBottomNavRenderMode == mRenderMode) return;
+        mBottomNavRenderMode = mRenderMode;
+        ApplyRenderMode();
+        InvalidateView();
+    }
+
+    /**
+     * Geçerli çizim modunu döndürür.
+     *
+     * @return RENDER_MODE_HARDWARE veya RENDER_MODE_SOFTWARE
+     */
+    public int getBottomNavRenderMode() {
+        return mBottomNavRenderMode;
+    }
+
+    /**
+     * Yazılım modunda ikon Bitmap'leri için ayrılan bellek bütçesini ayarlar.
+     * Bütçe aşıldığında en uzun süredir kullanılmayan Bitmap'ler çıkarılır; 0 önbelleği kapatır.
+     *
+     * @param mBudgetBytes Bütçe (bayt), varsayılan MervIconRasterCache.DEFAULT_BUDGET_BYTES
+     */
+    public void setBottomNavIconRasterCacheBudget(int mBudgetBytes) {
+        mIconRasterCache.setBudgetBytes(mBudgetBytes);
+        InvalidateView();
+    }
+
+    public int getBottomNavIconRasterCacheBudget() {
+        return mIconRasterCache.getBudgetBytes();
     }
 
     /**
@@ -495,7 +997,7 @@ public class MervBottomNavigationView extends View {
     public void setBottomNavBackgroundColor(int mColor) {
         mBottomNavMorphBackgroundColor = mColor;
         mBottomNavBackgroundPaint.setColor(mColor);
-        invalidate();
+        InvalidateView();
     }
 
     /**
@@ -506,7 +1008,8 @@ public class MervBottomNavigationView extends View {
     public void setBottomNavBackgroundElevation(float mElevationPx) {
         mBottomNavMorphBackgroundShadowLayerSize = mElevationPx;
         setElevation(mElevationPx);
-        invalidate();
+        ApplyShadowLayers();
+        InvalidateView();
     }
 
     /**
@@ -517,7 +1020,7 @@ public class MervBottomNavigationView extends View {
     public void setBottomNavCircleColor(int mColor) {
         mBottomNavCircleColor = mColor;
         mBottomNavCirclePaint.setColor(mColor);
-        invalidate();
+        InvalidateView();
     }
 
     /**
@@ -527,13 +1030,8 @@ public class MervBottomNavigationView extends View {
      */
     public void setBottomNavCircleShadowElevation(float mElevationPx) {
         mBottomNavCircleShadowLayerSize = mElevationPx;
-        mBottomNavCirclePaint.setShadowLayer(
-                mElevationPx,
-                0,
-                0,
-                Color.parseColor("#33000000")
-        );
-        invalidate();
+        ApplyShadowLayers();
+        InvalidateView();
     }
 
     /**
@@ -542,8 +1040,10 @@ public class MervBottomNavigationView extends View {
      * @param mColor Yeni seçili ikon rengi (Color int formatında)
      */
     public void setBottomNavSelectedIconColor(int mColor) {
+        if (mBottomNavSelectedIconColor == mColor) return;
         mBottomNavSelectedIconColor = mColor;
-        invalidate();
+        RetintItemIcons(true, mColor);
+        InvalidateView();
     }
 
     /**
@@ -552,8 +1052,10 @@ public class MervBottomNavigationView extends View {
      * @param mColor Yeni seçilmeyen ikon rengi (Color int formatında)
      */
     public void setBottomNavUnselectedIconColor(int mColor) {
+        if (mBottomNavUnselectedIconColor == mColor) return;
         mBottomNavUnselectedIconColor = mColor;
-        invalidate();
+        RetintItemIcons(false, mColor);
+        InvalidateView();
     }
 
     /**
@@ -563,8 +1065,11 @@ public class MervBottomNavigationView extends View {
      */
     public void setBottomNavSelectedIconSize(float mSizePx) {
         mBottomNavSelectedIconSize = mSizePx;
-        requestLayout();
-        invalidate();
+        mItemWidthsDirty = true;
+        ApplyItemIconSizes();
+        UpdateGeometry();
+        RequestLayoutIfSizeChanged();
+        InvalidateView();
     }
 
     /**
@@ -574,8 +1079,10 @@ public class MervBottomNavigationView extends View {
      */
     public void setBottomNavUnselectedIconSize(float mSizePx) {
         mBottomNavUnselectedIconSize = mSizePx;
-        requestLayout();
-        invalidate();
+        ApplyItemIconSizes();
+        UpdateGeometry();
+        RequestLayoutIfSizeChanged();
+        InvalidateView();
     }
 
     /**
@@ -586,7 +1093,7 @@ public class MervBottomNavigationView extends View {
     public void setBottomNavTextColor(int mColor) {
         mBottomNavTextColor = mColor;
         mBottomNavTextPaint.setColor(mColor);
-        invalidate();
+        InvalidateView();
     }
 
     /**
@@ -597,8 +1104,10 @@ public class MervBottomNavigationView extends View {
     public void setBottomNavTextSize(float mTextSizePx) {
         mBottomNavTextSize = mTextSizePx;
         mBottomNavTextPaint.setTextSize(mTextSizePx);
-        requestLayout();
-        invalidate();
+        mItemWidthsDirty = true;
+        UpdateGeometry();
+        RequestLayoutIfSizeChanged();
+        InvalidateView();
     }
 
     /**
@@ -609,7 +1118,11 @@ public class MervBottomNavigationView extends View {
     public void setBottomNavTextFakeBold(boolean mIsFakeBold) {
         mBottomNavTextFakeBold = mIsFakeBold;
         mBottomNavTextPaint.setFakeBoldText(mIsFakeBold);
-        invalidate();
+        if (mBottomNavItemWidthMode == ITEM_WIDTH_TITLE) {
+            mItemWidthsDirty = true;
+            UpdateGeometry();
+        }
+        InvalidateView();
     }
 
     /**
@@ -620,7 +1133,12 @@ public class MervBottomNavigationView extends View {
     public void setBottomNavTextFont(Typeface mTypeface) {
         mBottomNavTextChooseFont = mTypeface;
         mBottomNavTextPaint.setTypeface(mTypeface);
-        invalidate();
+        if (mBottomNavItemWidthMode == ITEM_WIDTH_TITLE) {
+            mItemWidthsDirty = true;
+        }
+        // Yazı tipi ascent değerini de değiştirir; metin konumu için geometri her modda güncellenir
+        UpdateGeometry();
+        InvalidateView();
     }
 
     /**
@@ -630,20 +1148,20 @@ public class MervBottomNavigationView extends View {
      */
     public void setBottomNavTextMarginTop(float mMarginPx) {
         mBottomNavTextMarginTop = mMarginPx;
-        requestLayout();
-        invalidate();
+        UpdateGeometry();
+        RequestLayoutIfSizeChanged();
+        InvalidateView();
     }
 
     /**
      * Animasyon interpolatör tipini ayarlar.
      *
-     * @param mType Animasyon interpolatör tipi (enum int)
+     * @param mType Animasyon interpolatör tipi (enum int) veya
+     *              MervInterpolator.registerCubicBezier / registerCurve ile alınmış özel tip
      */
     public void setBottomNavAnimationInterpolator(int mType) {
         mBottomNavAnimationInterpolatorType = mType;
-        if (mCircleAnimator != null) {
-            mCircleAnimator.setInterpolator(MervInterpolator.get(mType, getContext()));
-        }
+        mSelectionInterpolator = MervInterpolator.get(mType);
     }
 
     /**
@@ -652,14 +1170,144 @@ public class MervBottomNavigationView extends View {
      * @param mIndex Seçili olacak menü öğesinin 0 tabanlı indeksi
      */
     public void setBottomNavSelectedIndex(int mIndex) {
-        if (mIndex < 0 || mIndex >= mBottomNavItemCount) return;
-        for (int mI = 0; mI < MAX_ITEMS_SIZE; mI++) {
-            mBottomNavItemTextAlphas[mI] = 0f;
-            mBottomNavItemTextOffsets[mI] = mBottomNavTextAnimDistancePX;
+        if (mMenuLoading && mIndex >= 0) {
+            // Menü hazır olduğunda geçerliyse uygulanır
+            mBottomNavSelectedIndex = mIndex;
+            return;
         }
+        if (mIndex < 0 || mIndex >= mBottomNavItemCount) return;
         AnimationSelectionToIndex(mIndex);
     }
 
+    /**
+     * Öğe genişliklerinin nasıl belirleneceğini ayarlar.
+     * <p>
+     * Genişlikler yalnızca mod, ağırlıklar, başlıklar veya yazı tipi değiştiğinde bir kez hesaplanıp
+     * geometri motorundaki önek toplamına yazılır; dokunma ve çizim ikili arama ile bu diziden okur.
+     *
+     * @param mWidthMode ITEM_WIDTH_EQUAL, ITEM_WIDTH_WEIGHT veya ITEM_WIDTH_TITLE
+     */
+    public void setBottomNavItemWidthMode(int mWidthMode) {
+        CheckItemWidthMode(mWidthMode);
+        if (mBottomNavItemWidthMode == mWidthMode) return;
+        mBottomNavItemWidthMode = mWidthMode;
+        ApplyItemWidthChange();
+    }
+
+    /**
+     * @return ITEM_WIDTH_EQUAL, ITEM_WIDTH_WEIGHT veya ITEM_WIDTH_TITLE
+     */
+    public int getBottomNavItemWidthMode() {
+        return mBottomNavItemWidthMode;
+    }
+
+    /**
+     * @param mIndex Öğe indeksi (0 tabanlı)
+     * @return Öğenin menü kaynağındaki android:id değeri; manuel eklenen öğelerde View.NO_ID
+     */
+    public int getBottomNavItemId(int mIndex) {
+        if (mIndex < 0 || mIndex >= mBottomNavItemCount) {
+            throw new IndexOutOfBoundsException("Geçersiz öğe indeksi: " + mIndex);
+        }
+        return mBottomNavItemIds[mIndex];
+    }
+
+    /**
+     * @param mItemId Menü kaynağındaki android:id değeri
+     * @return Bu id'ye sahip öğenin indeksi; yoksa -1
+     */
+    public int getBottomNavItemIndex(int mItemId) {
+        if (mItemId == View.NO_ID) return -1;
+        for (int mI = 0; mI < mBottomNavItemCount; mI++) {
+            if (mBottomNavItemIds[mI] == mItemId) return mI;
+        }
+        return -1;
+    }
+
+    /**
+     * Bir öğenin ITEM_WIDTH_WEIGHT modundaki genişlik ağırlığını ayarlar.
+     *
+     * @param mIndex  Öğe indeksi (0 tabanlı)
+     * @param mWeight Ağırlık (0'dan büyük)
+     */
+    public void setBottomNavItemWeight(int mIndex, float mWeight) {
+        CheckItemWeight(mWeight);
+        if (mIndex < 0 || mIndex >= mBottomNavItemCount) {
+            throw new IndexOutOfBoundsException("Geçersiz öğe indeksi: " + mIndex);
+        }
+        if (mBottomNavItemWeights[mIndex] == mWeight) return;
+        mBottomNavItemWeights[mIndex] = mWeight;
+        if (mBottomNavItemWidthMode == ITEM_WIDTH_WEIGHT) {
+            ApplyItemWidthChange();
+        }
+    }
+
+    /**
+     * Çizim modu, genişlik modu ve görünür öğe sınırı doğrulamaları; setter'lar ve MervNavEditor
+     * (değer kaydedilirken, çağıran iş parçacığında) tarafından paylaşılır.
+     */
+    static void CheckRenderMode(int mRenderMode) {
+        if (mRenderMode != RENDER_MODE_HARDWARE && mRenderMode != RENDER_MODE_SOFTWARE) {
+            throw new IllegalArgumentException("Geçersiz çizim modu: " + mRenderMode);
+        }
+    }
+
+    static void CheckItemWidthMode(int mWidthMode) {
+        if (mWidthMode != ITEM_WIDTH_EQUAL
+                && mWidthMode != ITEM_WIDTH_WEIGHT
+                && mWidthMode != ITEM_WIDTH_TITLE) {
+            throw new IllegalArgumentException("Geçersiz öğe genişlik modu: " + mWidthMode);
+        }
+    }
+
+    static void CheckMaxVisibleItems(int mMaxVisibleItems) {
+        if (mMaxVisibleItems < 0) {
+            throw new IllegalArgumentException("Görünür öğe sınırı negatif olamaz: " + mMaxVisibleItems);
+        }
+    }
+
+    private static void CheckItemWeight(float mWeight) {
+        if (!(mWeight > 0f) || Float.isInfinite(mWeight)) {
+            throw new IllegalArgumentException("Öğe ağırlığı 0'dan büyük ve sonlu olmalı: " + mWeight);
+        }
+    }
+
+    /**
+     * Öğe genişlikleri değiştiğinde geometriyi yeniden hesaplar; daire ve kaydırma (ya da süren geçişin
+     * hedefi) seçili öğenin yeni merkezine taşınır.
+     */
+    private void ApplyItemWidthChange() {
+        mItemWidthsDirty = true;
+        UpdateGeometry();
+        SyncSelectionWithGeometry();
+        InvalidateView();
+    }
+
+    /**
+     * Aynı anda görünen en fazla öğe sayısını ayarlar.
+     * <p>
+     * Öğe sayısı bu sınırı aşarsa her öğe görünüm genişliğinin sınıra bölümü kadar yer kaplar ve
+     * çubuk yatay olarak sürüklenip savrulabilir; seçim değiştiğinde daire ve çıkıntı seçili öğeyle
+     * birlikte görünür alana kaydırılır. Çizim ve dokunma yalnızca görünür öğeleri dolaşır.
+     *
+     * @param mMaxVisibleItems Görünür öğe sınırı; 0 ise sınır yoktur (varsayılan)
+     */
+    public void setBottomNavMaxVisibleItems(int mMaxVisibleItems) {
+        CheckMaxVisibleItems(mMaxVisibleItems);
+        if (mBottomNavMaxVisibleItems == mMaxVisibleItems) return;
+        mBottomNavMaxVisibleItems = mMaxVisibleItems;
+        UpdateGeometry();
+        SyncSelectionWithGeometry();
+        InvalidateView();
+    }
+
+    /**
+     * @return Görünür öğe sınırı; 0 ise sınır yoktur
+     */
+    public int getBottomNavMaxVisibleItems() {
+        return mBottomNavMaxVisibleItems;
+    }
+
     /**
      * Menü öğesi animasyon süresini ayarlar.
      *
@@ -669,6 +1317,106 @@ public class MervBottomNavigationView extends View {
         mBottomNavItemAnimDuration = mDurationMs;
     }
 
+    /**
+     * Seçim geçişlerini süren kare zamanlayıcısını ayarlar.
+     * <p>
+     * Varsayılan zamanlayıcı Choreographer karelerini ve sistemin animatör süre ölçeğini kullanır.
+     * Testler ve benchmark'lar MervManualFrameScheduler vererek geçişi elle, tam istenen
+     * kesirlere ilerletebilir. Devam eden geçiş yeni zamanlayıcının karelerinde sürer.
+     *
+     * @param mScheduler Kare zamanlayıcısı; null ise varsayılan Choreographer zamanlayıcısına dönülür
+     */
+    public void setFrameScheduler(@Nullable MervFrameScheduler mScheduler) {
+        if (mScheduler == null) {
+            if (mSelectionDriver.getScheduler() instanceof MervChoreographerFrameScheduler) return;
+            mScheduler = new MervChoreographerFrameScheduler();
+        }
+        mSelectionDriver.setScheduler(mScheduler);
+    }
+
+    /**
+     * @return Seçim geçişlerini süren kare zamanlayıcısı
+     */
+    @NonNull
+    public MervFrameScheduler getFrameScheduler() {
+        return mSelectionDriver.getScheduler();
+    }
+
+    /**
+     * Görünümün çalışma zamanı sayaçlarını döndürür.
+     * <p>
+     * Sayaçlar her zaman açıktır ve canlı nesnedir; periyodik örnekleme için
+     * getCounters().snapshotAndReset(mSnapshot) ile okunup sıfırlanabilir. UI iş parçacığından okunmalıdır.
+     *
+     * @return Canlı sayaç nesnesi
+     */
+    @NonNull
+    public MervNavCounters getCounters() {
+        return mCounters;
+    }
+
+    /**
+     * Birden çok özelliği tek seferde değiştirmek için bir düzenleyici döndürür.
+     * <p>
+     * Setter'ların her biri kendi düzen ve yeniden çizim isteğini yapar. Düzenleyici ise değişiklikleri toplar
+     * ve apply() ile hepsini en fazla bir requestLayout ve bir invalidate ile uygular.
+     * Herhangi bir iş parçacığından çağrılabilir; apply() gerekiyorsa işlemi UI iş parçacığına post eder.
+     * <pre>
+     * mView.edit()
+     *         .setBottomNavTextSize(mTextSizePx)
+     *         .setBottomNavSelectedIconSize(mIconSizePx)
+     *         .setBottomNavCircleColor(mAccent)
+     *         .apply();
+     * </pre>
+     *
+     * @return Yeni düzenleyici
+     */
+    @NonNull
+    public MervNavEditor edit() {
+        return new MervNavEditor(this);
+    }
+
+    /**
+     * Bir düzenleme başlatır; EndEdit'e kadar requestLayout ve yeniden çizim istekleri yalnızca işaretlenir.
+     * UI iş parçacığından çağrılmalıdır.
+     */
+    void BeginEdit() {
+        mEditDepth++;
+    }
+
+    /**
+     * Düzenlemeyi bitirir; ertelenen istekleri tek bir requestLayout ve tek bir tam yeniden çizimle yapar.
+     */
+    void EndEdit() {
+        if (--mEditDepth > 0) return;
+        boolean mLayout = mEditLayoutRequested;
+        boolean mInvalidate = mEditInvalidateRequested;
+        mEditLayoutRequested = false;
+        mEditInvalidateRequested = false;
+        if (mLayout) {
+            requestLayout();
+        }
+        if (mLayout || mInvalidate) {
+            InvalidateView();
+        }
+    }
+
+    /**
+     * Her düzen isteğini sayar; düzenleme sırasında istek yalnızca işaretlenir ve EndEdit'te bir kez yapılır.
+     * View kurucusu da requestLayout çağırdığı için o anda henüz atanmamış sayaç nesnesi atlanır.
+     */
+    @Override
+    public void requestLayout() {
+        if (mEditDepth > 0) {
+            mEditLayoutRequested = true;
+            return;
+        }
+        if (mCounters != null) {
+            mCounters.increment(MervNavCounters.LAYOUT_REQUESTS);
+        }
+        super.requestLayout();
+    }
+
 
     /**
      * Menü kaynağını (menu XML dosyasını) yükler ve menü öğelerini hazırlar.
@@ -681,8 +1429,9 @@ public class MervBottomNavigationView extends View {
      *                                  ya da öğelerde ikon veya başlık eksikse fırlatılır.
      *                                  <p>
      *                                  Detaylar:
-     *                                  - Verilen menü resource dosyası PopupMenu kullanılarak şişirilir.
-     *                                  - Menüdeki öğelerin sayısı MAX_ITEMS_SIZE'ı geçmemelidir.
+     *                                  - Menü dosyasından yalnızca id, başlık ve ikon okunur (MervMenuParser);
+     *                                  PopupMenu / MenuInflater kullanılmaz.
+     *                                  - Öğe sayısı için üst sınır yoktur; diziler gerektiğinde büyütülür.
      *                                  - Her menü öğesinin bir ikonu ve başlığı olmalıdır.
      *                                  - Seçili öğe indeksi geçersizse sıfırlanır.
      *                                  - Öğelerin ikonları, başlıkları, boyutları ve animasyon alfa/offset değerleri
@@ -691,66 +1440,191 @@ public class MervBottomNavigationView extends View {
      *                                  - Son olarak görünüm yeniden çizilir ve düzen talebi gönderilir.
      */
     public void setMenu(int mMenuResourcesID) {
+        boolean mTraced = MervTrace.begin(MervTrace.SECTION_SET_MENU);
+        try {
+            ApplyMenu(mMenuResourcesID);
+        } finally {
+            MervTrace.end(mTraced);
+        }
+    }
+
+    /**
+     * setMenu() gövdesi: menüyü ayrıştırır, doğrular ve öğeleri hazırlar.
+     * İz bölümünün her çıkışta (istisnalar dahil) kapanması için ayrı tutulur.
+     *
+     * @param mMenuResourcesID Menü kaynak dosyasının resource ID'si.
+     */
+    private void ApplyMenu(int mMenuResourcesID) {
+        CheckMenuResource(mMenuResourcesID);
+        mMenuLoadGeneration++;
+        mMenuLoading = false;
+        ApplyMenuModel(MervMenuParser.parse(getContext(), mMenuResourcesID));
+    }
+
+    /**
+     * Menü kaynağını arka planda ayrıştırır; MervMenuParser'ın paylaşılan yürütücüsünü kullanır.
+     *
+     * @param mMenuResourcesID Menü kaynak dosyasının resource ID'si.
+     * @see #setMenuAsync(int, Executor, OnNavMenuLoadListener)
+     */
+    public void setMenuAsync(int mMenuResourcesID) {
+        setMenuAsync(mMenuResourcesID, MervMenuParser.getDefaultExecutor(), null);
+    }
+
+    /**
+     * Menü kaynağını verilen yürütücüde ayrıştırır; hatalar yalnızca günlüğe yazılır.
+     *
+     * @param mMenuResourcesID Menü kaynak dosyasının resource ID'si.
+     * @param mExecutor        Ayrıştırmanın ve ikon yüklemenin yapılacağı yürütücü
+     * @see #setMenuAsync(int, Executor, OnNavMenuLoadListener)
+     */
+    public void setMenuAsync(int mMenuResourcesID, @NonNull Executor mExecutor) {
+        setMenuAsync(mMenuResourcesID, mExecutor, null);
+    }
+
+    /**
+     * Menü kaynağını verilen yürütücüde ayrıştırır ve sonucu UI iş parçacığında uygular.
+     * <p>
+     * - Ayrıştırma sürerken mevcut öğeler kaldırılır ve yalnızca çubuk yer tutucu olarak çizilir;
+     * görünümün yüksekliği öğe sayısına bağlı olmadığından menü geldiğinde düzen kaymaz.
+     * - Bu sırada setBottomNavSelectedIndex() ile verilen indeks menü geldiğinde uygulanır.
+     * - Menü hazır olmadan setMenu(), setMenuAsync() veya ClearReloadItems() çağrılırsa eski sonuç atılır.
+     * - Ayrıştırma ve doğrulama hataları fırlatılmaz: görünüm boş kalır, hata günlüğe yazılır ve
+     * dinleyiciye setMenu()'nün fırlatacağı istisnayla bildirilir. Kaynak kimliği 0 ise veya manuel öğe
+     * varsa istisna, setMenu()'de olduğu gibi çağrı sırasında fırlatılır.
+     *
+     * @param mMenuResourcesID Menü kaynak dosyasının resource ID'si.
+     * @param mExecutor        Ayrıştırmanın ve ikon yüklemenin yapılacağı yürütücü
+     * @param mLoadListener    Sonucu UI iş parçacığında alacak dinleyici veya null; eski sonuçlar bildirilmez
+     */
+    public void setMenuAsync(int mMenuResourcesID, @NonNull Executor mExecutor,
+                             @Nullable OnNavMenuLoadListener mLoadListener) {
+        CheckMenuResource(mMenuResourcesID);
+        final int mGeneration = ++mMenuLoadGeneration;
+        final Context mContext = getContext();
+
+        mBottomNavMenuRes = mMenuResourcesID;
+        mMenuLoading = true;
+        ResetItems(0, mBottomNavItemIcons.length);
+        mBottomNavItemCount = 0;
+        mItemWidthsDirty = true;
+        UpdateGeometry();
+        scrollTo(0, 0);
+        InvalidateView();
+
+        mExecutor.execute(() -> {
+            MervMenuModel mModel = null;
+            RuntimeException mError = null;
+            try {
+                mModel = MervMenuParser.parse(mContext, mMenuResourcesID);
+                // İkonlar paylaşılan önbelleğe burada yüklenir; ilk çizim yalnızca durumu kopyalar
+                for (int mI = 0; mI < mModel.getCount(); mI++) {
+                    MervIconCache.preload(mContext, mModel.getIconRes(mI));
+                }
+            } catch (RuntimeException mException) {
+                mError = mException;
+            }
+            final MervMenuModel mResult = mModel;
+            final RuntimeException mResultError = mError;
+            post(() -> OnMenuParsed(mGeneration, mMenuResourcesID, mResult, mResultError, mLoadListener));
+        });
+    }
+
+    /**
+     * Asenkron ayrıştırmanın sonucunu UI iş parçacığında uygular; bu arada menü değiştiyse sonucu atar.
+     */
+    private void OnMenuParsed(int mGeneration, int mMenuResourcesID, MervMenuModel mModel,
+                              RuntimeException mError, OnNavMenuLoadListener mLoadListener) {
+        if (mGeneration != mMenuLoadGeneration) return;
+        mMenuLoading = false;
+        if (mError == null) {
+            try {
+                CheckMenuModel(mModel);
+            } catch (RuntimeException mException) {
+                mError = mException;
+            }
+        }
+        if (mError != null) {
+            // UI iş parçacığında fırlatılan istisna yakalanamaz ve uygulamayı çökertir; boş durum korunur
+            mBottomNavMenuRes = 0;
+            Log.w(TAG, "Asenkron menü yüklenemedi: " + mError.getMessage(), mError);
+            InvalidateView();
+            if (mLoadListener != null) mLoadListener.onMenuLoadFailed(mMenuResourcesID, mError);
+            return;
+        }
+        boolean mTraced = MervTrace.begin(MervTrace.SECTION_SET_MENU);
+        try {
+            ApplyMenuModel(mModel);
+        } finally {
+            MervTrace.end(mTraced);
+        }
+        if (mLoadListener != null) mLoadListener.onMenuLoaded(mMenuResourcesID);
+    }
+
+    /**
+     * @return Asenkron menü ayrıştırması sürüyorsa true
+     */
+    public boolean isMenuLoading() {
+        return mMenuLoading;
+    }
+
+    /**
+     * setMenu() ve setMenuAsync() için ortak ön koşullar.
+     */
+    private void CheckMenuResource(int mMenuResourcesID) {
         if (mMenuResourcesID == 0) {
             throw new IllegalArgumentException(
                     "Menü kaynak kimliği 0 olamaz. Lütfen geçerli bir menü kaynağı sağlayın."
             );
         }
 
-        if (mBottomNavItemCount > 0 && mBottomNavItemIcons[0] != null) {
+        if (mBottomNavMenuRes == 0 && mBottomNavItemCount > 0) {
             throw new IllegalStateException(
                     "Manuel olarak menü öğesi eklenmiş. " +
                             "Lütfen önce clearItems() ile manuel öğeleri temizleyin ve ardından setMenu() çağırın."
             );
         }
+    }
 
-        PopupMenu mPopupMenu = new PopupMenu(getContext(), this);
-        mPopupMenu.getMenuInflater().inflate(mMenuResourcesID, mPopupMenu.getMenu());
-        android.view.Menu mMenu = mPopupMenu.getMenu();
-
-        int rawCount = mMenu.size();
-        if (rawCount == 0) {
+    /**
+     * Ayrıştırılmış menü modelinde en az bir geçerli öğe olduğunu doğrular.
+     */
+    private static void CheckMenuModel(MervMenuModel mModel) {
+        if (mModel.getRawCount() == 0) {
             throw new IllegalStateException(
                     "Menü kaynağında hiçbir öğe yok. En az bir öğe gerekli."
             );
         }
 
-        List<Drawable> validIcons = new ArrayList<>();
-        List<String> validTitles = new ArrayList<>();
-
-        for (int i = 0; i < rawCount; i++) {
-            android.view.MenuItem mItem = mMenu.getItem(i);
-            Drawable mIcon = mItem.getIcon();
-            CharSequence mTitle = mItem.getTitle();
-            if (mIcon == null || mTitle == null || mTitle.toString().trim().isEmpty()) {
-                Log.w("MervBNV", "Menü öğesi " + i + " geçersiz. Atlanıyor.");
-                continue;
-            }
-            validIcons.add(mIcon);
-            validTitles.add(mTitle.toString());
-        }
-
-        int mCount = validIcons.size();
-        if (mCount == 0) {
+        if (mModel.getCount() == 0) {
             throw new IllegalStateException(
                     "Geçerli hiçbir menü öğesi bulunamadı. Lütfen en az bir tane ikon+başlık içeren öğe ekleyin."
             );
         }
-        if (mCount > MAX_ITEMS_SIZE) {
-            throw new IllegalStateException(
-                    "Menü kaynağında çok fazla geçerli öğe var (" + mCount + "). İzin verilen maksimum değer "
-                            + MAX_ITEMS_SIZE
-            );
-        }
+    }
 
+    /**
+     * Ayrıştırılmış menü modelini doğrular ve öğe dizilerine yazar. UI iş parçacığında çağrılmalıdır.
+     */
+    private void ApplyMenuModel(MervMenuModel mModel) {
+        CheckMenuModel(mModel);
+        int mCount = mModel.getCount();
+        mBottomNavMenuRes = mModel.getMenuRes();
+        mIconRasterCache.clear();
+        EnsureItemCapacity(mCount);
         mBottomNavItemCount = mCount;
         if (mBottomNavSelectedIndex < 0 || mBottomNavSelectedIndex >= mCount) {
             mBottomNavSelectedIndex = 0;
         }
 
         for (int mI = 0; mI < mCount; mI++) {
-            mBottomNavItemIcons[mI] = validIcons.get(mI);
-            mBottomNavItemTitles[mI] = validTitles.get(mI);
+            mBottomNavItemIcons[mI] = null;
+            mBottomNavItemIconRes[mI] = mModel.getIconRes(mI);
+            mBottomNavItemSelectedIcons[mI] = null;
+            mBottomNavItemUnselectedIcons[mI] = null;
+            mBottomNavItemTitles[mI] = mModel.getTitle(mI);
+            mBottomNavItemIds[mI] = mModel.getId(mI);
+            mBottomNavItemWeights[mI] = 1f;
             if (mI == mBottomNavSelectedIndex) {
                 mBottomNavItemIconSize[mI] = mBottomNavSelectedIconSize;
                 mBottomNavItemTextAlphas[mI] = 1f;
@@ -762,17 +1636,14 @@ public class MervBottomNavigationView extends View {
             }
         }
 
-        for (int mI = mCount; mI < MAX_ITEMS_SIZE; mI++) {
-            mBottomNavItemIcons[mI] = null;
-            mBottomNavItemTitles[mI] = null;
-            mBottomNavItemIconSize[mI] = mBottomNavUnselectedIconSize;
-            mBottomNavItemTextAlphas[mI] = 0f;
-            mBottomNavItemTextOffsets[mI] = mBottomNavTextAnimDistancePX;
-        }
+        ResetItems(mCount, mBottomNavItemIcons.length);
 
+        mItemWidthsDirty = true;
+        UpdateGeometry();
         mAnimCenterX = ComputeCenterXForIndex(mBottomNavSelectedIndex);
-        requestLayout();
-        invalidate();
+        ScrollToSelection();
+        RequestLayoutIfSizeChanged();
+        InvalidateView();
     }
 
     /**
@@ -782,17 +1653,65 @@ public class MervBottomNavigationView extends View {
      * @param mTitle Eklenecek öğenin başlığı (String).
      * @throws IllegalStateException Eğer bileşene daha önce menü atanmışsa (XML veya kod ile),
      *                               manuel öğe eklenmesine izin verilmez.
-     * @throws IllegalStateException Eğer maksimum öğe sayısı (MAX_ITEMS_SIZE) aşılırsa fırlatılır.
      *                               <p>
      *                               Detaylar:
      *                               - Menü daha önce setMenu() ile atanmışsa, manuel ekleme engellenir.
-     *                               - Maksimum öğe sayısı aşılırsa hata verir.
+     *                               - Öğe dizileri gerektiğinde büyütülür; öğe sayısı için üst sınır yoktur.
      *                               - Yeni öğe dizilere eklenir ve seçili indekse göre ikon boyutu,
      *                               metin saydamlığı ve animasyon offset değerleri ayarlanır.
      *                               - Eğer eklenen ilk öğe ise, o otomatik seçili yapılır.
      *                               - Son olarak görünüm yeniden düzenlenir ve çizim yenilenir.
      */
     public void setAddItem(Drawable mIcon, String mTitle) {
+        setAddItem(mIcon, mTitle, 1f);
+    }
+
+    /**
+     * Menüye, ITEM_WIDTH_WEIGHT modunda verilen ağırlıkla orantılı genişlikte yeni bir öğe ekler.
+     *
+     * @param mIcon   Eklenecek öğenin ikonu (Drawable).
+     * @param mTitle  Eklenecek öğenin başlığı (String).
+     * @param mWeight Öğenin genişlik ağırlığı (0'dan büyük)
+     * @see #setAddItem(Drawable, String)
+     */
+    public void setAddItem(Drawable mIcon, String mTitle, float mWeight) {
+        AddItem(mIcon, 0, mTitle, mWeight);
+    }
+
+    /**
+     * Menüye ikonu resource ID ile verilen yeni bir öğe ekler.
+     * <p>
+     * İkon ilk çizimde süreç genelindeki MervIconCache'ten çözülür; aynı ikonu kullanan diğer görünümlerle
+     * durumunu paylaşır ve yalnızca renk tonu uygulanırken bu öğe için mutate edilir.
+     *
+     * @param mIconRes Eklenecek öğenin ikon resource ID'si
+     * @param mTitle   Eklenecek öğenin başlığı (String).
+     * @see #setAddItem(Drawable, String)
+     */
+    public void setAddItem(@DrawableRes int mIconRes, String mTitle) {
+        setAddItem(mIconRes, mTitle, 1f);
+    }
+
+    /**
+     * Menüye ikonu resource ID ile verilen, ITEM_WIDTH_WEIGHT modunda ağırlıkla orantılı yeni bir öğe ekler.
+     *
+     * @param mIconRes Eklenecek öğenin ikon resource ID'si
+     * @param mTitle   Eklenecek öğenin başlığı (String).
+     * @param mWeight  Öğenin genişlik ağırlığı (0'dan büyük)
+     * @see #setAddItem(int, String)
+     */
+    public void setAddItem(@DrawableRes int mIconRes, String mTitle, float mWeight) {
+        if (mIconRes == 0) {
+            throw new IllegalArgumentException("İkon kaynak kimliği 0 olamaz.");
+        }
+        AddItem(null, mIconRes, mTitle, mWeight);
+    }
+
+    /**
+     * setAddItem() gövdesi; ikon ya Drawable ya da resource ID olarak verilir.
+     */
+    private void AddItem(Drawable mIcon, int mIconRes, String mTitle, float mWeight) {
+        CheckItemWeight(mWeight);
         if (mBottomNavMenuRes != 0) {
             throw new IllegalStateException(
                     "Bu bileşene daha önce XML veya kod ile menü atanmış. "
@@ -800,15 +1719,13 @@ public class MervBottomNavigationView extends View {
             );
         }
 
-        if (mBottomNavItemCount >= MAX_ITEMS_SIZE) {
-            throw new IllegalStateException(
-                    "Şundan daha fazlası eklenemez: " + MAX_ITEMS_SIZE
-                            + " öğe. BottomNavigationView'a bu kadar izin veriliyor :)"
-            );
-        }
-
-        mBottomNavItemIcons[mBottomNavItemCount] = mIcon;
+        EnsureItemCapacity(mBottomNavItemCount + 1);
+        mBottomNavItemIcons[mBottomNavItemCount] = PrepareItemIcon(mIcon, mBottomNavItemCount);
+        mBottomNavItemIconRes[mBottomNavItemCount] = mIconRes;
+        mBottomNavItemSelectedIcons[mBottomNavItemCount] = null;
+        mBottomNavItemUnselectedIcons[mBottomNavItemCount] = null;
         mBottomNavItemTitles[mBottomNavItemCount] = mTitle;
+        mBottomNavItemWeights[mBottomNavItemCount] = mWeight;
 
         if (mBottomNavItemCount == mBottomNavSelectedIndex) {
             mBottomNavItemIconSize[mBottomNavItemCount] = mBottomNavSelectedIconSize;
@@ -829,8 +1746,10 @@ public class MervBottomNavigationView extends View {
             mBottomNavItemTextOffsets[0] = 0f;
         }
 
-        requestLayout();
-        invalidate();
+        mItemWidthsDirty = true;
+        UpdateGeometry();
+        RequestLayoutIfSizeChanged();
+        InvalidateView();
     }
 
 
@@ -844,39 +1763,175 @@ public class MervBottomNavigationView extends View {
     }
 
     /**
-     * Görünümün ölçüm aşamasında çağrılır.
+     * Seçim geçişlerinin kare metriklerini alacak dinleyiciyi ayarlar.
      * <p>
-     * Menü çubuğunun genişlik ve yüksekliğini hesaplar ve ayarlar.
+     * Her geçiş için çizilen kare sayısı, kare bütçesini aşan kare sayısı, en kötü ve p95 onDraw süresi
+     * ile toplam geçiş süresi, geçişin son karesi çizildikten sonra (kesilen geçişlerde hemen) bildirilir.
+     * Kare bütçesi ekranın yenileme hızından alınır. Dinleyici null ise hiçbir ölçüm yapılmaz.
      *
-     * @param mWidthMeasureSpec  Genişlik ölçüm spesifikasyonu.
-     * @param mHeightMeasureSpec Yükseklik ölçüm spesifikasyonu.
+     * @param mListener Metrik dinleyicisi veya devre dışı bırakmak için null
      */
-    @Override
-    protected void onMeasure(int mWidthMeasureSpec, int mHeightMeasureSpec) {
-        int mWidth = MeasureSpec.getSize(mWidthMeasureSpec);
+    public void setOnTransitionMetricsListener(@Nullable OnNavTransitionMetricsListener mListener) {
+        mTransitionMetricsListener = mListener;
+        if (mListener == null) {
+            mTransitionMetrics = null;
+            mTransitionMetricsAwaitingFinalFrame = false;
+            return;
+        }
+        if (mTransitionMetrics == null) {
+            mTransitionMetrics = new MervTransitionMetrics();
+            UpdateTransitionMetricsBudget();
+        }
+    }
 
-        float mCirclePadding = dpToPx(8f);
-        mCircleRadius = (mBottomNavSelectedIconSize / 2f) + mCirclePadding;
+    /**
+     * Öğenin rozetinde sayı gösterir; 0 rozeti kaldırır. Herhangi bir iş parçacığından çağrılabilir.
+     * <p>
+     * Değer hemen çizilmez: bir karede gelen tüm güncellemeler birleştirilir ve bir sonraki karede,
+     * her öğenin yalnızca son değeriyle bir kez uygulanır. Yalnızca rozeti değişen öğenin alanı yeniden çizilir.
+     * Rozetler öğe indeksine bağlıdır; henüz eklenmemiş öğeler için de ayarlanabilir ve menü değişince korunur.
+     *
+     * @param mIndex Öğe indeksi (0 tabanlı)
+     * @param mCount Gösterilecek sayı; setBottomNavBadgeMaxCount sınırını aşarsa "sınır+" gösterilir
+     * @throws IllegalArgumentException İndeks veya sayı negatifse fırlatılır.
+     */
+    public void setBottomNavBadgeCount(int mIndex, int mCount) {
+        if (mCount < 0) {
+            throw new IllegalArgumentException("Rozet sayısı negatif olamaz: " + mCount);
+        }
+        ScheduleBadgeFlush(mBadgeStore.set(mIndex, mCount));
+    }
 
-        float mBumpExtra = dpToPx(4f);
-        float mBumpRadius = mCircleRadius + mBumpExtra;
+    /**
+     * Öğenin rozetinde sayı olmadan yalnızca bir nokta gösterir. Herhangi bir iş parçacığından çağrılabilir.
+     *
+     * @param mIndex Öğe indeksi (0 tabanlı)
+     * @throws IllegalArgumentException İndeks negatifse fırlatılır.
+     */
+    public void setBottomNavBadgeDot(int mIndex) {
+        ScheduleBadgeFlush(mBadgeStore.set(mIndex, MervBadgeStore.BADGE_DOT));
+    }
 
-        float mMaxIconSize = Math.max(mBottomNavSelectedIconSize, mBottomNavUnselectedIconSize);
-        float mBarPadding = dpToPx(10f);
-        mBarHeight = mMaxIconSize + mBottomNavTextMarginTop + mBottomNavTextSize + mBarPadding;
+    /**
+     * Öğenin rozetini kaldırır. Herhangi bir iş parçacığından çağrılabilir.
+     *
+     * @param mIndex Öğe indeksi (0 tabanlı)
+     * @throws IllegalArgumentException İndeks negatifse fırlatılır.
+     */
+    public void clearBottomNavBadge(int mIndex) {
+        ScheduleBadgeFlush(mBadgeStore.set(mIndex, MervBadgeStore.BADGE_NONE));
+    }
 
-        float mTopBarPadding = dpToPx(12f);
+    /**
+     * Tüm rozetleri kaldırır. Herhangi bir iş parçacığından çağrılabilir.
+     */
+    public void clearBottomNavBadges() {
+        ScheduleBadgeFlush(mBadgeStore.clear());
+    }
 
-        int rawDesiredHeight = (int) Math.ceil(mBumpRadius + mBarHeight + mTopBarPadding);
+    /**
+     * @param mIndex Öğe indeksi (0 tabanlı)
+     * @return Öğenin en son ayarlanan rozeti (MervBadgeStore.BADGE_NONE, BADGE_DOT veya sayı);
+     * henüz çizilmemiş olabilir
+     */
+    public int getBottomNavBadge(int mIndex) {
+        return mBadgeStore.get(mIndex);
+    }
 
-        int minHeightPx = (int) dpToPx(48f);
-        int mDesiredHeight = Math.max(rawDesiredHeight, minHeightPx);
+    /**
+     * Rozetlerde gösterilecek en büyük sayıyı ayarlar (varsayılan 99, üstü "99+").
+     * Herhangi bir iş parçacığından çağrılabilir; rozet güncellemeleriyle birlikte birleştirilir.
+     *
+     * @param mMaxCount 1 ile MervBadgeStore.MAX_COUNT_LIMIT arasında sınır
+     * @throws IllegalArgumentException Sınır aralık dışındaysa fırlatılır.
+     */
+    public void setBottomNavBadgeMaxCount(int mMaxCount) {
+        ScheduleBadgeFlush(mBadgeStore.setMaxCount(mMaxCount));
+    }
 
-        int mHeight = resolveSize(mDesiredHeight, mHeightMeasureSpec);
+    public int getBottomNavBadgeMaxCount() {
+        return mBadgeStore.getMaxCount();
+    }
 
-        mViewWidth = mWidth;
-        mViewHeight = mHeight;
+    /**
+     * Rozetlerin arka plan rengini ayarlar. UI iş parçacığından çağrılmalıdır.
+     *
+     * @param mColor Yeni rozet rengi (Color int formatında)
+     */
+    public void setBottomNavBadgeColor(int mColor) {
+        if (mBottomNavBadgeColor == mColor) return;
+        mBottomNavBadgeColor = mColor;
+        mBottomNavBadgePaint.setColor(mColor);
+        InvalidateView();
+    }
+
+    /**
+     * Rozet sayılarının rengini ayarlar. UI iş parçacığından çağrılmalıdır.
+     *
+     * @param mColor Yeni rozet metin rengi (Color int formatında)
+     */
+    public void setBottomNavBadgeTextColor(int mColor) {
+        if (mBottomNavBadgeTextColor == mColor) return;
+        mBottomNavBadgeTextColor = mColor;
+        mBottomNavBadgeTextPaint.setColor(mColor);
+        InvalidateView();
+    }
+
+    /**
+     * Depoya ilk değişiklik yazıldıysa boşaltmayı bir sonraki karenin animasyon aşamasına planlar.
+     * postOnAnimation her iş parçacığından çağrılabilir; görünüm bağlı değilse bağlandığında çalışır.
+     *
+     * @param mScheduleNeeded MervBadgeStore'un döndürdüğü planlama gereği
+     */
+    private void ScheduleBadgeFlush(boolean mScheduleNeeded) {
+        if (mScheduleNeeded) {
+            postOnAnimation(mBadgeFlushRunnable);
+        }
+    }
+
+    /**
+     * Görünümün ölçüm aşamasında çağrılır.
+     * <p>
+     * Menü çubuğunun genişlik ve yüksekliğini hesaplar ve ayarlar.
+     * İstenen yükseklik geometri motorundan (MervNavGeometry) okunur.
+     * Spesifikasyonlar ve istenen yükseklik son ölçümle aynıysa önceki sonuç hesaplama yapılmadan kullanılır.
+     *
+     * @param mWidthMeasureSpec  Genişlik ölçüm spesifikasyonu.
+     * @param mHeightMeasureSpec Yükseklik ölçüm spesifikasyonu.
+     */
+    @Override
+    protected void onMeasure(int mWidthMeasureSpec, int mHeightMeasureSpec) {
+        if (mMeasuredDesiredHeight >= 0
+                && mMeasuredWidthSpec == mWidthMeasureSpec
+                && mMeasuredHeightSpec == mHeightMeasureSpec) {
+            setMeasuredDimension(mCachedMeasuredWidth, mCachedMeasuredHeight);
+            return;
+        }
+        boolean mTraced = MervTrace.begin(MervTrace.SECTION_ON_MEASURE);
+        mViewWidth = MeasureSpec.getSize(mWidthMeasureSpec);
+        UpdateGeometry();
+
+        mViewHeight = resolveSize(mGeometry.getDesiredHeight(), mHeightMeasureSpec);
+        mGeometry.setViewSize(mViewWidth, mViewHeight);
         setMeasuredDimension(mViewWidth, mViewHeight);
+
+        mMeasuredWidthSpec = mWidthMeasureSpec;
+        mMeasuredHeightSpec = mHeightMeasureSpec;
+        mMeasuredDesiredHeight = mGeometry.getDesiredHeight();
+        mCachedMeasuredWidth = mViewWidth;
+        mCachedMeasuredHeight = mViewHeight;
+        MervTrace.end(mTraced);
+    }
+
+    /**
+     * Boyutu etkileyebilecek bir girdi değiştikten sonra (UpdateGeometry'den sonra) çağrılır.
+     * Geometri motorunun istenen yüksekliği son ölçümdekiyle aynıysa görünümün boyutu değişmez ve
+     * düzen isteği yapılmaz; değiştiyse ölçüm önbelleği geçersiz kılınır ve requestLayout çağrılır.
+     */
+    private void RequestLayoutIfSizeChanged() {
+        if (mGeometry.getDesiredHeight() == mMeasuredDesiredHeight) return;
+        mMeasuredDesiredHeight = -1;
+        requestLayout();
     }
 
     /**
@@ -885,8 +1940,8 @@ public class MervBottomNavigationView extends View {
      * Yeni genişlik ve yükseklik değerlerini alır ve bileşenin
      * içsel ölçümlerini ve konumlandırmalarını günceller.
      * <p>
-     * - Seçili dairenin yarıçapı ve konumu hesaplanır.
-     * - Üst barın konumu ayarlanır.
+     * - Geometri motoru yeni boyutla güncellenir (daire, çıkıntı, üst bar ve öğe merkezleri).
+     * - Çıkıntı yolu ve çubuk dikdörtgeni gerekiyorsa yeniden oluşturulur.
      * - Animasyonun merkez X koordinatı ilk kez ayarlanırsa belirlenir.
      *
      * @param mNewWidth  Yeni genişlik (piksel)
@@ -903,26 +1958,56 @@ public class MervBottomNavigationView extends View {
     ) {
         mViewWidth = mNewWidth;
         mViewHeight = mNewHeight;
-
-        float mCirclePadding = dpToPx(8f);
-        mCircleRadius = (mBottomNavSelectedIconSize / 2f) + mCirclePadding;
-
-        float mBumpExtra = dpToPx(4f);
-        float mBumpTotalRadius = mCircleRadius + mBumpExtra;
-
-        float mTopBarPadding = dpToPx(12f);
-
-        mBarTopY = mBumpTotalRadius + mTopBarPadding;
-        mCircleCenterY = mBumpTotalRadius + mTopBarPadding;
+        UpdateGeometry();
+        EnsureBackgroundShape();
 
         if (mBottomNavItemCount > 0) {
             mAnimCenterX = ComputeCenterXForIndex(mBottomNavSelectedIndex);
         } else {
             mAnimCenterX = mViewWidth / 2f;
         }
+        ScrollToSelection();
         super.onSizeChanged(mNewWidth, mNewHeight, mOldWidth, mOldHeight);
     }
 
+    /**
+     * Görünüm pencereye eklendiğinde metrik kare bütçesi ekranın yenileme hızına göre güncellenir.
+     */
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        UpdateTransitionMetricsBudget();
+    }
+
+    /**
+     * Görünüm pencereden ayrıldığında devam eden geçişi son haline getirir, böylece zamanlayıcıda
+     * bekleyen kare geri çağırımı kalmaz; ardından gölge Bitmap'lerini serbest bırakır.
+     * Tekrar eklendiğinde ilk çizimde yeniden hazırlanırlar.
+     */
+    @Override
+    protected void onDetachedFromWindow() {
+        mSelectionDriver.end();
+        mScroller.abortAnimation();
+        EndOverflowTouch();
+        if (mTransitionMetricsAwaitingFinalFrame) {
+            DispatchTransitionMetrics(false);
+        }
+        mShadowCache.release();
+        mIconRasterCache.clear();
+        mPendingInvalidate = INVALIDATE_NONE;
+        super.onDetachedFromWindow();
+    }
+
+    /**
+     * Görünürlük değiştiğinde bekleyen yeniden çizim durumu sıfırlanır.
+     * Görünmez bir görünümde onDraw çağrılmayacağı için, aksi halde sonraki istekler yutulabilirdi.
+     */
+    @Override
+    public void onVisibilityAggregated(boolean mIsVisible) {
+        super.onVisibilityAggregated(mIsVisible);
+        mPendingInvalidate = INVALIDATE_NONE;
+    }
+
     /**
      * Görünümün çizim işlemi için çağrılan metod.
      * <p>
@@ -939,16 +2024,46 @@ public class MervBottomNavigationView extends View {
     @Override
     protected void onDraw(@NonNull Canvas mCanvas) {
         super.onDraw(mCanvas);
-        if (mBottomNavItemCount == 0) return;
+        mPendingInvalidate = INVALIDATE_NONE;
+        mCounters.increment(MervNavCounters.FRAMES_DRAWN);
+        if (mBottomNavItemCount == 0) {
+            if (mMenuLoading) {
+                // Asenkron menü beklenirken yer tutucu olarak yalnızca çubuk çizilir
+                DrawBackgroundBump(mCanvas);
+            }
+            return;
+        }
+
+        boolean mTraced = MervTrace.begin(MervTrace.SECTION_ON_DRAW);
+        MervTransitionMetrics mMetrics = mTransitionMetrics;
+        boolean mMeasureFrame = mMetrics != null && mMetrics.isRecording();
+        long mDrawStartNanos = mMeasureFrame ? System.nanoTime() : 0L;
 
         DrawBackgroundBump(mCanvas);
+        if (mBottomNavRenderMode == RENDER_MODE_HARDWARE) {
+            mShadowCache.prepareCircleShadow(
+                    mGeometry.getCircleRadius(),
+                    mBottomNavCircleShadowLayerSize,
+                    SHADOW_LAYER_COLOR
+            );
+            mShadowCache.drawCircleShadow(mCanvas, mAnimCenterX, mGeometry.getCircleCenterY());
+        }
         mCanvas.drawCircle(
                 mAnimCenterX,
-                mCircleCenterY,
-                mCircleRadius,
+                mGeometry.getCircleCenterY(),
+                mGeometry.getCircleRadius(),
                 mBottomNavCirclePaint
         );
         DrawItems(mCanvas);
+
+        if (mMeasureFrame) {
+            long mDrawEndNanos = System.nanoTime();
+            mMetrics.recordFrame(mDrawEndNanos - mDrawStartNanos, mDrawEndNanos);
+            if (mTransitionMetricsAwaitingFinalFrame) {
+                DispatchTransitionMetrics(false);
+            }
+        }
+        MervTrace.end(mTraced);
     }
 
     /**
@@ -958,138 +2073,511 @@ public class MervBottomNavigationView extends View {
      * alt barın üst kısmında kubik Bezier eğrileri ile oluşturulur.
      * <p>
      * Metot:
-     * - Önce mevcut Path sıfırlanır.
-     * - Çıkıntının sol ve sağ sınırları, yarıçap ve ekstra boşluk baz alınarak hesaplanır.
-     * - Bu sınırlar görünümün genişliğine göre sınırlandırılır.
-     * - Path, sol uçtan başlayıp çıkıntı şeklini kubik eğrilerle çizerek sağ uca kadar gider.
-     * - Sonra alt barın geri kalan alanı ve alt kısımlar kapatılır.
-     * - Son olarak hazırlanan Path, arka plan Paint'i ile Canvas'a çizilir.
+     * - Çıkıntı yolu ve çubuk dikdörtgeni yalnızca boyut veya yarıçap değiştiğinde yeniden oluşturulur.
+     * - Donanım modunda, önceden hesaplanmış çubuk gölgesi çizilir; ardından sabit dikdörtgen
+     * ve animasyon merkezine ötelenmiş çıkıntı çizilir. Yol her karede yeniden oluşturulmaz.
+     * - Yazılım modunda, gölgenin tek parça olması için dikdörtgen ve ötelenmiş çıkıntı
+     * tek bir Path'te birleştirilip gölgeli Paint ile çizilir.
      *
      * @param mCanvas Çizimin yapılacağı Canvas nesnesi.
      */
     private void DrawBackgroundBump(Canvas mCanvas) {
-        mBottomNavBackgroundPath.reset();
-
-        float mViewWidthPx = mViewWidth;
-        float mViewHeightPx = mViewHeight;
-        float mBarTopYPx = mBarTopY;
-        float mCircleRadiusPx = mCircleRadius;
-
+        boolean mTraced = MervTrace.begin(MervTrace.SECTION_DRAW_BACKGROUND);
         if (mBottomNavItemCount > 0) {
             if (mAnimCenterX <= 0f || Float.isNaN(mAnimCenterX)) {
                 mAnimCenterX = ComputeCenterXForIndex(mBottomNavSelectedIndex);
             }
         } else {
-            mAnimCenterX = mViewWidthPx / 2f;
+            mAnimCenterX = mViewWidth / 2f;
         }
 
-        float mCircleCenterXPx = mAnimCenterX;
+        EnsureBackgroundShape();
+        float mBarTopY = mGeometry.getBarTopY();
+
+        // Çubuk görünür alanı kaplar; taşma modunda kaydırma kadar ötelenir ve çıkıntı
+        // görünür alan koordinatlarına çevrilir.
+        int mScrollX = getScrollX();
+        float mBumpCenterX = mAnimCenterX - mScrollX;
+        int mViewportSaveCount = -1;
+        if (mScrollX != 0) {
+            mViewportSaveCount = mCanvas.save();
+            mCanvas.translate(mScrollX, 0f);
+        }
 
-        float mBumpExtraPx = dpToPx(4f);
-        float mBumpTotalRadiusPx = mCircleRadiusPx + mBumpExtraPx;
+        if (mBottomNavRenderMode == RENDER_MODE_HARDWARE) {
+            PrepareBarShadow();
+            mShadowCache.drawBarShadow(mCanvas, mBumpCenterX, mBarTopY, mViewWidth);
 
-        float mBumpLeftX = mCircleCenterXPx - mBumpTotalRadiusPx * 1.7f;
-        float mBumpRightX = mCircleCenterXPx + mBumpTotalRadiusPx * 1.7f;
-        mBottomNavBackgroundPath.moveTo(0f, mBarTopYPx);
-        mBottomNavBackgroundPath.lineTo(mBumpLeftX, mBarTopYPx);
+            mCanvas.drawRect(mBottomNavBarRect, mBottomNavBackgroundPaint);
+            int mSaveCount = mCanvas.save();
+            mCanvas.translate(mBumpCenterX, mBarTopY);
+            mCanvas.drawPath(mBottomNavBumpPath, mBottomNavBackgroundPaint);
+            mCanvas.restoreToCount(mSaveCount);
+        } else {
+            mBottomNavBackgroundPath.rewind();
+            mBottomNavBackgroundPath.addRect(mBottomNavBarRect, Path.Direction.CW);
+            mBottomNavBackgroundPath.addPath(mBottomNavBumpPath, mBumpCenterX, mBarTopY);
+            mCanvas.drawPath(mBottomNavBackgroundPath, mBottomNavBackgroundPaint);
+        }
+        if (mViewportSaveCount >= 0) {
+            mCanvas.restoreToCount(mViewportSaveCount);
+        }
+        MervTrace.end(mTraced);
+    }
 
-        mBottomNavBackgroundPath.cubicTo(
-                // 1. kontrol noktası (yaklaşık bumpLeftX + 0.95*Radius, barTopY)
-                mBumpLeftX + mBumpTotalRadiusPx * 0.95f,
-                mBarTopYPx,
-                // 2. kontrol noktası (circleCenterX - Radius, barTopY - Radius*0.95)
-                mCircleCenterXPx - mBumpTotalRadiusPx,
-                mBarTopYPx - mBumpTotalRadiusPx * 0.95f,
-                // Bitiş noktası (tam circle tepe noktasının üstü)
-                mCircleCenterXPx,
-                mBarTopYPx - mBumpTotalRadiusPx
-        );
+    /**
+     * Çıkıntı yolunu ve çubuk dikdörtgenini gerekiyorsa yeniden oluşturur.
+     * <p>
+     * Yarıçap, çubuk üst konumu veya görünüm boyutu son oluşturmadan bu yana
+     * değişmediyse hiçbir şey yapılmaz; bu sayede çizim sırasında yol oluşturma maliyeti oluşmaz.
+     */
+    private void EnsureBackgroundShape() {
+        float mBumpTotalRadius = mGeometry.getBumpRadius();
+        float mBarTopY = mGeometry.getBarTopY();
+        if (mBumpPathKeyRadius == mBumpTotalRadius
+                && mBumpPathKeyBarTopY == mBarTopY
+                && mBumpPathKeyWidth == mViewWidth
+                && mBumpPathKeyHeight == mViewHeight) {
+            return;
+        }
+        mBumpPathKeyRadius = mBumpTotalRadius;
+        mBumpPathKeyBarTopY = mBarTopY;
+        mBumpPathKeyWidth = mViewWidth;
+        mBumpPathKeyHeight = mViewHeight;
+
+        mGeometry.writeBumpOutline(mBumpOutline);
+        BuildBumpPath(mBottomNavBumpPath, mBumpOutline);
+        mCounters.increment(MervNavCounters.PATH_REBUILDS);
+        mBottomNavBarRect.set(0f, mBarTopY, mViewWidth, mViewHeight);
+    }
 
-        mBottomNavBackgroundPath.cubicTo(
-                mCircleCenterXPx + mBumpTotalRadiusPx,
-                mBarTopYPx - mBumpTotalRadiusPx * 0.95f,
-                mBumpRightX - mBumpTotalRadiusPx * 0.95f,
-                mBarTopYPx,
-                mBumpRightX,
-                mBarTopYPx
+    /**
+     * Donanım modunda çubuk ve çıkıntı gölgesini hazırlar.
+     * <p>
+     * Çıkıntı merkezi x = 0 ve çubuk üstü y = 0 olacak şekilde, gölge boşluğundan daha geniş
+     * ve daha derin bir birleşik şekil oluşturulur ve MervShadowCache'e verilir.
+     * Önbellek, parametreler değişmediyse bu şekli yeniden çizmez.
+     */
+    private void PrepareBarShadow() {
+        float mShadowSize = mBottomNavMorphBackgroundShadowLayerSize;
+        float mBumpTotalRadius = mGeometry.getBumpRadius();
+        float mBumpHalfWidth = mGeometry.getBumpHalfWidth();
+        if (mShadowCache.isBarShadowPrepared(mBumpTotalRadius, mBumpHalfWidth, mShadowSize, SHADOW_LAYER_COLOR)) {
+            return;
+        }
+        float mOverflow = mBumpHalfWidth + MervShadowCache.computeShadowPadding(mShadowSize) * 4f;
+        mBottomNavShadowOutlinePath.rewind();
+        mBottomNavShadowOutlinePath.addRect(-mOverflow, 0f, mOverflow, mOverflow, Path.Direction.CW);
+        mBottomNavShadowOutlinePath.addPath(mBottomNavBumpPath);
+        mShadowCache.prepareBarShadow(
+                mBottomNavShadowOutlinePath,
+                mBumpTotalRadius,
+                mBumpHalfWidth,
+                mShadowSize,
+                SHADOW_LAYER_COLOR
         );
+    }
 
-        mBottomNavBackgroundPath.lineTo(mViewWidthPx, mBarTopYPx);
-        mBottomNavBackgroundPath.lineTo(mViewWidthPx, mViewHeightPx);
-        mBottomNavBackgroundPath.lineTo(0f, mViewHeightPx);
-        mBottomNavBackgroundPath.close();
-
-        mCanvas.drawPath(mBottomNavBackgroundPath, mBottomNavBackgroundPaint);
+    /**
+     * Çıkıntıyı (bump) kubik Bezier eğrileriyle, merkez x = 0 ve çubuk üstü y = 0 olacak şekilde
+     * yerel koordinatlarda verilen Path'e çizer. Eğri noktaları MervNavGeometry'den okunur.
+     * <p>
+     * Şekil soldan sağa eğriyi izler, ardından çubuğun içine BUMP_PATH_OVERLAP_PX kadar inerek kapanır.
+     * Dikdörtgen ile aynı yönde (saat yönünde) çizildiği için birleştirildiğinde birleşim olarak dolar.
+     *
+     * @param mPath    Sıfırlanıp doldurulacak Path
+     * @param mOutline MervNavGeometry.writeBumpOutline(float[]) çıktısı
+     */
+    private static void BuildBumpPath(Path mPath, float[] mOutline) {
+        mPath.reset();
+        mPath.moveTo(mOutline[0], mOutline[1]);
+        mPath.cubicTo(mOutline[2], mOutline[3], mOutline[4], mOutline[5], mOutline[6], mOutline[7]);
+        mPath.cubicTo(mOutline[8], mOutline[9], mOutline[10], mOutline[11], mOutline[12], mOutline[13]);
+        mPath.lineTo(mOutline[12], BUMP_PATH_OVERLAP_PX);
+        mPath.lineTo(mOutline[0], BUMP_PATH_OVERLAP_PX);
+        mPath.close();
     }
 
 
     /**
      * Menü öğelerini (ikon ve başlıkları) Canvas üzerine çizer.
      * <p>
-     * - Menüdeki her öğe için bölüm genişliği hesaplanır.
+     * - Yalnızca görünür alan (kaydırma) ile Canvas'ın kırpma alanının (hasar alanı) kesişimine değen
+     * öğeler dolaşılır; aralık geometri motorundan sabit sürede okunur, böylece kare maliyeti
+     * öğe sayısıyla değil görünür öğe sayısıyla orantılıdır.
      * - Her öğenin ikon konumu ve boyutu belirlenir.
      * - Seçili öğe ikon ve metni, seçili renk ve animasyon değerleri ile çizilir.
      * - Seçilmeyen öğeler farklı pozisyonda ve renkte çizilir.
      * - Seçili öğenin metni animasyon değerlerine göre saydamlık ve offset ile hareket ettirilir.
+     * - Kare başına bellek ayrılmaz: renk tonu ve ikon sınırları yalnızca
+     * değiştiğinde uygulanır; her değişim sayaçlara yazılır.
      *
      * @param mCanvas Çizimin yapılacağı Canvas nesnesi.
      */
     private void DrawItems(Canvas mCanvas) {
         if (mBottomNavItemCount == 0) return;
 
-        float mSectionWidthPx = mViewWidth / (float) mBottomNavItemCount;
+        boolean mTraced = MervTrace.begin(MervTrace.SECTION_DRAW_ITEMS);
 
-        for (int mItemIndex = 0; mItemIndex < mBottomNavItemCount; mItemIndex++) {
-            float mItemCenterXPx = mSectionWidthPx * mItemIndex + mSectionWidthPx / 2f;
+        float mSelectedIconCenterY = mGeometry.getCircleCenterY();
+        float mUnselectedIconCenterY = mGeometry.getUnselectedIconCenterY();
+        float mVisibleLeftPx = getScrollX();
+        float mVisibleRightPx = mVisibleLeftPx + mViewWidth;
+        if (mCanvas.getClipBounds(mDrawClipRect)) {
+            mVisibleLeftPx = Math.max(mVisibleLeftPx, mDrawClipRect.left);
+            mVisibleRightPx = Math.min(mVisibleRightPx, mDrawClipRect.right);
+        }
+        if (mVisibleRightPx <= mVisibleLeftPx) {
+            MervTrace.end(mTraced);
+            return;
+        }
+        int mFirstIndex = mGeometry.visibleStartIndex(mVisibleLeftPx);
+        int mLastIndex = mGeometry.visibleEndIndex(mVisibleRightPx);
+
+        for (int mItemIndex = mFirstIndex; mItemIndex <= mLastIndex; mItemIndex++) {
+            float mItemCenterXPx = mGeometry.getItemCenterX(mItemIndex);
             boolean mIsItemSelected = (mItemIndex == mBottomNavSelectedIndex);
-            Drawable mItemIcon = mBottomNavItemIcons[mItemIndex];
+            Drawable mItemIcon = ItemIconForState(mItemIndex, mIsItemSelected);
 
+            float mIconSizePx = mBottomNavItemIconSize[mItemIndex];
+            float mIconCenterY = mIsItemSelected ? mSelectedIconCenterY : mUnselectedIconCenterY;
             if (mItemIcon != null) {
-                float mIconSizePx = mBottomNavItemIconSize[mItemIndex];
-                if (mIsItemSelected) {
-                    float mLeft = mItemCenterXPx - mIconSizePx / 2f;
-                    float mTop  = mCircleCenterY - mIconSizePx / 2f;
-                    mItemIcon.setBounds(
-                            (int) mLeft,
-                            (int) mTop,
-                            (int)(mLeft + mIconSizePx),
-                            (int)(mTop  + mIconSizePx)
-                    );
-                    mItemIcon.setTint(mBottomNavSelectedIconColor);
-                    mItemIcon.draw(mCanvas);
-                } else {
-                    float mTop  = mBarTopY + ((mBarHeight - mIconSizePx) / 2f);
-                    float mLeft = mItemCenterXPx - mIconSizePx / 2f;
-                    mItemIcon.setBounds(
-                            (int) mLeft,
-                            (int) mTop,
-                            (int)(mLeft + mIconSizePx),
-                            (int)(mTop  + mIconSizePx)
-                    );
-                    mItemIcon.setTint(mBottomNavUnselectedIconColor);
-                    mItemIcon.draw(mCanvas);
+                int mIconColor = mIsItemSelected ? mBottomNavSelectedIconColor : mBottomNavUnselectedIconColor;
+                float mLeft = mItemCenterXPx - mIconSizePx / 2f;
+                float mTop = mIconCenterY - mIconSizePx / 2f;
+                if (!DrawRasterIcon(mCanvas, mItemIcon, mIconColor, mLeft, mTop, mIconSizePx)) {
+                    DrawScaledIcon(mCanvas, mItemIcon, mItemCenterXPx, mIconCenterY, mIconSizePx);
                 }
             }
+            if (mItemIndex < mBottomNavItemBadges.length
+                    && mBottomNavItemBadges[mItemIndex] != MervBadgeStore.BADGE_NONE) {
+                DrawBadge(
+                        mCanvas,
+                        mBottomNavItemBadges[mItemIndex],
+                        mItemCenterXPx + mIconSizePx * BADGE_ANCHOR_FRACTION,
+                        mIconCenterY - mIconSizePx * BADGE_ANCHOR_FRACTION
+                );
+            }
 
             if (mIsItemSelected) {
                 String title = mBottomNavItemTitles[mItemIndex];
                 if (title != null && !title.isEmpty()) {
-                    float mTextTopBelowIcon = dpToPx(4f);
-                    float mTextYPx = mBarTopY
-                            + mBottomNavSelectedIconSize 
-                            + mTextTopBelowIcon
-                            - mBottomNavTextPaint.ascent();
-
                     mBottomNavTextPaint.setAlpha(255);
                     mCanvas.drawText(
                             title,
                             mItemCenterXPx,
-                            mTextYPx,
+                            mGeometry.getTextBaselineY(),
                             mBottomNavTextPaint
                     );
                 }
             }
         }
+        MervTrace.end(mTraced);
+    }
+
+    /**
+     * Öğenin rozetini verilen bağlantı noktasına çizer.
+     * <p>
+     * Nokta rozet bağlantı noktasında bir dairedir. Sayı rozeti, sol yarım dairesi bağlantı noktasında
+     * olan ve sağa doğru uzayan bir hap şeklidir. Metin genişliği önceden ölçülmüş rakam genişliklerinden
+     * toplanır ve metin char tamponundan çizilir; kare başına ölçüm veya bellek ayırma yapılmaz.
+     *
+     * @param mCanvas  Çizimin yapılacağı Canvas
+     * @param mBadge   Rozet değeri (BADGE_DOT veya sayı)
+     * @param mAnchorX Bağlantı noktasının X'i (ikonun sağ üst köşesine yakın)
+     * @param mAnchorY Bağlantı noktasının Y'si
+     */
+    private void DrawBadge(Canvas mCanvas, int mBadge, float mAnchorX, float mAnchorY) {
+        if (mBadge == MervBadgeStore.BADGE_DOT) {
+            mCanvas.drawCircle(mAnchorX, mAnchorY, mBadgeDotRadius, mBottomNavBadgePaint);
+            return;
+        }
+        int mLength = FormatBadge(mBadge);
+        float mHalfHeight = mBadgeHeight / 2f;
+        float mWidth = Math.max(mBadgeHeight, mBadgeTextWidth + 2f * mBadgePadding);
+        float mLeft = mAnchorX - mHalfHeight;
+        mCanvas.drawRoundRect(
+                mLeft,
+                mAnchorY - mHalfHeight,
+                mLeft + mWidth,
+                mAnchorY + mHalfHeight,
+                mHalfHeight,
+                mHalfHeight,
+                mBottomNavBadgePaint
+        );
+        mCanvas.drawText(
+                mBadgeChars,
+                0,
+                mLength,
+                mLeft + (mWidth - mBadgeTextWidth) / 2f,
+                mAnchorY + mBadgeTextBaselineOffset,
+                mBottomNavBadgeTextPaint
+        );
+    }
+
+    /**
+     * Sayıyı sınıra göre ("99+") mBadgeChars tamponuna yazar ve genişliğini mBadgeTextWidth'e koyar.
+     *
+     * @param mCount Rozet sayısı
+     * @return Yazılan karakter sayısı
+     */
+    private int FormatBadge(int mCount) {
+        int mShown = Math.min(mCount, mBottomNavBadgeMaxCount);
+        int mDigits = 1;
+        for (int mRest = mShown / 10; mRest > 0; mRest /= 10) mDigits++;
+
+        float mWidth = 0f;
+        for (int mI = mDigits - 1; mI >= 0; mI--) {
+            int mDigit = mShown % 10;
+            mBadgeChars[mI] = (char) ('0' + mDigit);
+            mWidth += mBadgeDigitWidths[mDigit];
+            mShown /= 10;
+        }
+        int mLength = mDigits;
+        if (mCount > mBottomNavBadgeMaxCount) {
+            mBadgeChars[mLength++] = '+';
+            mWidth += mBadgePlusWidth;
+        }
+        mBadgeTextWidth = mWidth;
+        return mLength;
+    }
+
+    /**
+     * @param mBadge Rozet değeri
+     * @return Rozetin bağlantı noktasının sağına uzanan genişliği (piksel); rozet yoksa 0
+     */
+    private float BadgeRightExtent(int mBadge) {
+        if (mBadge == MervBadgeStore.BADGE_NONE) return 0f;
+        if (mBadge == MervBadgeStore.BADGE_DOT) return mBadgeDotRadius;
+        FormatBadge(mBadge);
+        return Math.max(mBadgeHeight, mBadgeTextWidth + 2f * mBadgePadding) - mBadgeHeight / 2f;
+    }
+
+    /**
+     * Rozet metninin rakam ve '+' genişliklerini, dikey ortalama ofsetini ve rozet ölçülerini bir kez hesaplar.
+     */
+    private void MeasureBadgeGlyphs() {
+        for (int mDigit = 0; mDigit < 10; mDigit++) {
+            mBadgeDigitWidths[mDigit] = mBottomNavBadgeTextPaint.measureText(BADGE_DIGITS, mDigit, mDigit + 1);
+        }
+        mBadgePlusWidth = mBottomNavBadgeTextPaint.measureText("+");
+        Paint.FontMetrics mFontMetrics = mBottomNavBadgeTextPaint.getFontMetrics();
+        mBadgeTextBaselineOffset = -(mFontMetrics.ascent + mFontMetrics.descent) / 2f;
+        mBadgePadding = mGeometry.dp(BADGE_PADDING_DP);
+        mBadgeDotRadius = mGeometry.dp(BADGE_DOT_RADIUS_DP);
+        mBadgeHeight = Math.max(
+                mGeometry.dp(BADGE_MIN_HEIGHT_DP),
+                mFontMetrics.descent - mFontMetrics.ascent + mBadgePadding
+        );
+    }
+
+    /**
+     * Rozeti değişen öğenin sütununu (ve sütundan taşıyorsa rozetin eski / yeni alanını) geçersiz kılar.
+     * Bekleyen diğer alanlarla InvalidateDamage içinde birleştirilir.
+     *
+     * @param mIndex         Öğe indeksi
+     * @param mPreviousBadge Önceki rozet değeri
+     * @param mBadge         Yeni rozet değeri
+     */
+    private void InvalidateBadge(int mIndex, int mPreviousBadge, int mBadge) {
+        if (mIndex >= mBottomNavItemCount || mViewWidth == 0 || mViewHeight == 0) return;
+        float mCenterX = mGeometry.getItemCenterX(mIndex);
+        float mHalfItemWidth = mGeometry.getItemWidth(mIndex) / 2f;
+        float mAnchorX = mCenterX + mBottomNavItemIconSize[mIndex] * BADGE_ANCHOR_FRACTION;
+        float mReach = Math.max(BadgeRightExtent(mPreviousBadge), BadgeRightExtent(mBadge));
+        float mBadgeLeft = mAnchorX - Math.max(mBadgeHeight / 2f, mBadgeDotRadius);
+        mBadgeDamageRect.set(
+                (int) Math.floor(Math.min(mCenterX - mHalfItemWidth, mBadgeLeft)) - 1,
+                0,
+                (int) Math.ceil(Math.max(mCenterX + mHalfItemWidth, mAnchorX + mReach)) + 1,
+                mViewHeight
+        );
+        InvalidateDamage(mBadgeDamageRect);
+    }
+
+    /**
+     * Öğe ikonunu, renk tonu başka ikonlarla paylaşılmayacak şekilde hazırlar.
+     * <p>
+     * Aynı kaynaktan yüklenen ikonlar durumlarını (ve renk tonlarını) paylaştığı için ikon mutate edilir.
+     * Aynı Drawable nesnesi başka bir öğede zaten kullanılıyorsa bu öğe için bir kopyası oluşturulur;
+     * böylece renk tonunun yalnızca değiştiğinde uygulanması güvenlidir.
+     *
+     * @param mIcon          Öğenin ikonu
+     * @param mAssignedCount İkonu zaten atanmış öğe sayısı
+     * @return Öğeye atanacak ikon
+     */
+    private Drawable PrepareItemIcon(Drawable mIcon, int mAssignedCount) {
+        if (mIcon == null) return null;
+        for (int mI = 0; mI < mAssignedCount; mI++) {
+            if (mBottomNavItemIcons[mI] == mIcon) {
+                Drawable.ConstantState mState = mIcon.getConstantState();
+                if (mState != null) {
+                    return mState.newDrawable(getResources()).mutate();
+                }
+                break;
+            }
+        }
+        return mIcon.mutate();
+    }
+
+    /**
+     * Öğe ikonunun sınırlarını yalnızca değiştiyse ayarlar ve değişimi sayar.
+     *
+     * @param mItemIcon Öğenin ikonu
+     * @param mLeft     Sol (piksel)
+     * @param mTop      Üst (piksel)
+     * @param mRight    Sağ (piksel)
+     * @param mBottom   Alt (piksel)
+     */
+    private void SetItemIconBounds(Drawable mItemIcon, int mLeft, int mTop, int mRight, int mBottom) {
+        Rect mBounds = mItemIcon.getBounds();
+        if (mBounds.left == mLeft && mBounds.top == mTop
+                && mBounds.right == mRight && mBounds.bottom == mBottom) {
+            return;
+        }
+        mCounters.increment(MervNavCounters.DRAWABLE_BOUNDS_CHANGES);
+        mItemIcon.setBounds(mLeft, mTop, mRight, mBottom);
+    }
+
+    /**
+     * İkonu sabit referans boyutta yerleştirip animasyondaki boyuta Canvas ölçeğiyle getirir.
+     * <p>
+     * Sınırlar ikon merkezine göre (-yarı, -yarı, yarı, yarı) olarak yalnızca referans boyut değiştiğinde
+     * ayarlanır; böylece büyüme / küçülme sırasında setBounds çağrılmaz, Drawable'ın kendi önbelleği
+     * geçersiz olmaz ve tamsayıya yuvarlama kaynaklı titreme olmadan alt piksel hassasiyetinde hareket eder.
+     */
+    private void DrawScaledIcon(Canvas mCanvas, Drawable mItemIcon, float mCenterX, float mCenterY, float mSizePx) {
+        int mReferenceSize = SetIconReferenceBounds(mItemIcon);
+        int mHalf = mReferenceSize / 2;
+
+        // Tek sayılı referans boyutta sınırların merkezi 0,5 piksel kayıktır
+        float mBoundsCenter = (mReferenceSize - 2 * mHalf) / 2f;
+        float mScale = mSizePx / mReferenceSize;
+        int mSaveCount = mCanvas.save();
+        mCanvas.translate(mCenterX - mBoundsCenter * mScale, mCenterY - mBoundsCenter * mScale);
+        if (mScale != 1f) {
+            mCanvas.scale(mScale, mScale);
+        }
+        mItemIcon.draw(mCanvas);
+        mCanvas.restoreToCount(mSaveCount);
+    }
+
+    /**
+     * İkonun sınırlarını referans boyutta, merkezi orijinde olacak şekilde ayarlar (değiştiyse).
+     *
+     * @return Referans boyut (piksel)
+     */
+    private int SetIconReferenceBounds(Drawable mItemIcon) {
+        int mReferenceSize = Math.max(1, Math.round(Math.max(mBottomNavSelectedIconSize, mBottomNavUnselectedIconSize)));
+        int mHalf = mReferenceSize / 2;
+        SetItemIconBounds(mItemIcon, -mHalf, -mHalf, mReferenceSize - mHalf, mReferenceSize - mHalf);
+        return mReferenceSize;
+    }
+
+    /**
+     * Yazılım modunda ikonu, en yakın boyut kovasındaki hazır Bitmap'ten çizer.
+     * <p>
+     * Donanım modunda VectorDrawable kendi önbelleğini ve RenderNode'u kullandığı için false döner
+     * ve ikon doğrudan çizilir.
+     *
+     * @return Bitmap ile çizildiyse true
+     */
+    private boolean DrawRasterIcon(Canvas mCanvas, Drawable mItemIcon, int mColor, float mLeft, float mTop, float mSizePx) {
+        if (mBottomNavRenderMode != RENDER_MODE_SOFTWARE) return false;
+        int mRasterSize = MervIconRasterCache.bucketSize(
+                mSizePx,
+                mBottomNavUnselectedIconSize,
+                mBottomNavSelectedIconSize
+        );
+        return mIconRasterCache.draw(mCanvas, mItemIcon, mColor, mRasterSize, mLeft, mTop, mSizePx);
+    }
+
+    /**
+     * Öğenin seçim durumuna uygun, renk tonu önceden uygulanmış ikonunu döndürür.
+     * Kopyalar öğe başına yalnızca ilk çizimde oluşturulur; sonraki karelerde renk tonu işi yapılmaz.
+     *
+     * @param mItemIndex Öğe indeksi
+     * @param mSelected  Öğe seçili mi
+     * @return Çizilecek ikon; öğenin ikonu yoksa null
+     */
+    private Drawable ItemIconForState(int mItemIndex, boolean mSelected) {
+        if (mBottomNavItemSelectedIcons[mItemIndex] == null && !BuildItemIconVariants(mItemIndex)) {
+            return null;
+        }
+        Drawable mSelectedIcon = mBottomNavItemSelectedIcons[mItemIndex];
+        Drawable mUnselectedIcon = mBottomNavItemUnselectedIcons[mItemIndex];
+        if (mSelectedIcon != mUnselectedIcon) {
+            return mSelected ? mSelectedIcon : mUnselectedIcon;
+        }
+        // Kopyalanamayan ikon: ton yalnızca seçim durumu değiştiğinde uygulanır
+        int mColor = mSelected ? mBottomNavSelectedIconColor : mBottomNavUnselectedIconColor;
+        if (mBottomNavItemAppliedTints[mItemIndex] != mColor) {
+            mCounters.increment(MervNavCounters.DRAWABLE_TINT_CHANGES);
+            mSelectedIcon.setTint(mColor);
+            mBottomNavItemAppliedTints[mItemIndex] = mColor;
+        }
+        return mSelectedIcon;
+    }
+
+    /**
+     * Öğenin seçili ve seçilmemiş ikon kopyalarını oluşturur, mutate eder ve renk tonlarını uygular.
+     * <p>
+     * Resource ID ile verilen ikon önce paylaşılan MervIconCache'ten çözülür. Kopyalar mutate edildiği için
+     * tonlar aynı kaynağı kullanan diğer ikonlara veya görünümlere sızmaz. Her iki kopyanın sınırları da
+     * referans boyutta bir kez ayarlanır.
+     *
+     * @param mItemIndex Öğe indeksi
+     * @return Öğenin ikonu varsa true
+     */
+    private boolean BuildItemIconVariants(int mItemIndex) {
+        Drawable mBase = mBottomNavItemIcons[mItemIndex];
+        if (mBase == null && mBottomNavItemIconRes[mItemIndex] != 0) {
+            mBase = MervIconCache.obtain(getContext(), mBottomNavItemIconRes[mItemIndex]);
+            mBottomNavItemIcons[mItemIndex] = mBase;
+        }
+        if (mBase == null) return false;
+
+        Drawable mSelectedIcon = mBase.mutate();
+        Drawable.ConstantState mState = mSelectedIcon.getConstantState();
+        Drawable mUnselectedIcon = mState != null
+                ? mState.newDrawable(getResources()).mutate()
+                : mSelectedIcon;
+
+        mCounters.increment(MervNavCounters.DRAWABLE_TINT_CHANGES);
+        mSelectedIcon.setTint(mBottomNavSelectedIconColor);
+        mBottomNavItemAppliedTints[mItemIndex] = mBottomNavSelectedIconColor;
+        if (mUnselectedIcon != mSelectedIcon) {
+            mCounters.increment(MervNavCounters.DRAWABLE_TINT_CHANGES);
+            mUnselectedIcon.setTint(mBottomNavUnselectedIconColor);
+            SetIconReferenceBounds(mUnselectedIcon);
+        }
+        SetIconReferenceBounds(mSelectedIcon);
+
+        mBottomNavItemIcons[mItemIndex] = mSelectedIcon;
+        mBottomNavItemSelectedIcons[mItemIndex] = mSelectedIcon;
+        mBottomNavItemUnselectedIcons[mItemIndex] = mUnselectedIcon;
+        return true;
+    }
+
+    /**
+     * İkon renklerinden biri değiştiğinde hazır kopyalara yeni tonu bir kez uygular.
+     *
+     * @param mSelected true ise seçili, false ise seçilmemiş kopyalar
+     * @param mColor    Yeni renk
+     */
+    private void RetintItemIcons(boolean mSelected, int mColor) {
+        for (int mI = 0; mI < mBottomNavItemCount; mI++) {
+            Drawable mSelectedIcon = mBottomNavItemSelectedIcons[mI];
+            if (mSelectedIcon == null) continue;
+            Drawable mUnselectedIcon = mBottomNavItemUnselectedIcons[mI];
+            if (mSelectedIcon == mUnselectedIcon) {
+                // Tek nesneli ikon yalnızca şu anki durumunun rengi değiştiyse yeniden boyanır
+                if ((mI == mBottomNavSelectedIndex) != mSelected) continue;
+                mBottomNavItemAppliedTints[mI] = mColor;
+            }
+            mCounters.increment(MervNavCounters.DRAWABLE_TINT_CHANGES);
+            (mSelected ? mSelectedIcon : mUnselectedIcon).setTint(mColor);
+        }
     }
 
     /**
@@ -1106,33 +2594,144 @@ public class MervBottomNavigationView extends View {
      */
     @Override
     public boolean onTouchEvent(MotionEvent mMotionEvent) {
+        if (mBottomNavItemCount > 0 && mGeometry.isScrollable()) {
+            return HandleOverflowTouch(mMotionEvent);
+        }
         if (mMotionEvent.getAction() == MotionEvent.ACTION_DOWN) {
 
             if (mBottomNavItemCount == 0) {
                 return super.onTouchEvent(mMotionEvent);
             }
 
-            float mTouchX = mMotionEvent.getX();
-            float mSectionWidthPx = mViewWidth / (float) mBottomNavItemCount;
-            int mTappedIndex = (int) (mTouchX / mSectionWidthPx);
+            int mTappedIndex = mGeometry.indexAtX(mMotionEvent.getX());
 
             if (mTappedIndex >= 0 && mTappedIndex < mBottomNavItemCount) {
-                if (mTappedIndex != mBottomNavSelectedIndex) {
-                    for (int mResetIndex = 0; mResetIndex < MAX_ITEMS_SIZE; mResetIndex++) {
-                        mBottomNavItemTextAlphas[mResetIndex] = 0f;
-                        mBottomNavItemTextOffsets[mResetIndex] = mBottomNavTextAnimDistancePX;
+                SelectTappedIndex(mTappedIndex);
+            }
+            return true;
+        }
+        return super.onTouchEvent(mMotionEvent);
+    }
+
+    /**
+     * Dokunulan öğeyi seçer: farklı bir öğeyse geçiş başlatılır, seçili öğeyse dinleyici yeniden bilgilendirilir.
+     *
+     * @param mTappedIndex Dokunulan öğenin indeksi
+     */
+    private void SelectTappedIndex(int mTappedIndex) {
+        if (mTappedIndex != mBottomNavSelectedIndex) {
+            AnimationSelectionToIndex(mTappedIndex);
+        } else {
+            if (mListener != null) {
+                mCounters.increment(MervNavCounters.LISTENER_DISPATCHES);
+                mListener.onItemSelected(mBottomNavSelectedIndex);
+            }
+        }
+        performClick();
+    }
+
+    /**
+     * Taşma modundaki dokunmaları işler.
+     * <p>
+     * - Parmak dokunma eşiğinden (touch slop) fazla kayarsa hareket sürüklemeye dönüşür ve
+     * çubuk kaydırılır; bırakıldığında hız yeterliyse savurma (fling) başlatılır.
+     * - Sürüklemeye dönüşmeyen dokunuşta öğe, parmak kaldırıldığında (ACTION_UP) seçilir;
+     * böylece kaydırma niyetiyle yapılan dokunuşlar seçimi değiştirmez.
+     *
+     * @param mMotionEvent Dokunma olayı
+     * @return Olay her zaman işlenir
+     */
+    private boolean HandleOverflowTouch(MotionEvent mMotionEvent) {
+        if (mVelocityTracker == null) {
+            mVelocityTracker = VelocityTracker.obtain();
+        }
+        mVelocityTracker.addMovement(mMotionEvent);
+
+        switch (mMotionEvent.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                if (!mScroller.isFinished()) {
+                    mScroller.abortAnimation();
+                    mIsDragging = true;
+                } else {
+                    mIsDragging = false;
+                }
+                mTouchDownX = mMotionEvent.getX();
+                mLastTouchX = mTouchDownX;
+                DisallowParentIntercept(mIsDragging);
+                break;
+            case MotionEvent.ACTION_MOVE: {
+                float mX = mMotionEvent.getX();
+                if (!mIsDragging && Math.abs(mX - mTouchDownX) > mTouchSlop) {
+                    mIsDragging = true;
+                    DisallowParentIntercept(true);
+                }
+                if (mIsDragging) {
+                    int mScrollX = Math.round(getScrollX() + mLastTouchX - mX);
+                    scrollTo(Math.max(0, Math.min(mScrollX, mGeometry.getMaxScrollX())), 0);
+                }
+                mLastTouchX = mX;
+                break;
+            }
+            case MotionEvent.ACTION_UP:
+                if (mIsDragging) {
+                    mVelocityTracker.computeCurrentVelocity(1000, mMaxFlingVelocity);
+                    float mVelocityX = mVelocityTracker.getXVelocity();
+                    if (Math.abs(mVelocityX) > mMinFlingVelocity) {
+                        mScroller.fling(
+                                getScrollX(), 0,
+                                -(int) mVelocityX, 0,
+                                0, mGeometry.getMaxScrollX(),
+                                0, 0
+                        );
+                        postInvalidateOnAnimation();
                     }
-                    AnimationSelectionToIndex(mTappedIndex);
                 } else {
-                    if (mListener != null) {
-                        mListener.onItemSelected(mBottomNavSelectedIndex);
+                    int mTappedIndex = mGeometry.indexAtX(mMotionEvent.getX() + getScrollX());
+                    if (mTappedIndex >= 0 && mTappedIndex < mBottomNavItemCount) {
+                        SelectTappedIndex(mTappedIndex);
                     }
                 }
-                performClick();
-            }
-            return true;
+                EndOverflowTouch();
+                break;
+            case MotionEvent.ACTION_CANCEL:
+                EndOverflowTouch();
+                break;
+            default:
+                break;
+        }
+        return true;
+    }
+
+    /**
+     * Sürükleme sürerken üst görünümün (ör. kaydırılabilir bir kapsayıcı) dokunmayı devralmasını engeller.
+     */
+    private void DisallowParentIntercept(boolean mDisallow) {
+        ViewParent mParent = getParent();
+        if (mParent != null) {
+            mParent.requestDisallowInterceptTouchEvent(mDisallow);
+        }
+    }
+
+    /**
+     * Taşma modundaki dokunma durumunu bırakır ve hız izleyicisini geri verir.
+     */
+    private void EndOverflowTouch() {
+        mIsDragging = false;
+        if (mVelocityTracker != null) {
+            mVelocityTracker.recycle();
+            mVelocityTracker = null;
+        }
+    }
+
+    /**
+     * Savurma (fling) sürerken her karede kaydırmayı ilerletir.
+     */
+    @Override
+    public void computeScroll() {
+        if (mScroller.computeScrollOffset()) {
+            scrollTo(mScroller.getCurrX(), 0);
+            postInvalidateOnAnimation();
         }
-        return super.onTouchEvent(mMotionEvent);
     }
 
     /**
@@ -1153,10 +2752,13 @@ public class MervBottomNavigationView extends View {
      * <p>
      * - Önceki seçili öğe ve yeni seçili öğe belirlenir.
      * - Diğer öğeler varsayılan boyut ve saydamlığa ayarlanır.
-     * - Seçili öğeler arasında ikon büyütme/küçültme, metin saydamlığı ve offset
-     * animasyonları yapılır.
-     * - Seçili daire animasyonu yeni öğeye hareket eder.
+     * - Geçiş motoru (MervSelectionTransition) başlangıç/bitiş değerleriyle hazırlanır.
+     * - Tek ve yeniden kullanılan bir MervTransitionDriver, zamanlayıcının her karesinde
+     * interpolatörden geçen kesiri geçiş motoruna verir; daire konumu, ikon boyutları,
+     * metin saydamlığı ve offset değerleri bu tek kesirden hesaplanır.
      * - Animasyon tamamlandığında, seçim durumu kesinleşir ve listener çağrılır.
+     * <p>
+     * Her dokunuşta yeni animatör, dinleyici veya lambda oluşturulmaz.
      *
      * @param mNewSelectedIndex Yeni seçili menü öğesinin indeksi (0 tabanlı)
      */
@@ -1168,180 +2770,355 @@ public class MervBottomNavigationView extends View {
 
         if (mBottomNavItemCount == 0) return;
 
-        final int mPreviousSelectedIndex = mBottomNavSelectedIndex;
-        mBottomNavSelectedIndex = mNewSelectedIndex;
+        boolean mTraced = MervTrace.begin(MervTrace.SECTION_TRANSITION_START);
+        try {
+            mSelectionDriver.cancel();
+            if (mTransitionMetricsAwaitingFinalFrame) {
+                DispatchTransitionMetrics(false);
+            }
+
+            final int mPreviousSelectedIndex = mBottomNavSelectedIndex;
+            mBottomNavSelectedIndex = mNewSelectedIndex;
 
-        for (int mItemIndex = 0; mItemIndex < mBottomNavItemCount; mItemIndex++) {
-            if (mItemIndex != mPreviousSelectedIndex
-                    && mItemIndex != mNewSelectedIndex) {
-                mBottomNavItemIconSize[mItemIndex] = mBottomNavUnselectedIconSize;
-                mBottomNavItemTextAlphas[mItemIndex] = 0f;
-                mBottomNavItemTextOffsets[mItemIndex] = mBottomNavTextAnimDistancePX;
+            // Seçili olmayan değerler yalnızca önceki geçişin iki öğesinde kalmış olabilir;
+            // tüm öğeleri dolaşmak yerine yalnızca onlar sıfırlanır.
+            int mStaleFromIndex = mSelectionTransition.getFromIndex();
+            int mStaleToIndex = mSelectionTransition.getToIndex();
+            if (mStaleFromIndex >= 0 && mStaleFromIndex < mBottomNavItemCount) {
+                ResetItemState(mStaleFromIndex);
             }
-        }
+            if (mStaleToIndex >= 0 && mStaleToIndex < mBottomNavItemCount) {
+                ResetItemState(mStaleToIndex);
+            }
+            ResetItemState(mNewSelectedIndex);
+
+            mBottomNavItemIconSize[mPreviousSelectedIndex] = mBottomNavSelectedIconSize;
+            mBottomNavItemTextAlphas[mPreviousSelectedIndex] = 1f;
+            mBottomNavItemTextOffsets[mPreviousSelectedIndex] = 0f;
+
+            mSelectionTransition.start(
+                    mPreviousSelectedIndex,
+                    mNewSelectedIndex,
+                    mAnimCenterX,
+                    ComputeCenterXForIndex(mNewSelectedIndex),
+                    mBottomNavSelectedIconSize,
+                    mBottomNavUnselectedIconSize,
+                    mBottomNavTextAnimDistancePX
+            );
 
-        mBottomNavItemIconSize[mPreviousSelectedIndex] = mBottomNavSelectedIconSize;
-        mBottomNavItemTextAlphas[mPreviousSelectedIndex] = 1f;
-        mBottomNavItemTextOffsets[mPreviousSelectedIndex] = 0f;
+            if (!mScroller.isFinished()) {
+                mScroller.abortAnimation();
+            }
+            mTransitionScrollStartX = getScrollX();
+            mTransitionScrollEndX = mGeometry.scrollXForIndex(mNewSelectedIndex);
 
-        final float mStartX = mAnimCenterX;
-        final float mEndX = ComputeCenterXForIndex(mNewSelectedIndex);
+            ComputeTransitionDamage(mPreviousSelectedIndex);
 
-        if (mCircleAnimator != null && mCircleAnimator.isRunning()) {
-            mCircleAnimator.cancel();
+            if (mTransitionMetrics != null) {
+                mTransitionMetrics.begin(mPreviousSelectedIndex, mNewSelectedIndex, System.nanoTime());
+            }
+            mCounters.increment(MervNavCounters.TRANSITIONS_STARTED);
+            mTransitionTraced = MervTrace.beginAsync(
+                    MervTrace.ASYNC_SECTION_TRANSITION,
+                    System.identityHashCode(this)
+            );
+            mSelectionDriver.setDuration(mBottomNavItemAnimDuration);
+            mSelectionDriver.start();
+        } finally {
+            MervTrace.end(mTraced);
         }
+    }
 
-        ValueAnimator mCircleMoveAnimator = ValueAnimator.ofFloat(mStartX, mEndX);
-        mCircleMoveAnimator.setDuration(mBottomNavItemAnimDuration);
-        mCircleMoveAnimator.setInterpolator(
-                MervInterpolator.get(mBottomNavAnimationInterpolatorType, getContext())
-        );
-        mCircleMoveAnimator.addUpdateListener(animation -> {
-            mAnimCenterX = (float) animation.getAnimatedValue();
-            invalidate();
-        });
-        mCircleAnimator = mCircleMoveAnimator;
-
-        ValueAnimator mOldIconShrinkAnimator =
-                ValueAnimator.ofFloat(mBottomNavSelectedIconSize, mBottomNavUnselectedIconSize);
-        mOldIconShrinkAnimator.setDuration(mBottomNavItemAnimDuration);
-        mOldIconShrinkAnimator.setInterpolator(
-                MervInterpolator.get(mBottomNavAnimationInterpolatorType, getContext())
+    /**
+     * Geçişin etkileyeceği yatay bandı hesaplar.
+     * <p>
+     * Bant; dairenin başlangıç ve bitiş X'i ile önceki öğenin merkezini kapsar ve her iki yönde
+     * çıkıntının yarı genişliği (ya da daha genişse en geniş öğenin yarısı) artı gölge boşluğu kadar genişletilir.
+     * Dikeyde görünümün tamamını kapsar.
+     *
+     * @param mPreviousSelectedIndex Geçişten önce seçili olan öğenin indeksi
+     */
+    private void ComputeTransitionDamage(int mPreviousSelectedIndex) {
+        float mStartX = mSelectionTransition.getStartCenterX();
+        float mEndX = mSelectionTransition.getEndCenterX();
+        float mPreviousX = ComputeCenterXForIndex(mPreviousSelectedIndex);
+        float mMinX = Math.min(mStartX, Math.min(mEndX, mPreviousX));
+        float mMaxX = Math.max(mStartX, Math.max(mEndX, mPreviousX));
+
+        float mSectionHalfWidth = mGeometry.getMaxItemWidth() / 2f;
+        float mShadowPadding = MervShadowCache.computeShadowPadding(
+                Math.max(mBottomNavMorphBackgroundShadowLayerSize, mBottomNavCircleShadowLayerSize)
         );
-        mOldIconShrinkAnimator.addUpdateListener(animation -> {
-            mBottomNavItemIconSize[mPreviousSelectedIndex] =
-                    (float) animation.getAnimatedValue();
-            invalidate();
-        });
+        float mReach = Math.max(mGeometry.getBumpHalfWidth(), mSectionHalfWidth) + mShadowPadding;
 
-        ValueAnimator mNewIconGrowAnimator =
-                ValueAnimator.ofFloat(mBottomNavUnselectedIconSize, mBottomNavSelectedIconSize);
-        mNewIconGrowAnimator.setDuration(mBottomNavItemAnimDuration);
-        mNewIconGrowAnimator.setInterpolator(
-                MervInterpolator.get(mBottomNavAnimationInterpolatorType, getContext())
+        mTransitionDamageRect.set(
+                Math.max(0, (int) Math.floor(mMinX - mReach)),
+                0,
+                Math.min((int) Math.ceil(mGeometry.getContentWidth()), (int) Math.ceil(mMaxX + mReach)),
+                mViewHeight
         );
-        mNewIconGrowAnimator.addUpdateListener(animation -> {
-            mBottomNavItemIconSize[mNewSelectedIndex] =
-                    (float) animation.getAnimatedValue();
-            invalidate();
-        });
-
-        ValueAnimator mOldTextAlphaAnimator = ValueAnimator.ofFloat(1f, 0f);
-        mOldTextAlphaAnimator.setDuration(mBottomNavItemAnimDuration);
-        mOldTextAlphaAnimator.addUpdateListener(animation -> {
-            mBottomNavItemTextAlphas[mPreviousSelectedIndex] =
-                    (float) animation.getAnimatedValue();
-            invalidate();
-        });
-
-        ValueAnimator mOldTextOffsetAnimator = ValueAnimator.ofFloat(0f, mBottomNavTextAnimDistancePX);
-        mOldTextOffsetAnimator.setDuration(mBottomNavItemAnimDuration);
-        mOldTextOffsetAnimator.addUpdateListener(animation -> {
-            mBottomNavItemTextOffsets[mPreviousSelectedIndex] =
-                    (float) animation.getAnimatedValue();
-            invalidate();
-        });
+    }
 
-        ValueAnimator mNewTextAlphaAnimator = ValueAnimator.ofFloat(0f, 1f);
-        mNewTextAlphaAnimator.setDuration(mBottomNavItemAnimDuration);
-        mNewTextAlphaAnimator.addUpdateListener(animation -> {
-            mBottomNavItemTextAlphas[mNewSelectedIndex] =
-                    (float) animation.getAnimatedValue();
-            invalidate();
-        });
+    /**
+     * Tüm görünümün yeniden çizilmesini ister.
+     * Bir sonraki onDraw'a kadar gelen ek istekler tek bir invalidate çağrısında birleştirilir;
+     * düzenleme (edit) sırasında gelenler EndEdit'e ertelenir.
+     */
+    private void InvalidateView() {
+        mCounters.increment(MervNavCounters.INVALIDATE_REQUESTS);
+        if (mEditDepth > 0) {
+            mEditInvalidateRequested = true;
+            return;
+        }
+        if (mPendingInvalidate == INVALIDATE_FULL) return;
+        mPendingInvalidate = INVALIDATE_FULL;
+        mCounters.increment(MervNavCounters.INVALIDATE_CALLS);
+        invalidate();
+    }
 
-        ValueAnimator mNewTextOffsetAnimator = ValueAnimator.ofFloat(
-                mBottomNavTextAnimDistancePX,
-                0f
+    /**
+     * Yalnızca verilen alanın yeniden çizilmesini ister.
+     * <p>
+     * Bir sonraki onDraw'a kadar gelen alanlar birleştirilir; tam yeniden çizim zaten bekliyorsa
+     * ya da alan bekleyen hasar alanının içindeyse hiçbir şey yapılmaz.
+     * Donanım hızlandırmalı çizimde Android alanı kendi hesaplar; yazılım çiziminde ise
+     * Canvas bu alana kırpılır ve DrawItems alan dışındaki öğeleri atlar.
+     *
+     * @param mDamage Yeniden çizilecek alan (görünüm koordinatlarında)
+     */
+    @SuppressWarnings("deprecation")
+    private void InvalidateDamage(Rect mDamage) {
+        mCounters.increment(MervNavCounters.INVALIDATE_REQUESTS);
+        if (mEditDepth > 0) {
+            mEditInvalidateRequested = true;
+            return;
+        }
+        if (mPendingInvalidate == INVALIDATE_FULL) return;
+        if (mPendingInvalidate == INVALIDATE_PARTIAL) {
+            if (mPendingDamageRect.contains(mDamage)) return;
+            mPendingDamageRect.union(mDamage);
+        } else {
+            mPendingDamageRect.set(mDamage);
+            mPendingInvalidate = INVALIDATE_PARTIAL;
+        }
+        mCounters.increment(MervNavCounters.INVALIDATE_CALLS);
+        invalidate(
+                mPendingDamageRect.left,
+                mPendingDamageRect.top,
+                mPendingDamageRect.right,
+                mPendingDamageRect.bottom
         );
-        mNewTextOffsetAnimator.setDuration(mBottomNavItemAnimDuration);
-        mNewTextOffsetAnimator.addUpdateListener(animation -> {
-            mBottomNavItemTextOffsets[mNewSelectedIndex] =
-                    (float) animation.getAnimatedValue();
-            invalidate();
-        });
+    }
 
-        AnimatorSet mCombinedAnimatorSet = new AnimatorSet();
-        mCombinedAnimatorSet.setInterpolator(
-                MervInterpolator.get(mBottomNavAnimationInterpolatorType, getContext())
-        );
-        mCombinedAnimatorSet.playTogether(
-                mCircleMoveAnimator,
-                mOldIconShrinkAnimator,
-                mNewIconGrowAnimator,
-                mOldTextAlphaAnimator,
-                mOldTextOffsetAnimator,
-                mNewTextAlphaAnimator,
-                mNewTextOffsetAnimator
-        );
-        mCombinedAnimatorSet.addListener(new AnimatorListenerAdapter() {
-            @Override
-            public void onAnimationEnd(android.animation.Animator mAnimation) {
-                mBottomNavItemIconSize[mNewSelectedIndex] = mBottomNavSelectedIconSize;
-                mBottomNavItemTextAlphas[mNewSelectedIndex] = 1f;
-                mBottomNavItemTextOffsets[mNewSelectedIndex] = 0f;
-                requestLayout();
-                invalidate();
-                if (mListener != null) {
-                    mListener.onItemSelected(mNewSelectedIndex);
-                }
-            }
-        });
-        mCombinedAnimatorSet.start();
+    /**
+     * Kaydı süren geçişin metriklerini kesinleştirir ve dinleyiciye bildirir.
+     *
+     * @param mCanceled Geçiş yeni bir dokunuşla kesildiyse true
+     */
+    private void DispatchTransitionMetrics(boolean mCanceled) {
+        mTransitionMetricsAwaitingFinalFrame = false;
+        MervTransitionMetrics mMetrics = mTransitionMetrics;
+        if (mMetrics == null || !mMetrics.isRecording()) return;
+        mMetrics.finish(mCanceled);
+        if (mTransitionMetricsListener != null) {
+            mCounters.increment(MervNavCounters.LISTENER_DISPATCHES);
+            mTransitionMetricsListener.onTransitionMetrics(mMetrics);
+        }
     }
 
+    /**
+     * Metrik kare bütçesini ekranın yenileme hızından hesaplar (ör. 120 Hz → 8.33 ms).
+     * Görünüm henüz bir ekrana bağlı değilse varsayılan 60 Hz bütçesi korunur.
+     */
+    private void UpdateTransitionMetricsBudget() {
+        if (mTransitionMetrics == null) return;
+        Display mDisplay = getDisplay();
+        if (mDisplay == null) return;
+        float mRefreshRate = mDisplay.getRefreshRate();
+        if (mRefreshRate > 0f) {
+            mTransitionMetrics.setFrameBudgetNanos((long) (1_000_000_000L / mRefreshRate));
+        }
+    }
 
     /**
      * Verilen menü öğesi indeksine karşılık gelen X koordinatını hesaplar.
      * <p>
-     * Menü genişliği eşit parçalara bölünür ve indeksin ortası hesaplanır.
+     * Değer geometri motorunun önceden hesapladığı öğe merkezlerinden okunur.
      * Eğer menü öğesi yoksa, görünümün tam ortasını döner.
      *
      * @param mIndex Menü öğesi indeksi (0 tabanlı)
      * @return İlgili öğenin merkez X koordinatı (piksel cinsinden)
      */
     private float ComputeCenterXForIndex(int mIndex) {
-        if (mBottomNavItemCount <= 0) {
-            return mViewWidth / 2f;
+        return mGeometry.getItemCenterX(mIndex);
+    }
+
+    /**
+     * Geometri motorunun girdilerini güncel görünüm değerleriyle eşitler ve gerekiyorsa yeniden hesaplatır.
+     * Girdiler değişmediyse hesaplama yapılmaz.
+     */
+    private void UpdateGeometry() {
+        mGeometry.setIconSizes(mBottomNavSelectedIconSize, mBottomNavUnselectedIconSize);
+        mGeometry.setText(mBottomNavTextSize, mBottomNavTextMarginTop, mBottomNavTextPaint.ascent());
+        mGeometry.setItemCount(mBottomNavItemCount);
+        mGeometry.setMaxVisibleItems(mBottomNavMaxVisibleItems);
+        UpdateItemWidths();
+        mGeometry.setViewSize(mViewWidth, mViewHeight);
+        mGeometry.compute();
+    }
+
+    /**
+     * Genişlik moduna göre öğe ağırlıklarını geometri motoruna verir. Yalnızca ağırlıklar, başlıklar
+     * veya yazı tipi değiştiyse çalışır; ITEM_WIDTH_TITLE modunda başlıklar burada bir kez ölçülür.
+     */
+    private void UpdateItemWidths() {
+        if (!mItemWidthsDirty) return;
+        mItemWidthsDirty = false;
+
+        switch (mBottomNavItemWidthMode) {
+            case ITEM_WIDTH_WEIGHT:
+                mGeometry.setItemWeights(mBottomNavItemWeights, mBottomNavItemCount);
+                break;
+            case ITEM_WIDTH_TITLE: {
+                float mPadding = 2f * mGeometry.dp(ITEM_TITLE_PADDING_DP);
+                for (int mI = 0; mI < mBottomNavItemCount; mI++) {
+                    String mTitle = mBottomNavItemTitles[mI];
+                    float mTitleWidth = mTitle != null ? mBottomNavTextPaint.measureText(mTitle) : 0f;
+                    mBottomNavItemLayoutWeights[mI] = Math.max(mTitleWidth, mBottomNavSelectedIconSize) + mPadding;
+                }
+                mGeometry.setItemWeights(mBottomNavItemLayoutWeights, mBottomNavItemCount);
+                break;
+            }
+            case ITEM_WIDTH_EQUAL:
+            default:
+                mGeometry.setItemWeights(null, 0);
+                break;
         }
-        float mSectionWidth = ((float) mViewWidth) / mBottomNavItemCount;
-        return mSectionWidth * mIndex + mSectionWidth / 2f;
     }
 
     /**
-     * DP (density-independent pixels) değerini piksele dönüştürür.
-     * <p>
-     * Ekran yoğunluğuna göre uygun piksel değeri hesaplanır.
+     * Öğe dizilerinin en az verilen kapasitede olmasını sağlar; gerekirse hepsini birlikte büyütür.
+     * Büyütme kapasiteyi ikiye katlar, böylece tek tek eklemede toplam kopyalama maliyeti doğrusal kalır.
      *
-     * @param mDP DP cinsinden değer
-     * @return Piksel cinsinden karşılık gelen değer
+     * @param mCapacity Gereken öğe sayısı
+     */
+    private void EnsureItemCapacity(int mCapacity) {
+        int mOldCapacity = mBottomNavItemIcons.length;
+        if (mCapacity <= mOldCapacity) return;
+        int mNewCapacity = Math.max(mCapacity, mOldCapacity * 2);
+        mBottomNavItemIcons = Arrays.copyOf(mBottomNavItemIcons, mNewCapacity);
+        mBottomNavItemTitles = Arrays.copyOf(mBottomNavItemTitles, mNewCapacity);
+        mBottomNavItemIconSize = Arrays.copyOf(mBottomNavItemIconSize, mNewCapacity);
+        mBottomNavItemSelectedIcons = Arrays.copyOf(mBottomNavItemSelectedIcons, mNewCapacity);
+        mBottomNavItemUnselectedIcons = Arrays.copyOf(mBottomNavItemUnselectedIcons, mNewCapacity);
+        mBottomNavItemAppliedTints = Arrays.copyOf(mBottomNavItemAppliedTints, mNewCapacity);
+        mBottomNavItemTextAlphas = Arrays.copyOf(mBottomNavItemTextAlphas, mNewCapacity);
+        mBottomNavItemTextOffsets = Arrays.copyOf(mBottomNavItemTextOffsets, mNewCapacity);
+        mBottomNavItemWeights = Arrays.copyOf(mBottomNavItemWeights, mNewCapacity);
+        mBottomNavItemLayoutWeights = Arrays.copyOf(mBottomNavItemLayoutWeights, mNewCapacity);
+        mBottomNavItemIds = Arrays.copyOf(mBottomNavItemIds, mNewCapacity);
+        mBottomNavItemIconRes = Arrays.copyOf(mBottomNavItemIconRes, mNewCapacity);
+        ResetItems(mOldCapacity, mNewCapacity);
+    }
+
+    /**
+     * [mFrom, mTo) aralığındaki öğe yuvalarını boş ve seçilmemiş duruma getirir.
+     */
+    private void ResetItems(int mFrom, int mTo) {
+        for (int mI = mFrom; mI < mTo; mI++) {
+            mBottomNavItemIcons[mI] = null;
+            mBottomNavItemTitles[mI] = null;
+            mBottomNavItemSelectedIcons[mI] = null;
+            mBottomNavItemUnselectedIcons[mI] = null;
+            mBottomNavItemWeights[mI] = 1f;
+            mBottomNavItemIds[mI] = View.NO_ID;
+            mBottomNavItemIconRes[mI] = 0;
+            ResetItemState(mI);
+        }
+    }
+
+    /**
+     * İkon boyutları değiştikten sonra her öğenin ikon boyutu, metin saydamlığı ve offset'ini
+     * seçili / seçilmemiş durumuna göre yeniden yazar.
+     * <p>
+     * Süren bir geçişin iki öğesi atlanır; geçiş yeni boyutlara yönlendirilir ve onları sonraki karelerde
+     * ve bitişte kendisi yazar.
+     */
+    private void ApplyItemIconSizes() {
+        int mFromIndex = -1;
+        int mToIndex = -1;
+        if (mSelectionDriver.isRunning()) {
+            mSelectionTransition.setIconSizes(mBottomNavSelectedIconSize, mBottomNavUnselectedIconSize);
+            mFromIndex = mSelectionTransition.getFromIndex();
+            mToIndex = mSelectionTransition.getToIndex();
+        }
+        for (int mI = 0; mI < mBottomNavItemCount; mI++) {
+            if (mI == mFromIndex || mI == mToIndex) continue;
+            if (mI == mBottomNavSelectedIndex) {
+                mBottomNavItemIconSize[mI] = mBottomNavSelectedIconSize;
+                mBottomNavItemTextAlphas[mI] = 1f;
+                mBottomNavItemTextOffsets[mI] = 0f;
+            } else {
+                ResetItemState(mI);
+            }
+        }
+    }
+
+    /**
+     * Öğenin ikon boyutu, metin saydamlığı ve offset'ini seçilmemiş değerlere döndürür.
      */
-    private float dpToPx(float mDP) {
-        if (mDP < 0) return 0f;
+    private void ResetItemState(int mIndex) {
+        mBottomNavItemIconSize[mIndex] = mBottomNavUnselectedIconSize;
+        mBottomNavItemTextAlphas[mIndex] = 0f;
+        mBottomNavItemTextOffsets[mIndex] = mBottomNavTextAnimDistancePX;
+    }
 
-        final float MAX_DP = 1000f;
-        float mClampedDP = Math.min(mDP, MAX_DP);
+    /**
+     * Öğe geometrisi değiştikten sonra daireyi ve kaydırmayı seçili öğeye eşitler.
+     * <p>
+     * Geçiş yoksa daire ve kaydırma hemen yeni konuma alınır. Geçiş sürüyorsa bunlar sürücünün sonraki
+     * karesinde zaten üzerine yazılacağı için geçişin kendisi yeni merkeze ve kaydırma hedefine yönlendirilir;
+     * böylece geçiş seçili öğenin yeni konumunda biter.
+     */
+    private void SyncSelectionWithGeometry() {
+        if (mSelectionDriver.isRunning()) {
+            mSelectionTransition.setEndCenterX(ComputeCenterXForIndex(mBottomNavSelectedIndex));
+            mTransitionScrollEndX = mGeometry.scrollXForIndex(mBottomNavSelectedIndex);
+            ComputeTransitionDamage(mSelectionTransition.getFromIndex());
+        } else {
+            mAnimCenterX = ComputeCenterXForIndex(mBottomNavSelectedIndex);
+            ScrollToSelection();
+        }
+    }
 
-        return mClampedDP * getResources().getDisplayMetrics().density;
+    /**
+     * Taşma modunda seçili öğeyi, bekleyen kaydırma ve savurmayı bırakarak hemen görünür alana kaydırır.
+     */
+    private void ScrollToSelection() {
+        if (!mScroller.isFinished()) {
+            mScroller.abortAnimation();
+        }
+        scrollTo(mGeometry.scrollXForIndex(mBottomNavSelectedIndex), 0);
     }
+
     /**
      * Menüdeki tüm öğeleri temizler.
      * <p>
      * - Menü kaynak ID'sini sıfırlar.
      * - Menü öğelerinin ikon, başlık, boyut, saydamlık ve offset dizilerini sıfırlar.
      * - Menü öğe sayısını sıfırlar.
-     * - Görünümü yeniden çizilmesi için invalidate() çağrılır.
+     * - Görünümün yeniden çizilmesi için InvalidateView() çağrılır.
      */
     public void ClearReloadItems() {
         mBottomNavMenuRes = 0;
-        for (int mI = 0; mI < MAX_ITEMS_SIZE; mI++) {
-            mBottomNavItemIcons[mI] = null;
-            mBottomNavItemTitles[mI] = null;
-            mBottomNavItemIconSize[mI] = mBottomNavUnselectedIconSize;
-            mBottomNavItemTextAlphas[mI] = 0f;
-            mBottomNavItemTextOffsets[mI] = mBottomNavTextAnimDistancePX;
-        }
+        mIconRasterCache.clear();
+        mMenuLoadGeneration++;
+        mMenuLoading = false;
+        ResetItems(0, mBottomNavItemIcons.length);
         mBottomNavItemCount = 0;
-        invalidate();
+        mItemWidthsDirty = true;
+        UpdateGeometry();
+        scrollTo(0, 0);
+        InvalidateView();
     }
 }
@@ -0,0 +1,292 @@
+package com.merv.bottomnavigationview.library;
+
+import android.graphics.Typeface;
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+
+/**
+ * MervBottomNavigationView için toplu düzenleme (edit ... apply) işlemi.
+ * <p>
+ * Setter'lar yalnızca değeri kaydeder; görünüme hiçbir şey uygulanmaz. apply() çağrıldığında tüm değişiklikler
+ * UI iş parçacığında, görünümün ilgili setter'larıyla tek seferde uygulanır. Bu sırada istenen düzen ve
+ * yeniden çizimler ertelenir ve işlem sonunda en fazla bir requestLayout ile bir invalidate yapılır.
+ * <p>
+ * Düzenleyici herhangi bir iş parçacığında oluşturulup doldurulabilir; apply() UI iş parçacığı dışından
+ * çağrılırsa işlem ana iş parçacığının kuyruğuna post edilir. Tek bir düzenleyici tek bir iş parçacığından
+ * kullanılmalıdır ve apply() sonrasında değiştirilemez. Geçersiz değerler, değer kaydedilirken çağıran iş
+ * parçacığında reddedilir.
+ */
+public final class MervNavEditor {
+
+    private static final int BACKGROUND_COLOR = 1;
+    private static final int BACKGROUND_ELEVATION = 1 << 1;
+    private static final int CIRCLE_COLOR = 1 << 2;
+    private static final int CIRCLE_SHADOW_ELEVATION = 1 << 3;
+    private static final int SELECTED_ICON_COLOR = 1 << 4;
+    private static final int UNSELECTED_ICON_COLOR = 1 << 5;
+    private static final int SELECTED_ICON_SIZE = 1 << 6;
+    private static final int UNSELECTED_ICON_SIZE = 1 << 7;
+    private static final int TEXT_COLOR = 1 << 8;
+    private static final int TEXT_SIZE = 1 << 9;
+    private static final int TEXT_FAKE_BOLD = 1 << 10;
+    private static final int TEXT_FONT = 1 << 11;
+    private static final int TEXT_MARGIN_TOP = 1 << 12;
+    private static final int ANIMATION_INTERPOLATOR = 1 << 13;
+    private static final int ITEM_ANIMATION_DURATION = 1 << 14;
+    private static final int MAX_VISIBLE_ITEMS = 1 << 15;
+    private static final int ITEM_WIDTH_MODE = 1 << 16;
+    private static final int RENDER_MODE = 1 << 17;
+    private static final int BADGE_COLOR = 1 << 18;
+    private static final int BADGE_TEXT_COLOR = 1 << 19;
+
+    private final MervBottomNavigationView mView;
+    private int mChanged;
+    private boolean mApplied;
+
+    private int mBackgroundColor;
+    private float mBackgroundElevation;
+    private int mCircleColor;
+    private float mCircleShadowElevation;
+    private int mSelectedIconColor;
+    private int mUnselectedIconColor;
+    private float mSelectedIconSize;
+    private float mUnselectedIconSize;
+    private int mTextColor;
+    private float mTextSize;
+    private boolean mTextFakeBold;
+    private Typeface mTextFont;
+    private float mTextMarginTop;
+    private int mAnimationInterpolator;
+    private int mItemAnimationDuration;
+    private int mMaxVisibleItems;
+    private int mItemWidthMode;
+    private int mRenderMode;
+    private int mBadgeColor;
+    private int mBadgeTextColor;
+
+    MervNavEditor(@NonNull MervBottomNavigationView mView) {
+        this.mView = mView;
+    }
+
+    @NonNull
+    public MervNavEditor setBottomNavBackgroundColor(int mColor) {
+        Mark(BACKGROUND_COLOR);
+        mBackgroundColor = mColor;
+        return this;
+    }
+
+    @NonNull
+    public MervNavEditor setBottomNavBackgroundElevation(float mElevationPx) {
+        Mark(BACKGROUND_ELEVATION);
+        mBackgroundElevation = mElevationPx;
+        return this;
+    }
+
+    @NonNull
+    public MervNavEditor setBottomNavCircleColor(int mColor) {
+        Mark(CIRCLE_COLOR);
+        mCircleColor = mColor;
+        return this;
+    }
+
+    @NonNull
+    public MervNavEditor setBottomNavCircleShadowElevation(float mElevationPx) {
+        Mark(CIRCLE_SHADOW_ELEVATION);
+        mCircleShadowElevation = mElevationPx;
+        return this;
+    }
+
+    @NonNull
+    public MervNavEditor setBottomNavSelectedIconColor(int mColor) {
+        Mark(SELECTED_ICON_COLOR);
+        mSelectedIconColor = mColor;
+        return this;
+    }
+
+    @NonNull
+    public MervNavEditor setBottomNavUnselectedIconColor(int mColor) {
+        Mark(UNSELECTED_ICON_COLOR);
+        mUnselectedIconColor = mColor;
+        return this;
+    }
+
+    @NonNull
+    public MervNavEditor setBottomNavSelectedIconSize(float mSizePx) {
+        Mark(SELECTED_ICON_SIZE);
+        mSelectedIconSize = mSizePx;
+        return this;
+    }
+
+    @NonNull
+    public MervNavEditor setBottomNavUnselectedIconSize(float mSizePx) {
+        Mark(UNSELECTED_ICON_SIZE);
+        mUnselectedIconSize = mSizePx;
+        return this;
+    }
+
+    @NonNull
+    public MervNavEditor setBottomNavTextColor(int mColor) {
+        Mark(TEXT_COLOR);
+        mTextColor = mColor;
+        return this;
+    }
+
+    @NonNull
+    public MervNavEditor setBottomNavTextSize(float mTextSizePx) {
+        Mark(TEXT_SIZE);
+        mTextSize = mTextSizePx;
+        return this;
+    }
+
+    @NonNull
+    public MervNavEditor setBottomNavTextFakeBold(boolean mIsFakeBold) {
+        Mark(TEXT_FAKE_BOLD);
+        mTextFakeBold = mIsFakeBold;
+        return this;
+    }
+
+    @NonNull
+    public MervNavEditor setBottomNavTextFont(Typeface mTypeface) {
+        Mark(TEXT_FONT);
+        mTextFont = mTypeface;
+        return this;
+    }
+
+    @NonNull
+    public MervNavEditor setBottomNavTextMarginTop(float mMarginPx) {
+        Mark(TEXT_MARGIN_TOP);
+        mTextMarginTop = mMarginPx;
+        return this;
+    }
+
+    @NonNull
+    public MervNavEditor setBottomNavAnimationInterpolator(int mType) {
+        Mark(ANIMATION_INTERPOLATOR);
+        mAnimationInterpolator = mType;
+        return this;
+    }
+
+    @NonNull
+    public MervNavEditor setBottomNavItemAnimationDuration(int mDurationMs) {
+        Mark(ITEM_ANIMATION_DURATION);
+        mItemAnimationDuration = mDurationMs;
+        return this;
+    }
+
+    /**
+     * @throws IllegalArgumentException Sınır negatifse fırlatılır.
+     */
+    @NonNull
+    public MervNavEditor setBottomNavMaxVisibleItems(int mMaxVisibleItems) {
+        MervBottomNavigationView.CheckMaxVisibleItems(mMaxVisibleItems);
+        Mark(MAX_VISIBLE_ITEMS);
+        this.mMaxVisibleItems = mMaxVisibleItems;
+        return this;
+    }
+
+    /**
+     * @throws IllegalArgumentException Geçersiz bir mod verilirse fırlatılır.
+     */
+    @NonNull
+    public MervNavEditor setBottomNavItemWidthMode(int mWidthMode) {
+        MervBottomNavigationView.CheckItemWidthMode(mWidthMode);
+        Mark(ITEM_WIDTH_MODE);
+        mItemWidthMode = mWidthMode;
+        return this;
+    }
+
+    /**
+     * @throws IllegalArgumentException Geçersiz bir mod verilirse fırlatılır.
+     */
+    @NonNull
+    public MervNavEditor setBottomNavRenderMode(int mRenderMode) {
+        MervBottomNavigationView.CheckRenderMode(mRenderMode);
+        Mark(RENDER_MODE);
+        this.mRenderMode = mRenderMode;
+        return this;
+    }
+
+    @NonNull
+    public MervNavEditor setBottomNavBadgeColor(int mColor) {
+        Mark(BADGE_COLOR);
+        mBadgeColor = mColor;
+        return this;
+    }
+
+    @NonNull
+    public MervNavEditor setBottomNavBadgeTextColor(int mColor) {
+        Mark(BADGE_TEXT_COLOR);
+        mBadgeTextColor = mColor;
+        return this;
+    }
+
+    /**
+     * Kaydedilen değişiklikleri görünüme uygular.
+     * <p>
+     * UI iş parçacığından çağrılırsa hemen, aksi halde ana iş parçacığının kuyruğuna post edilerek uygulanır.
+     * View.post() yerine ana Handler kullanılır; pencereye eklenmemiş bir görünümde View.post() işlemi
+     * görünüm eklenene kadar bekletirdi.
+     * Hiçbir değer kaydedilmediyse hiçbir şey yapılmaz.
+     *
+     * @throws IllegalStateException Düzenleyici zaten uygulandıysa fırlatılır.
+     */
+    public void apply() {
+        CheckNotApplied();
+        mApplied = true;
+        if (mChanged == 0) return;
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            Commit();
+        } else {
+            new Handler(Looper.getMainLooper()).post(this::Commit);
+        }
+    }
+
+    /**
+     * Değişiklikleri görünümün setter'larıyla, ertelenmiş düzen ve çizim içinde uygular.
+     * Setter'lar XML öznitelik sırasıyla çağrılır; boyutlar yazı tipi ve boyutundan sonra gelir.
+     */
+    private void Commit() {
+        mView.BeginEdit();
+        try {
+            if (Has(RENDER_MODE)) mView.setBottomNavRenderMode(mRenderMode);
+            if (Has(BACKGROUND_COLOR)) mView.setBottomNavBackgroundColor(mBackgroundColor);
+            if (Has(BACKGROUND_ELEVATION)) mView.setBottomNavBackgroundElevation(mBackgroundElevation);
+            if (Has(CIRCLE_COLOR)) mView.setBottomNavCircleColor(mCircleColor);
+            if (Has(CIRCLE_SHADOW_ELEVATION)) mView.setBottomNavCircleShadowElevation(mCircleShadowElevation);
+            if (Has(SELECTED_ICON_COLOR)) mView.setBottomNavSelectedIconColor(mSelectedIconColor);
+            if (Has(UNSELECTED_ICON_COLOR)) mView.setBottomNavUnselectedIconColor(mUnselectedIconColor);
+            if (Has(TEXT_COLOR)) mView.setBottomNavTextColor(mTextColor);
+            if (Has(TEXT_FAKE_BOLD)) mView.setBottomNavTextFakeBold(mTextFakeBold);
+            if (Has(TEXT_FONT)) mView.setBottomNavTextFont(mTextFont);
+            if (Has(TEXT_SIZE)) mView.setBottomNavTextSize(mTextSize);
+            if (Has(TEXT_MARGIN_TOP)) mView.setBottomNavTextMarginTop(mTextMarginTop);
+            if (Has(SELECTED_ICON_SIZE)) mView.setBottomNavSelectedIconSize(mSelectedIconSize);
+            if (Has(UNSELECTED_ICON_SIZE)) mView.setBottomNavUnselectedIconSize(mUnselectedIconSize);
+            if (Has(ITEM_WIDTH_MODE)) mView.setBottomNavItemWidthMode(mItemWidthMode);
+            if (Has(MAX_VISIBLE_ITEMS)) mView.setBottomNavMaxVisibleItems(mMaxVisibleItems);
+            if (Has(ANIMATION_INTERPOLATOR)) mView.setBottomNavAnimationInterpolator(mAnimationInterpolator);
+            if (Has(ITEM_ANIMATION_DURATION)) mView.setBottomNavItemAnimationDuration(mItemAnimationDuration);
+            if (Has(BADGE_COLOR)) mView.setBottomNavBadgeColor(mBadgeColor);
+            if (Has(BADGE_TEXT_COLOR)) mView.setBottomNavBadgeTextColor(mBadgeTextColor);
+        } finally {
+            mView.EndEdit();
+        }
+    }
+
+    private void Mark(int mProperty) {
+        CheckNotApplied();
+        mChanged |= mProperty;
+    }
+
+    private boolean Has(int mProperty) {
+        return (mChanged & mProperty) != 0;
+    }
+
+    private void CheckNotApplied() {
+        if (mApplied) {
+            throw new IllegalStateException("Bu düzenleyici zaten uygulandı; yeni bir edit() kullanın.");
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.merv.bottomnavigationview.library.Metrics;
+
+import java.util.Arrays;
+
+/**
+ * Görünümün çalışma zamanında yaptığı işleri sayan hafif sayaç kümesi.
+ * <p>
+ * Her sayaç bir sabitle (INVALIDATE_REQUESTS ... BADGE_CHANGES) adreslenen tek bir long'dur;
+ * artırma bellek ayırmaz. Uygulama sayaçları periyodik olarak snapshotAndReset() ile okuyup
+ * telemetriye gönderebilir; okunan değerler sıfırlanır ve sonraki örnek yalnızca aradaki işi içerir.
+ * <p>
+ * Android bağımlılığı yoktur; tek iş parçacığından (UI) kullanılmalıdır.
+ */
+public class MervNavCounters {
+
+    /**
+     * Yeniden çizim istekleri (tam veya alan), birleştirilmeden önce.
+     */
+    public static final int INVALIDATE_REQUESTS = 0;
+
+    /**
+     * Birleştirmeden sonra gerçekten yapılan invalidate çağrıları.
+     */
+    public static final int INVALIDATE_CALLS = 1;
+
+    /**
+     * Çizilen kareler (onDraw çağrıları).
+     */
+    public static final int FRAMES_DRAWN = 2;
+
+    /**
+     * Çıkıntı yolunun ve çubuk dikdörtgeninin yeniden oluşturulması.
+     */
+    public static final int PATH_REBUILDS = 3;
+
+    /**
+     * Sınırları (bounds) gerçekten değişen ikonlar.
+     */
+    public static final int DRAWABLE_BOUNDS_CHANGES = 4;
+
+    /**
+     * Renk tonu gerçekten yeniden uygulanan ikonlar.
+     */
+    public static final int DRAWABLE_TINT_CHANGES = 5;
+
+    /**
+     * requestLayout çağrıları.
+     */
+    public static final int LAYOUT_REQUESTS = 6;
+
+    public static final int TRANSITIONS_STARTED = 7;
+    public static final int TRANSITIONS_CANCELED = 8;
+    public static final int TRANSITIONS_COMPLETED = 9;
+
+    /**
+     * Seçim ve geçiş metriği dinleyicilerine yapılan bildirimler.
+     */
+    public static final int LISTENER_DISPATCHES = 10;
+
+    /**
+     * UI iş parçacığında yapılan rozet boşaltmaları; her biri bir karede gelen tüm güncellemeleri kapsar.
+     */
+    public static final int BADGE_FLUSHES = 11;
+
+    /**
+     * Boşaltmalarda çizilen değeri gerçekten değişen öğe rozetleri.
+     */
+    public static final int BADGE_CHANGES = 12;
+
+    /**
+     * Sayaç sayısı.
+     */
+    public static final int COUNTER_COUNT = 13;
+
+    private static final String[] NAMES = {
+            "invalidateRequests",
+            "invalidateCalls",
+            "framesDrawn",
+            "pathRebuilds",
+            "drawableBoundsChanges",
+            "drawableTintChanges",
+            "layoutRequests",
+            "transitionsStarted",
+            "transitionsCanceled",
+            "transitionsCompleted",
+            "listenerDispatches",
+            "badgeFlushes",
+            "badgeChanges"
+    };
+
+    private final long[] mValues = new long[COUNTER_COUNT];
+
+    /**
+     * Verilen sayacı bir artırır.
+     *
+     * @param mCounter Sayaç sabiti
+     */
+    public void increment(int mCounter) {
+        mValues[mCounter]++;
+    }
+
+    /**
+     * @param mCounter Sayaç sabiti
+     * @return Sayacın son sıfırlamadan bu yana değeri
+     */
+    public long get(int mCounter) {
+        return mValues[mCounter];
+    }
+
+    /**
+     * Sayacın telemetri için kararlı adını döndürür (ör. "framesDrawn").
+     *
+     * @param mCounter Sayaç sabiti
+     * @return Sayacın adı
+     */
+    public static String getName(int mCounter) {
+        return NAMES[mCounter];
+    }
+
+    /**
+     * Tüm sayaçları verilen nesneye kopyalar ve bu nesnedeki değerleri sıfırlar. Bellek ayırmaz.
+     *
+     * @param mInto Değerlerin yazılacağı nesne; periyodik örneklemede yeniden kullanılabilir
+     * @return mInto
+     */
+    public MervNavCounters snapshotAndReset(MervNavCounters mInto) {
+        System.arraycopy(mValues, 0, mInto.mValues, 0, COUNTER_COUNT);
+        reset();
+        return mInto;
+    }
+
+    /**
+     * Tüm sayaçları yeni bir nesneye kopyalar ve bu nesnedeki değerleri sıfırlar.
+     *
+     * @return Sıfırlamadan önceki değerleri taşıyan yeni nesne
+     */
+    public MervNavCounters snapshotAndReset() {
+        return snapshotAndReset(new MervNavCounters());
+    }
+
+    /**
+     * Tüm sayaçları sıfırlar.
+     */
+    public void reset() {
+        Arrays.fill(mValues, 0L);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder mBuilder = new StringBuilder("MervNavCounters{");
+        for (int mI = 0; mI < COUNTER_COUNT; mI++) {
+            if (mI > 0) mBuilder.append(", ");
+            mBuilder.append(NAMES[mI]).append('=').append(mValues[mI]);
+        }
+        return mBuilder.append('}').toString();
+    }
+}
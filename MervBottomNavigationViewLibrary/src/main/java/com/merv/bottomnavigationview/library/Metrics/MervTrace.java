@@ -0,0 +1,97 @@
+package com.merv.bottomnavigationview.library.Metrics;
+
+import android.os.Trace;
+
+/**
+ * Görünümün yaşam döngüsündeki adımları sistem izlerine (Perfetto / systrace) adlandırılmış
+ * bölümler olarak yazan, çalışma zamanında açılıp kapatılabilen ince sarmalayıcı.
+ * <p>
+ * Varsayılan olarak kapalıdır; kapalıyken her çağrının maliyeti tek bir volatile okumadır ve bellek ayrılmaz.
+ * Açıkken bölümler yalnızca bir iz kaydı sürerken (Trace.isEnabled()) yazılır.
+ * <p>
+ * begin() dönüş değeri end()'e geri verilmelidir; böylece bölüm sürerken anahtar değişse bile
+ * açılan ve kapanan bölümler her zaman dengede kalır.
+ */
+public final class MervTrace {
+
+    public static final String SECTION_PARSE_ATTRIBUTES = "MervNav#parseAttributes";
+    public static final String SECTION_SET_MENU = "MervNav#setMenu";
+    public static final String SECTION_ON_MEASURE = "MervNav#onMeasure";
+    public static final String SECTION_ON_DRAW = "MervNav#onDraw";
+    public static final String SECTION_DRAW_BACKGROUND = "MervNav#drawBackgroundBump";
+    public static final String SECTION_DRAW_ITEMS = "MervNav#drawItems";
+    public static final String SECTION_TRANSITION_START = "MervNav#transitionStart";
+    public static final String SECTION_TRANSITION_END = "MervNav#transitionEnd";
+
+    /**
+     * Geçişin başından sonuna kadar süren asenkron bölüm; çakışan görünümler cookie ile ayrılır.
+     */
+    public static final String ASYNC_SECTION_TRANSITION = "MervNav#transition";
+
+    private static volatile boolean sEnabled;
+
+    private MervTrace() {
+    }
+
+    /**
+     * İz bölümlerini açar veya kapatır. Herhangi bir iş parçacığından çağrılabilir.
+     *
+     * @param mEnabled true ise bölümler yazılır
+     */
+    public static void setEnabled(boolean mEnabled) {
+        sEnabled = mEnabled;
+    }
+
+    public static boolean isEnabled() {
+        return sEnabled;
+    }
+
+    /**
+     * Anahtar açıksa ve bir iz kaydı sürüyorsa bir bölüm başlatır.
+     *
+     * @param mSectionName Bölüm adı (SECTION_* sabitleri)
+     * @return Bölüm başlatıldıysa true; end()'e verilmelidir
+     */
+    public static boolean begin(String mSectionName) {
+        if (!sEnabled || !Trace.isEnabled()) return false;
+        Trace.beginSection(mSectionName);
+        return true;
+    }
+
+    /**
+     * begin() ile başlatılan bölümü kapatır.
+     *
+     * @param mTraced begin() dönüş değeri
+     */
+    public static void end(boolean mTraced) {
+        if (mTraced) {
+            Trace.endSection();
+        }
+    }
+
+    /**
+     * Farklı karelere yayılan asenkron bir bölüm başlatır.
+     *
+     * @param mSectionName Bölüm adı
+     * @param mCookie      Aynı ada sahip eşzamanlı bölümleri ayıran değer
+     * @return Bölüm başlatıldıysa true; endAsync()'e verilmelidir
+     */
+    public static boolean beginAsync(String mSectionName, int mCookie) {
+        if (!sEnabled || !Trace.isEnabled()) return false;
+        Trace.beginAsyncSection(mSectionName, mCookie);
+        return true;
+    }
+
+    /**
+     * beginAsync() ile başlatılan bölümü kapatır.
+     *
+     * @param mSectionName Bölüm adı
+     * @param mCookie      beginAsync()'e verilen değer
+     * @param mTraced      beginAsync() dönüş değeri
+     */
+    public static void endAsync(String mSectionName, int mCookie, boolean mTraced) {
+        if (mTraced) {
+            Trace.endAsyncSection(mSectionName, mCookie);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.merv.bottomnavigationview.library.Metrics;
+
+import java.util.Arrays;
+
+/**
+ * Tek bir seçim geçişinin kare metriklerini toplayan, yeniden kullanılan kayıt nesnesi.
+ * <p>
+ * Geçiş boyunca her onDraw süresi sabit boyutlu bir halka tampona (ring buffer) yazılır;
+ * en kötü süre ve bütçeyi aşan kare sayısı tüm kareler üzerinden, p95 ise tamponda kalan
+ * son kareler üzerinden hesaplanır. Kayıt ve özet hesaplama bellek ayırmaz.
+ * <p>
+ * Android bağımlılığı yoktur; tek iş parçacığından (UI) kullanılmalıdır.
+ */
+public class MervTransitionMetrics {
+
+    /**
+     * Halka tamponun varsayılan kapasitesi (60 Hz'de 2 saniye).
+     */
+    public static final int DEFAULT_CAPACITY = 120;
+
+    /**
+     * Varsayılan kare bütçesi (60 Hz).
+     */
+    public static final long DEFAULT_FRAME_BUDGET_NANOS = 16_666_667L;
+
+    private final long[] mDrawNanos;
+    private final long[] mSortScratch;
+    private long mFrameBudgetNanos = DEFAULT_FRAME_BUDGET_NANOS;
+
+    private boolean mRecording;
+    private int mFromIndex = -1;
+    private int mToIndex = -1;
+    private long mStartNanos;
+    private long mLastFrameNanos;
+    private int mFrameCount;
+    private int mFramesOverBudget;
+    private long mWorstDrawNanos;
+    private long mP95DrawNanos;
+    private long mTotalDurationNanos;
+    private boolean mCanceled;
+
+    public MervTransitionMetrics() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param mCapacity Halka tamponun kare kapasitesi (en az 1)
+     */
+    public MervTransitionMetrics(int mCapacity) {
+        if (mCapacity < 1) {
+            throw new IllegalArgumentException("Kapasite en az 1 olmalı: " + mCapacity);
+        }
+        mDrawNanos = new long[mCapacity];
+        mSortScratch = new long[mCapacity];
+    }
+
+    /**
+     * Bir karenin aşmaması gereken onDraw süresini ayarlar.
+     *
+     * @param mFrameBudgetNanos Kare bütçesi (nanosaniye, 0'dan büyük)
+     */
+    public void setFrameBudgetNanos(long mFrameBudgetNanos) {
+        if (mFrameBudgetNanos <= 0L) {
+            throw new IllegalArgumentException("Kare bütçesi 0'dan büyük olmalı: " + mFrameBudgetNanos);
+        }
+        this.mFrameBudgetNanos = mFrameBudgetNanos;
+    }
+
+    /**
+     * Yeni bir geçişin kaydını başlatır; önceki değerler sıfırlanır.
+     *
+     * @param mFromIndex  Önceki seçili öğe
+     * @param mToIndex    Yeni seçili öğe
+     * @param mStartNanos Geçişin başlangıç zamanı (System.nanoTime)
+     */
+    public void begin(int mFromIndex, int mToIndex, long mStartNanos) {
+        this.mFromIndex = mFromIndex;
+        this.mToIndex = mToIndex;
+        this.mStartNanos = mStartNanos;
+        this.mLastFrameNanos = mStartNanos;
+        mFrameCount = 0;
+        mFramesOverBudget = 0;
+        mWorstDrawNanos = 0L;
+        mP95DrawNanos = 0L;
+        mTotalDurationNanos = 0L;
+        mCanceled = false;
+        mRecording = true;
+    }
+
+    /**
+     * Bir karenin onDraw süresini kaydeder. Kayıt yoksa hiçbir şey yapmaz.
+     *
+     * @param mDrawNanos onDraw süresi (nanosaniye)
+     * @param mEndNanos  onDraw'ın bittiği zaman (System.nanoTime)
+     */
+    public void recordFrame(long mDrawNanos, long mEndNanos) {
+        if (!mRecording) return;
+        this.mDrawNanos[mFrameCount % this.mDrawNanos.length] = mDrawNanos;
+        mFrameCount++;
+        if (mDrawNanos > mFrameBudgetNanos) mFramesOverBudget++;
+        if (mDrawNanos > mWorstDrawNanos) mWorstDrawNanos = mDrawNanos;
+        mLastFrameNanos = mEndNanos;
+    }
+
+    /**
+     * Kaydı bitirir ve özet değerleri hesaplar. Toplam süre, başlangıçtan son karenin bitişine kadardır.
+     *
+     * @param mCanceled Geçiş yeni bir dokunuşla kesildiyse true
+     */
+    public void finish(boolean mCanceled) {
+        if (!mRecording) return;
+        mRecording = false;
+        this.mCanceled = mCanceled;
+        mTotalDurationNanos = mLastFrameNanos - mStartNanos;
+
+        int mRetained = Math.min(mFrameCount, mDrawNanos.length);
+        if (mRetained == 0) {
+            mP95DrawNanos = 0L;
+            return;
+        }
+        System.arraycopy(mDrawNanos, 0, mSortScratch, 0, mRetained);
+        Arrays.sort(mSortScratch, 0, mRetained);
+        // En yakın sıra (nearest-rank) yöntemi
+        int mRank = (int) Math.ceil(0.95 * mRetained);
+        mP95DrawNanos = mSortScratch[Math.max(0, mRank - 1)];
+    }
+
+    public boolean isRecording() {
+        return mRecording;
+    }
+
+    public int getFromIndex() {
+        return mFromIndex;
+    }
+
+    public int getToIndex() {
+        return mToIndex;
+    }
+
+    /**
+     * @return Geçiş boyunca çizilen kare sayısı
+     */
+    public int getFrameCount() {
+        return mFrameCount;
+    }
+
+    /**
+     * @return onDraw süresi kare bütçesini aşan kare sayısı
+     */
+    public int getFramesOverBudget() {
+        return mFramesOverBudget;
+    }
+
+    /**
+     * @return En uzun onDraw süresi (nanosaniye)
+     */
+    public long getWorstDrawNanos() {
+        return mWorstDrawNanos;
+    }
+
+    /**
+     * @return onDraw sürelerinin 95. yüzdeliği (nanosaniye, tampondaki son kareler üzerinden)
+     */
+    public long getP95DrawNanos() {
+        return mP95DrawNanos;
+    }
+
+    /**
+     * @return Geçişin başlangıcından son karenin bitişine kadar geçen süre (nanosaniye)
+     */
+    public long getTotalDurationNanos() {
+        return mTotalDurationNanos;
+    }
+
+    public long getFrameBudgetNanos() {
+        return mFrameBudgetNanos;
+    }
+
+    /**
+     * @return Geçiş yeni bir dokunuşla kesildiyse true
+     */
+    public boolean isCanceled() {
+        return mCanceled;
+    }
+}
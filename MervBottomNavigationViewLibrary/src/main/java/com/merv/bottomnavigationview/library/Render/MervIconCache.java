@@ -0,0 +1,155 @@
+package com.merv.bottomnavigationview.library.Render;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.graphics.drawable.Drawable;
+
+import androidx.core.content.res.ResourcesCompat;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Görünüm örnekleri arasında paylaşılan, süreç genelinde ikon önbelleği.
+ * <p>
+ * İkonlar resource ID, tema ve kaynak yapılandırmasıyla anahtarlanır. Bir ikon ilk istendiğinde
+ * bir kez yüklenir (vektör XML'i ayrıştırılır) ve Drawable.ConstantState'i saklanır; sonraki istekler
+ * yalnızca bu durumu paylaşan yeni bir Drawable oluşturur. Dönen Drawable mutate edilmemiştir;
+ * renk tonu gibi durum değiştiren işlemlerden önce çağıran tarafından mutate edilmelidir.
+ * <p>
+ * En son kullanılan MAX_ENTRIES durum tutulur. Herhangi bir iş parçacığından kullanılabilir.
+ */
+public final class MervIconCache {
+
+    private static final int MAX_ENTRIES = 64;
+
+    private static final Map<Key, Drawable.ConstantState> sStates =
+            new LinkedHashMap<Key, Drawable.ConstantState>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Drawable.ConstantState> mEldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            };
+
+    private MervIconCache() {
+    }
+
+    /**
+     * İkonun paylaşılan durumdan oluşturulmuş yeni bir örneğini döndürür; durum önbellekte yoksa yüklenir.
+     *
+     * @param mContext Kaynakların ve temanın alınacağı bağlam
+     * @param mIconRes İkonun resource ID'si
+     * @return Mutate edilmemiş yeni Drawable
+     * @throws Resources.NotFoundException İkon bulunamazsa
+     */
+    public static Drawable obtain(Context mContext, int mIconRes) {
+        Resources mResources = mContext.getResources();
+        Resources.Theme mTheme = mContext.getTheme();
+        Key mKey = new Key(mIconRes, mTheme, mResources.getConfiguration());
+
+        Drawable.ConstantState mState;
+        synchronized (sStates) {
+            mState = sStates.get(mKey);
+        }
+        if (mState != null) {
+            return mState.newDrawable(mResources, mTheme);
+        }
+
+        Drawable mIcon = ResourcesCompat.getDrawable(mResources, mIconRes, mTheme);
+        if (mIcon == null) {
+            throw new Resources.NotFoundException("İkon yüklenemedi: " + mIconRes);
+        }
+        mState = mIcon.getConstantState();
+        if (mState != null) {
+            Key mStoredKey = mKey.Snapshot();
+            synchronized (sStates) {
+                sStates.put(mStoredKey, mState);
+            }
+        }
+        return mIcon;
+    }
+
+    /**
+     * İkonu, henüz yoksa önbelleğe yükler. Arka plan iş parçacığında ön ısıtma için kullanılır.
+     *
+     * @param mContext Kaynakların ve temanın alınacağı bağlam
+     * @param mIconRes İkonun resource ID'si
+     */
+    public static void preload(Context mContext, int mIconRes) {
+        obtain(mContext, mIconRes);
+    }
+
+    /**
+     * @return Önbellekteki durum sayısı
+     */
+    public static int size() {
+        synchronized (sStates) {
+            return sStates.size();
+        }
+    }
+
+    /**
+     * Tüm paylaşılan durumları bırakır (ör. onTrimMemory içinde).
+     */
+    public static void clear() {
+        synchronized (sStates) {
+            sStates.clear();
+        }
+    }
+
+    /**
+     * Önbellek anahtarı. Tema, Resources.Theme.equals() ile karşılaştırılır; bu karşılaştırma temaya uygulanan
+     * stillerin listesine bakar, böylece aynı stillere sahip farklı Theme nesneleri (ör. yeniden oluşturulan
+     * Activity) aynı anahtarı bulur ve hash çakışması yanlış ikonu döndürmez. Yapılandırma da tüm alanlarıyla
+     * Configuration.equals() ile karşılaştırılır; drawable-land, drawable-ldrtl veya dil ve ekran boyutu
+     * niteleyicili bir ikon yapılandırma değiştiğinde yeniden yüklenir.
+     * <p>
+     * Arama anahtarı çağıranın tema ve yapılandırmasını kullanır; önbelleğe yazılan anahtar ise ikisinin de
+     * kopyasını tutar. Böylece Activity'nin teması sonradan değişse de saklanan anahtar değişmez.
+     */
+    private static final class Key {
+        private final int mIconRes;
+        private final Resources.Theme mTheme;
+        private final int mThemeHash;
+        private final Configuration mConfiguration;
+
+        Key(int mIconRes, Resources.Theme mTheme, Configuration mConfiguration) {
+            this.mIconRes = mIconRes;
+            this.mTheme = mTheme;
+            this.mThemeHash = mTheme != null ? mTheme.hashCode() : 0;
+            this.mConfiguration = mConfiguration;
+        }
+
+        /**
+         * @return Tema ve yapılandırmanın kopyasını tutan, önbelleğe yazılacak anahtar
+         */
+        Key Snapshot() {
+            Resources.Theme mSnapshot = null;
+            if (mTheme != null) {
+                mSnapshot = mTheme.getResources().newTheme();
+                mSnapshot.setTo(mTheme);
+            }
+            return new Key(mIconRes, mSnapshot, new Configuration(mConfiguration));
+        }
+
+        @Override
+        public boolean equals(Object mOther) {
+            if (this == mOther) return true;
+            if (!(mOther instanceof Key)) return false;
+            Key mKey = (Key) mOther;
+            return mIconRes == mKey.mIconRes
+                    && mThemeHash == mKey.mThemeHash
+                    && mConfiguration.equals(mKey.mConfiguration)
+                    && Objects.equals(mTheme, mKey.mTheme);
+        }
+
+        @Override
+        public int hashCode() {
+            int mHash = mIconRes;
+            mHash = 31 * mHash + mThemeHash;
+            return 31 * mHash + mConfiguration.hashCode();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.merv.bottomnavigationview.library.Render;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.graphics.drawable.Drawable;
+
+import java.util.Arrays;
+
+/**
+ * Öğe ikonlarının renk tonu uygulanmış hallerini belirli boyutlarda Bitmap olarak tutan önbellek.
+ * <p>
+ * Yazılım katmanında bir VectorDrawable her çizimde yollarını yeniden işler. Bu önbellek her
+ * (ikon, renk, boyut) üçlüsünü bir kez Bitmap'e çizer; sonraki karelerde yalnızca Bitmap kopyalanır.
+ * Boyutlar seçili ve seçilmemiş ikon boyutları ile aralarındaki birkaç ara kovaya (bucket) yuvarlanır,
+ * bu yüzden büyüme / küçülme animasyonu da sınırlı sayıda Bitmap ile çizilir.
+ * <p>
+ * Toplam bayt bütçesi aşıldığında en uzun süredir kullanılmayan Bitmap'ler çıkarılır. Arama ve çizim
+ * bellek ayırmaz; yalnızca yeni bir Bitmap üretildiğinde ayırma yapılır. UI iş parçacığından kullanılmalıdır.
+ */
+public class MervIconRasterCache {
+
+    /**
+     * Varsayılan bayt bütçesi (2 MiB).
+     */
+    public static final int DEFAULT_BUDGET_BYTES = 2 * 1024 * 1024;
+
+    /**
+     * Seçili ve seçilmemiş boyut arasındaki ara kova sayısı.
+     */
+    public static final int INTERMEDIATE_BUCKETS = 4;
+
+    private static final int BYTES_PER_PIXEL = 4;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Drawable[] mSources = new Drawable[INITIAL_CAPACITY];
+    private int[] mColors = new int[INITIAL_CAPACITY];
+    private int[] mSizes = new int[INITIAL_CAPACITY];
+    private Bitmap[] mBitmaps = new Bitmap[INITIAL_CAPACITY];
+    private long[] mLastUsed = new long[INITIAL_CAPACITY];
+    private int mCount;
+    private long mTick;
+    private long mByteCount;
+    private int mBudgetBytes = DEFAULT_BUDGET_BYTES;
+
+    private final Canvas mRasterCanvas = new Canvas();
+    private final Rect mSavedBounds = new Rect();
+    private final RectF mDstRect = new RectF();
+    private final Paint mBitmapPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+
+    /**
+     * Animasyondaki bir ikon boyutunu en yakın kovaya yuvarlar.
+     * <p>
+     * Kovalar mMinSize ile mMaxSize arasında eşit aralıklıdır; iki uç her zaman birer kovadır.
+     *
+     * @param mSize    Çizilecek boyut (piksel)
+     * @param mMinSize Seçilmemiş ikon boyutu (piksel)
+     * @param mMaxSize Seçili ikon boyutu (piksel)
+     * @return Bitmap'in üretileceği boyut (piksel)
+     */
+    public static int bucketSize(float mSize, float mMinSize, float mMaxSize) {
+        float mLow = Math.min(mMinSize, mMaxSize);
+        float mHigh = Math.max(mMinSize, mMaxSize);
+        if (mHigh - mLow < 1f) return Math.round(mSize);
+        int mSteps = INTERMEDIATE_BUCKETS + 1;
+        float mFraction = (mSize - mLow) / (mHigh - mLow);
+        int mStep = Math.round(Math.max(0f, Math.min(1f, mFraction)) * mSteps);
+        return Math.round(mLow + (mHigh - mLow) * mStep / mSteps);
+    }
+
+    /**
+     * İkonu, ilgili Bitmap'ten verilen kareye çizer; Bitmap yoksa bir kez üretir.
+     * <p>
+     * İkonun renk tonu çağıran tarafından mColor olarak önceden uygulanmış olmalıdır.
+     *
+     * @param mCanvas     Çizimin yapılacağı Canvas
+     * @param mIcon       Öğenin ikonu (anahtar olarak kimliği kullanılır)
+     * @param mColor      İkona uygulanmış renk tonu
+     * @param mRasterSize Bitmap boyutu (bucketSize ile yuvarlanmış, piksel)
+     * @param mLeft       Hedef karenin sol kenarı
+     * @param mTop        Hedef karenin üst kenarı
+     * @param mDrawSize   Hedef karenin kenar uzunluğu (animasyondaki gerçek boyut)
+     * @return Bitmap ile çizildiyse true; bütçe yetmiyorsa false (ikon doğrudan çizilmelidir)
+     */
+    public boolean draw(
+            Canvas mCanvas,
+            Drawable mIcon,
+            int mColor,
+            int mRasterSize,
+            float mLeft,
+            float mTop,
+            float mDrawSize
+    ) {
+        if (mRasterSize <= 0) return false;
+        int mIndex = IndexOf(mIcon, mColor, mRasterSize);
+        if (mIndex < 0) {
+            mIndex = Rasterize(mIcon, mColor, mRasterSize);
+            if (mIndex < 0) return false;
+        }
+        mLastUsed[mIndex] = ++mTick;
+        mDstRect.set(mLeft, mTop, mLeft + mDrawSize, mTop + mDrawSize);
+        mCanvas.drawBitmap(mBitmaps[mIndex], null, mDstRect, mBitmapPaint);
+        return true;
+    }
+
+    /**
+     * Bayt bütçesini ayarlar ve gerekirse en eski Bitmap'leri çıkarır. 0 önbelleği kapatır.
+     *
+     * @param mBudgetBytes Bütçe (bayt)
+     */
+    public void setBudgetBytes(int mBudgetBytes) {
+        this.mBudgetBytes = Math.max(0, mBudgetBytes);
+        EvictUntil(this.mBudgetBytes);
+    }
+
+    public int getBudgetBytes() {
+        return mBudgetBytes;
+    }
+
+    /**
+     * @return Tutulan Bitmap'lerin toplam boyutu (bayt)
+     */
+    public long getByteCount() {
+        return mByteCount;
+    }
+
+    /**
+     * @return Tutulan Bitmap sayısı
+     */
+    public int getEntryCount() {
+        return mCount;
+    }
+
+    /**
+     * Tüm Bitmap'leri serbest bırakır.
+     */
+    public void clear() {
+        EvictUntil(-1);
+    }
+
+    private int IndexOf(Drawable mIcon, int mColor, int mSize) {
+        for (int mI = 0; mI < mCount; mI++) {
+            if (mSources[mI] == mIcon && mColors[mI] == mColor && mSizes[mI] == mSize) {
+                return mI;
+            }
+        }
+        return -1;
+    }
+
+    private int Rasterize(Drawable mIcon, int mColor, int mSize) {
+        long mBytes = (long) mSize * mSize * BYTES_PER_PIXEL;
+        if (mBytes > mBudgetBytes) return -1;
+        EvictUntil(mBudgetBytes - mBytes);
+
+        Bitmap mBitmap = Bitmap.createBitmap(mSize, mSize, Bitmap.Config.ARGB_8888);
+        mSavedBounds.set(mIcon.getBounds());
+        mIcon.setBounds(0, 0, mSize, mSize);
+        mRasterCanvas.setBitmap(mBitmap);
+        mIcon.draw(mRasterCanvas);
+        mRasterCanvas.setBitmap(null);
+        mIcon.setBounds(mSavedBounds);
+
+        if (mCount == mSources.length) {
+            int mCapacity = mCount * 2;
+            mSources = Arrays.copyOf(mSources, mCapacity);
+            mColors = Arrays.copyOf(mColors, mCapacity);
+            mSizes = Arrays.copyOf(mSizes, mCapacity);
+            mBitmaps = Arrays.copyOf(mBitmaps, mCapacity);
+            mLastUsed = Arrays.copyOf(mLastUsed, mCapacity);
+        }
+        int mIndex = mCount++;
+        mSources[mIndex] = mIcon;
+        mColors[mIndex] = mColor;
+        mSizes[mIndex] = mSize;
+        mBitmaps[mIndex] = mBitmap;
+        mByteCount += mBytes;
+        return mIndex;
+    }
+
+    /**
+     * Toplam boyut mLimit'e inene kadar en uzun süredir kullanılmayan Bitmap'leri çıkarır.
+     */
+    private void EvictUntil(long mLimit) {
+        while (mCount > 0 && mByteCount > mLimit) {
+            int mOldest = 0;
+            for (int mI = 1; mI < mCount; mI++) {
+                if (mLastUsed[mI] < mLastUsed[mOldest]) mOldest = mI;
+            }
+            RemoveAt(mOldest);
+        }
+    }
+
+    private void RemoveAt(int mIndex) {
+        Bitmap mBitmap = mBitmaps[mIndex];
+        mByteCount -= (long) mSizes[mIndex] * mSizes[mIndex] * BYTES_PER_PIXEL;
+        if (!mBitmap.isRecycled()) {
+            mBitmap.recycle();
+        }
+        int mLast = --mCount;
+        mSources[mIndex] = mSources[mLast];
+        mColors[mIndex] = mColors[mLast];
+        mSizes[mIndex] = mSizes[mLast];
+        mBitmaps[mIndex] = mBitmaps[mLast];
+        mLastUsed[mIndex] = mLastUsed[mLast];
+        mSources[mLast] = null;
+        mBitmaps[mLast] = null;
+    }
+}
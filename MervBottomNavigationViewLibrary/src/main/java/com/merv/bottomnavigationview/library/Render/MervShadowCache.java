@@ -0,0 +1,285 @@
+package com.merv.bottomnavigationview.library.Render;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.PorterDuff;
+import android.graphics.PorterDuffXfermode;
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+/**
+ * Donanım hızlandırmalı (GPU) çizim modunda kullanılan önceden hesaplanmış gölge önbelleği.
+ * <p>
+ * Paint.setShadowLayer her karede bulanıklık hesaplaması gerektirdiği için gölgeler
+ * yalnızca boyut, yarıçap veya gölge kalınlığı değiştiğinde bir kez Bitmap'e çizilir.
+ * Kare başına yapılan iş, hazırlanmış Bitmap'lerin doğru konuma kopyalanmasından ibarettir.
+ * <p>
+ * Üç gölge tutulur:
+ * - Seçili dairenin gölgesi (daire merkezine göre konumlanır).
+ * - Çubuğun düz üst kenarının gölgesi (dar bir şerit, yatayda esnetilir).
+ * - Çıkıntının (bump) ve altındaki çubuk parçasının birleşik gölgesi (animasyon merkezine göre kaydırılır).
+ * <p>
+ * Gölge Bitmap'lerinden şeklin kendisi silinir, yani şeklin dolgusu her zaman ayrıca çizilmelidir.
+ */
+public class MervShadowCache {
+
+    /**
+     * Düz kenar şeridinin genişliği (piksel). Kenar gölgesi yatayda sabit olduğu için küçük tutulur.
+     */
+    private static final int EDGE_STRIP_WIDTH = 4;
+
+    /**
+     * Gölge Bitmap'lerini üretirken kullanılan, gölge katmanlı Paint.
+     */
+    private final Paint mShadowPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+    /**
+     * Şeklin dolgusunu gölge Bitmap'inden silmek için kullanılan Paint.
+     */
+    private final Paint mClearPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+    /**
+     * Hazır gölge Bitmap'lerini Canvas'a kopyalarken kullanılan Paint.
+     */
+    private final Paint mBitmapPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+
+    private final Rect mSrcRect = new Rect();
+    private final RectF mDstRect = new RectF();
+
+    private Bitmap mCircleShadowBitmap;
+    private float mCircleShadowKeyRadius = -1f;
+    private float mCircleShadowKeySize = -1f;
+    private int mCircleShadowKeyColor;
+    private int mCircleShadowPadding;
+
+    private Bitmap mEdgeShadowBitmap;
+    private Bitmap mBumpShadowBitmap;
+    private float mBumpShadowKeyRadius = -1f;
+    private float mBumpShadowKeyHalfWidth = -1f;
+    private float mBumpShadowKeySize = -1f;
+    private int mBumpShadowKeyColor;
+    private int mBumpShadowPadding;
+    private float mBumpShadowHalfWidth;
+    private float mBumpShadowHeight;
+
+    public MervShadowCache() {
+        mClearPaint.setXfermode(new PorterDuffXfermode(PorterDuff.Mode.CLEAR));
+        mShadowPaint.setStyle(Paint.Style.FILL);
+    }
+
+    /**
+     * Gölge kalınlığına göre, bulanıklığın şeklin dışına taşabileceği mesafeyi hesaplar.
+     *
+     * @param mShadowSize Gölge katmanının yarıçapı (piksel)
+     * @return Bitmap kenarlarında bırakılması gereken boşluk (piksel)
+     */
+    public static int computeShadowPadding(float mShadowSize) {
+        if (mShadowSize <= 0f) return 0;
+        return (int) Math.ceil(mShadowSize * 2f) + 2;
+    }
+
+    /**
+     * Seçili dairenin gölgesini hazırlar. Parametreler değişmemişse hiçbir şey yapmaz.
+     *
+     * @param mRadius     Daire yarıçapı (piksel)
+     * @param mShadowSize Gölge kalınlığı (piksel)
+     * @param mColor      Gölge rengi
+     */
+    public void prepareCircleShadow(float mRadius, float mShadowSize, int mColor) {
+        if (mRadius == mCircleShadowKeyRadius
+                && mShadowSize == mCircleShadowKeySize
+                && mColor == mCircleShadowKeyColor) {
+            return;
+        }
+        mCircleShadowKeyRadius = mRadius;
+        mCircleShadowKeySize = mShadowSize;
+        mCircleShadowKeyColor = mColor;
+        RecycleBitmap(mCircleShadowBitmap);
+        mCircleShadowBitmap = null;
+
+        if (mRadius <= 0f || mShadowSize <= 0f) return;
+
+        mCircleShadowPadding = computeShadowPadding(mShadowSize);
+        int mSize = (int) Math.ceil(mRadius * 2f) + mCircleShadowPadding * 2;
+        Bitmap mBitmap = Bitmap.createBitmap(mSize, mSize, Bitmap.Config.ARGB_8888);
+        Canvas mCanvas = new Canvas(mBitmap);
+        float mCenter = mSize / 2f;
+
+        mShadowPaint.setShadowLayer(mShadowSize, 0, 0, mColor);
+        mCanvas.drawCircle(mCenter, mCenter, mRadius, mShadowPaint);
+        mCanvas.drawCircle(mCenter, mCenter, mRadius, mClearPaint);
+        mShadowPaint.clearShadowLayer();
+
+        mCircleShadowBitmap = mBitmap;
+    }
+
+    /**
+     * Hazırlanmış daire gölgesini verilen merkeze çizer.
+     *
+     * @param mCanvas  Çizimin yapılacağı Canvas
+     * @param mCenterX Daire merkezinin X koordinatı
+     * @param mCenterY Daire merkezinin Y koordinatı
+     */
+    public void drawCircleShadow(Canvas mCanvas, float mCenterX, float mCenterY) {
+        if (mCircleShadowBitmap == null) return;
+        float mHalf = mCircleShadowBitmap.getWidth() / 2f;
+        mCanvas.drawBitmap(
+                mCircleShadowBitmap,
+                mCenterX - mHalf,
+                mCenterY - mHalf,
+                mBitmapPaint
+        );
+    }
+
+    /**
+     * Verilen parametrelerle çubuk gölgesinin zaten hazırlanıp hazırlanmadığını döndürür.
+     * Çağıran taraf, gereksiz yere şekil oluşturmamak için bunu kullanabilir.
+     *
+     * @param mBumpRadius    Çıkıntının yüksekliği (piksel)
+     * @param mBumpHalfWidth Çıkıntının yarı genişliği (piksel)
+     * @param mShadowSize    Gölge kalınlığı (piksel)
+     * @param mColor         Gölge rengi
+     * @return Önbellek güncelse true
+     */
+    public boolean isBarShadowPrepared(
+            float mBumpRadius,
+            float mBumpHalfWidth,
+            float mShadowSize,
+            int mColor
+    ) {
+        return mBumpRadius == mBumpShadowKeyRadius
+                && mBumpHalfWidth == mBumpShadowKeyHalfWidth
+                && mShadowSize == mBumpShadowKeySize
+                && mColor == mBumpShadowKeyColor;
+    }
+
+    /**
+     * Çubuk ve çıkıntı gölgelerini hazırlar. Parametreler değişmemişse hiçbir şey yapmaz.
+     * <p>
+     * Verilen yol, çıkıntı merkezi x = 0 ve çubuk üstü y = 0 olacak şekilde yerel koordinatlarda,
+     * çıkıntıyı ve altındaki çubuğu birlikte kapsayan (yatayda ve aşağıda taşan) birleşik şekil olmalıdır.
+     *
+     * @param mLocalOutline   Yerel koordinatlardaki birleşik şekil
+     * @param mBumpRadius     Çıkıntının yüksekliği (piksel)
+     * @param mBumpHalfWidth  Çıkıntının yarı genişliği (piksel)
+     * @param mShadowSize     Gölge kalınlığı (piksel)
+     * @param mColor          Gölge rengi
+     */
+    public void prepareBarShadow(
+            Path mLocalOutline,
+            float mBumpRadius,
+            float mBumpHalfWidth,
+            float mShadowSize,
+            int mColor
+    ) {
+        if (isBarShadowPrepared(mBumpRadius, mBumpHalfWidth, mShadowSize, mColor)) {
+            return;
+        }
+        mBumpShadowKeyRadius = mBumpRadius;
+        mBumpShadowKeyHalfWidth = mBumpHalfWidth;
+        mBumpShadowKeySize = mShadowSize;
+        mBumpShadowKeyColor = mColor;
+        RecycleBitmap(mBumpShadowBitmap);
+        RecycleBitmap(mEdgeShadowBitmap);
+        mBumpShadowBitmap = null;
+        mEdgeShadowBitmap = null;
+
+        if (mShadowSize <= 0f || mBumpHalfWidth <= 0f) return;
+
+        mBumpShadowPadding = computeShadowPadding(mShadowSize);
+        mShadowPaint.setShadowLayer(mShadowSize, 0, 0, mColor);
+
+        int mEdgeHeight = mBumpShadowPadding * 2;
+        Bitmap mEdge = Bitmap.createBitmap(EDGE_STRIP_WIDTH, mEdgeHeight, Bitmap.Config.ARGB_8888);
+        Canvas mEdgeCanvas = new Canvas(mEdge);
+        float mOverflow = mBumpShadowPadding * 4f;
+        mEdgeCanvas.drawRect(
+                -mOverflow,
+                mBumpShadowPadding,
+                EDGE_STRIP_WIDTH + mOverflow,
+                mEdgeHeight + mOverflow,
+                mShadowPaint
+        );
+        mEdgeCanvas.drawRect(
+                -mOverflow,
+                mBumpShadowPadding,
+                EDGE_STRIP_WIDTH + mOverflow,
+                mEdgeHeight + mOverflow,
+                mClearPaint
+        );
+
+        mBumpShadowHalfWidth = mBumpHalfWidth + mBumpShadowPadding;
+        mBumpShadowHeight = mBumpRadius + mBumpShadowPadding;
+        int mBumpWidth = (int) Math.ceil(mBumpShadowHalfWidth * 2f);
+        int mBumpHeight = (int) Math.ceil(mBumpShadowHeight) + mBumpShadowPadding;
+        Bitmap mBump = Bitmap.createBitmap(mBumpWidth, mBumpHeight, Bitmap.Config.ARGB_8888);
+        Canvas mBumpCanvas = new Canvas(mBump);
+        mBumpCanvas.translate(mBumpWidth / 2f, (float) Math.ceil(mBumpShadowHeight));
+        mBumpCanvas.drawPath(mLocalOutline, mShadowPaint);
+        mBumpCanvas.drawPath(mLocalOutline, mClearPaint);
+        mShadowPaint.clearShadowLayer();
+
+        mBumpShadowHalfWidth = mBumpWidth / 2f;
+        mBumpShadowHeight = (float) Math.ceil(mBumpShadowHeight);
+        mEdgeShadowBitmap = mEdge;
+        mBumpShadowBitmap = mBump;
+    }
+
+    /**
+     * Hazırlanmış çubuk ve çıkıntı gölgesini çizer.
+     * <p>
+     * Düz kenar şeridi, çıkıntı Bitmap'inin kapladığı aralığın solunda ve sağında esnetilerek çizilir;
+     * böylece iki gölge üst üste binmez.
+     *
+     * @param mCanvas     Çizimin yapılacağı Canvas
+     * @param mCenterX    Çıkıntının merkez X koordinatı
+     * @param mBarTopY    Çubuğun üst Y koordinatı
+     * @param mViewWidth  Görünüm genişliği (piksel)
+     */
+    public void drawBarShadow(Canvas mCanvas, float mCenterX, float mBarTopY, float mViewWidth) {
+        if (mBumpShadowBitmap == null || mEdgeShadowBitmap == null) return;
+
+        float mBumpLeft = mCenterX - mBumpShadowHalfWidth;
+        float mBumpRight = mCenterX + mBumpShadowHalfWidth;
+        float mEdgeTop = mBarTopY - mBumpShadowPadding;
+        float mEdgeBottom = mBarTopY + mBumpShadowPadding;
+
+        mSrcRect.set(0, 0, mEdgeShadowBitmap.getWidth(), mEdgeShadowBitmap.getHeight());
+        if (mBumpLeft > 0f) {
+            mDstRect.set(0f, mEdgeTop, mBumpLeft, mEdgeBottom);
+            mCanvas.drawBitmap(mEdgeShadowBitmap, mSrcRect, mDstRect, mBitmapPaint);
+        }
+        if (mBumpRight < mViewWidth) {
+            mDstRect.set(mBumpRight, mEdgeTop, mViewWidth, mEdgeBottom);
+            mCanvas.drawBitmap(mEdgeShadowBitmap, mSrcRect, mDstRect, mBitmapPaint);
+        }
+        mCanvas.drawBitmap(
+                mBumpShadowBitmap,
+                mBumpLeft,
+                mBarTopY - mBumpShadowHeight,
+                mBitmapPaint
+        );
+    }
+
+    /**
+     * Tutulan tüm Bitmap'leri serbest bırakır. Bir sonraki hazırlama çağrısında yeniden üretilir.
+     */
+    public void release() {
+        RecycleBitmap(mCircleShadowBitmap);
+        RecycleBitmap(mBumpShadowBitmap);
+        RecycleBitmap(mEdgeShadowBitmap);
+        mCircleShadowBitmap = null;
+        mBumpShadowBitmap = null;
+        mEdgeShadowBitmap = null;
+        mCircleShadowKeyRadius = -1f;
+        mBumpShadowKeyRadius = -1f;
+    }
+
+    private static void RecycleBitmap(Bitmap mBitmap) {
+        if (mBitmap != null && !mBitmap.isRecycled()) {
+            mBitmap.recycle();
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package com.merv.bottomnavigationview.library.Style;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.content.res.TypedArray;
+import android.graphics.Color;
+import android.graphics.Typeface;
+import android.util.AttributeSet;
+import android.util.DisplayMetrics;
+import android.util.Log;
+
+import androidx.core.content.res.ResourcesCompat;
+
+import com.merv.bottomnavigationview.library.MervBottomNavigationView;
+import com.merv.bottomnavigationview.library.R;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * XML'den okunan görünüm ayarlarının değişmez (immutable) değer nesnesi.
+ * <p>
+ * obtainStyledAttributes, renk çözümleme ve yazı tipi yükleme her örnek için tekrarlanmasın diye
+ * ayrıştırılmış stil; görünümün XML'de verilen öznitelikleri, stil, tema ve kaynak yapılandırmasından
+ * oluşan anahtarla süreç genelinde önbelleğe alınır. Aynı düzen aynı yapılandırmada birden fazla ekranda
+ * veya yeniden oluşturulan bir Activity'de şişirildiğinde ikinci ve sonraki örnekler yalnızca anahtarı
+ * oluşturur; döndürmeden sonra her yön kendi girdisini bir kez ayrıştırır.
+ * <p>
+ * Boyutlar piksel cinsindendir. Herhangi bir iş parçacığından kullanılabilir.
+ */
+public final class MervNavStyle {
+
+    private static final String TAG = "MervBottomNavigationViewLog";
+    private static final int MAX_ENTRIES = 16;
+
+    private static final int DEFAULT_ACCENT_COLOR = 0xFFFF7043;
+    private static final float DEFAULT_SHADOW_LAYER_SIZE_DP = 10f;
+    private static final float DEFAULT_SELECTED_ICON_SIZE_DP = 36f;
+    private static final float DEFAULT_UNSELECTED_ICON_SIZE_DP = 24f;
+    private static final float DEFAULT_TEXT_SIZE_SP = 14f;
+    private static final float DEFAULT_TEXT_MARGIN_TOP_DP = 10f;
+    private static final int DEFAULT_INTERPOLATOR_TYPE = 4;
+    private static final int DEFAULT_ANIMATION_DURATION = 400;
+
+    private static final Map<Key, MervNavStyle> sStyles =
+            new LinkedHashMap<Key, MervNavStyle>(8, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, MervNavStyle> mEldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            };
+
+    private final int mBackgroundColor;
+    private final float mBackgroundShadowLayerSize;
+    private final int mCircleColor;
+    private final float mCircleShadowLayerSize;
+    private final int mSelectedIconColor;
+    private final int mUnselectedIconColor;
+    private final float mSelectedIconSize;
+    private final float mUnselectedIconSize;
+    private final int mTextColor;
+    private final float mTextSize;
+    private final boolean mTextFakeBold;
+    private final Typeface mTextFont;
+    private final float mTextMarginTop;
+    private final int mInterpolatorType;
+    private final int mSelectedIndex;
+    private final int mMaxVisibleItems;
+    private final int mAnimationDuration;
+    private final int mMenuRes;
+    private final boolean mMenuAsync;
+    private final int mRenderMode;
+    private final int mItemWidthMode;
+
+    private MervNavStyle(Context mContext, AttributeSet mAttributeSet) {
+        DisplayMetrics mDisplayMetrics = mContext.getResources().getDisplayMetrics();
+        TypedArray mTypedArray = mContext.obtainStyledAttributes(mAttributeSet, R.styleable.MervBottomNavigationView);
+        try {
+            mBackgroundColor = mTypedArray.getColor(
+                    R.styleable.MervBottomNavigationView_mBottomNavMorphBackgroundColor, Color.WHITE);
+            mBackgroundShadowLayerSize = mTypedArray.getDimension(
+                    R.styleable.MervBottomNavigationView_mBottomNavMorphBackgroundShadowLayerSize,
+                    DEFAULT_SHADOW_LAYER_SIZE_DP * mDisplayMetrics.density);
+            mCircleColor = mTypedArray.getColor(
+                    R.styleable.MervBottomNavigationView_mBottomNavCircleColor, DEFAULT_ACCENT_COLOR);
+            mCircleShadowLayerSize = mTypedArray.getDimension(
+                    R.styleable.MervBottomNavigationView_mBottomNavCircleShadowLayerSize,
+                    DEFAULT_SHADOW_LAYER_SIZE_DP * mDisplayMetrics.density);
+            mSelectedIconColor = mTypedArray.getColor(
+                    R.styleable.MervBottomNavigationView_mBottomNavSelectedIconColor, Color.WHITE);
+            mUnselectedIconColor = mTypedArray.getColor(
+                    R.styleable.MervBottomNavigationView_mBottomNavUnselectedIconColor, DEFAULT_ACCENT_COLOR);
+            mSelectedIconSize = mTypedArray.getDimension(
+                    R.styleable.MervBottomNavigationView_mBottomNavSelectedIconSize,
+                    DEFAULT_SELECTED_ICON_SIZE_DP * mDisplayMetrics.density);
+            mUnselectedIconSize = mTypedArray.getDimension(
+                    R.styleable.MervBottomNavigationView_mBottomNavUnselectedIconSize,
+                    DEFAULT_UNSELECTED_ICON_SIZE_DP * mDisplayMetrics.density);
+            mTextColor = mTypedArray.getColor(
+                    R.styleable.MervBottomNavigationView_mBottomNavTextColor, Color.BLACK);
+            mTextSize = mTypedArray.getDimension(
+                    R.styleable.MervBottomNavigationView_mBottomNavTextSize,
+                    DEFAULT_TEXT_SIZE_SP * mDisplayMetrics.scaledDensity);
+            mTextFakeBold = mTypedArray.getBoolean(
+                    R.styleable.MervBottomNavigationView_mBottomNavTextFakeBold, true);
+            mTextFont = LoadFont(mContext, mTypedArray.getResourceId(
+                    R.styleable.MervBottomNavigationView_mBottomNavTextChooseFont, 0));
+            mTextMarginTop = mTypedArray.getDimension(
+                    R.styleable.MervBottomNavigationView_mBottomNavTextMarginTop,
+                    DEFAULT_TEXT_MARGIN_TOP_DP * mDisplayMetrics.density);
+            mInterpolatorType = mTypedArray.getInt(
+                    R.styleable.MervBottomNavigationView_mBottomNavAnimationInterpolator, DEFAULT_INTERPOLATOR_TYPE);
+            mSelectedIndex = mTypedArray.getInt(
+                    R.styleable.MervBottomNavigationView_mBottomNavSelectedIndex, 0);
+            mMaxVisibleItems = mTypedArray.getInt(
+                    R.styleable.MervBottomNavigationView_mBottomNavMaxVisibleItems, 0);
+            mAnimationDuration = mTypedArray.getInt(
+                    R.styleable.MervBottomNavigationView_mBottomNavItemAnimationDuration, DEFAULT_ANIMATION_DURATION);
+            mMenuRes = mTypedArray.getResourceId(
+                    R.styleable.MervBottomNavigationView_mBottomNavMenuResource, 0);
+            mMenuAsync = mTypedArray.getBoolean(
+                    R.styleable.MervBottomNavigationView_mBottomNavMenuAsync, false);
+            mRenderMode = mTypedArray.getInt(
+                    R.styleable.MervBottomNavigationView_mBottomNavRenderMode,
+                    MervBottomNavigationView.RENDER_MODE_HARDWARE);
+            mItemWidthMode = mTypedArray.getInt(
+                    R.styleable.MervBottomNavigationView_mBottomNavItemWidthMode,
+                    MervBottomNavigationView.ITEM_WIDTH_EQUAL);
+        } finally {
+            mTypedArray.recycle();
+        }
+    }
+
+    /**
+     * Verilen öznitelik setinin ayrıştırılmış stilini döndürür; aynı anahtarla daha önce ayrıştırıldıysa
+     * önbellekteki nesne paylaşılır.
+     *
+     * @param mContext      Görünümün bağlamı (tema ve kaynaklar)
+     * @param mAttributeSet XML layout'tan gelen attribute seti
+     * @return Paylaşılan, değişmez stil
+     */
+    public static MervNavStyle obtain(Context mContext, AttributeSet mAttributeSet) {
+        Key mKey = new Key(mContext, mAttributeSet);
+        MervNavStyle mStyle;
+        synchronized (sStyles) {
+            mStyle = sStyles.get(mKey);
+        }
+        if (mStyle != null) return mStyle;
+
+        mStyle = new MervNavStyle(mContext, mAttributeSet);
+        Key mStoredKey = mKey.Snapshot();
+        synchronized (sStyles) {
+            sStyles.put(mStoredKey, mStyle);
+        }
+        return mStyle;
+    }
+
+    /**
+     * Önbelleğe alınmış tüm stilleri bırakır.
+     */
+    public static void clearCache() {
+        synchronized (sStyles) {
+            sStyles.clear();
+        }
+    }
+
+    private static Typeface LoadFont(Context mContext, int mFontRes) {
+        if (mFontRes == 0) return Typeface.DEFAULT;
+        try {
+            Typeface mFont = ResourcesCompat.getFont(mContext, mFontRes);
+            return mFont != null ? mFont : Typeface.DEFAULT;
+        } catch (Exception mException) {
+            Log.e(TAG, "Geçersiz yazı tipi kaynağı: " + mException.getMessage());
+            return Typeface.DEFAULT;
+        }
+    }
+
+    public int getBackgroundColor() {
+        return mBackgroundColor;
+    }
+
+    public float getBackgroundShadowLayerSize() {
+        return mBackgroundShadowLayerSize;
+    }
+
+    public int getCircleColor() {
+        return mCircleColor;
+    }
+
+    public float getCircleShadowLayerSize() {
+        return mCircleShadowLayerSize;
+    }
+
+    public int getSelectedIconColor() {
+        return mSelectedIconColor;
+    }
+
+    public int getUnselectedIconColor() {
+        return mUnselectedIconColor;
+    }
+
+    public float getSelectedIconSize() {
+        return mSelectedIconSize;
+    }
+
+    public float getUnselectedIconSize() {
+        return mUnselectedIconSize;
+    }
+
+    public int getTextColor() {
+        return mTextColor;
+    }
+
+    public float getTextSize() {
+        return mTextSize;
+    }
+
+    public boolean isTextFakeBold() {
+        return mTextFakeBold;
+    }
+
+    public Typeface getTextFont() {
+        return mTextFont;
+    }
+
+    public float getTextMarginTop() {
+        return mTextMarginTop;
+    }
+
+    public int getInterpolatorType() {
+        return mInterpolatorType;
+    }
+
+    public int getSelectedIndex() {
+        return mSelectedIndex;
+    }
+
+    public int getMaxVisibleItems() {
+        return mMaxVisibleItems;
+    }
+
+    public int getAnimationDuration() {
+        return mAnimationDuration;
+    }
+
+    public int getMenuRes() {
+        return mMenuRes;
+    }
+
+    public boolean isMenuAsync() {
+        return mMenuAsync;
+    }
+
+    public int getRenderMode() {
+        return mRenderMode;
+    }
+
+    public int getItemWidthMode() {
+        return mItemWidthMode;
+    }
+
+    /**
+     * Stil önbelleği anahtarı.
+     * <p>
+     * XML'deki bu görünüme ait özniteliklerin adları ve ham değerleri ("@id", "?attr" veya sabit) ile
+     * style özniteliği, tema ve kaynakların yapılandırmasından (Configuration) oluşur.
+     * Ham değerler çözümlenmediği için anahtarı oluşturmak obtainStyledAttributes'tan çok daha ucuzdur.
+     * <p>
+     * Tema, uygulanan stillerine bakan Resources.Theme.equals() ile; yapılandırma tüm alanlarıyla
+     * Configuration.equals() ile karşılaştırılır. Böylece "@dimen/..." gibi bir değerin -land, -sw600dp,
+     * dil veya yön niteleyicili karşılığı varsa, döndürme gibi her yapılandırma değişikliği ayrı bir anahtar verir.
+     * Arama anahtarı bağlamın tema ve yapılandırmasını doğrudan kullanır; önbelleğe yazılan anahtar ikisinin de
+     * kopyasını tutar, böylece Activity'ye referans kalmaz ve tema sonradan değişse de anahtar sabit kalır.
+     */
+    private static final class Key {
+        private final int[] mNames;
+        private final String[] mValues;
+        private final int mStyleRes;
+        private final Resources.Theme mTheme;
+        private final int mThemeHash;
+        private final Configuration mConfiguration;
+        private final int mHash;
+
+        Key(Context mContext, AttributeSet mAttributeSet) {
+            int mAttributeCount = mAttributeSet.getAttributeCount();
+            int[] mNames = new int[mAttributeCount];
+            String[] mValues = new String[mAttributeCount];
+            int mCount = 0;
+            for (int mI = 0; mI < mAttributeCount; mI++) {
+                int mName = mAttributeSet.getAttributeNameResource(mI);
+                if (IsStyleableAttribute(mName)) {
+                    mNames[mCount] = mName;
+                    mValues[mCount] = mAttributeSet.getAttributeValue(mI);
+                    mCount++;
+                }
+            }
+            this.mNames = Arrays.copyOf(mNames, mCount);
+            this.mValues = Arrays.copyOf(mValues, mCount);
+            this.mStyleRes = mAttributeSet.getStyleAttribute();
+
+            Resources.Theme mTheme = mContext.getTheme();
+            this.mTheme = mTheme;
+            this.mThemeHash = mTheme != null ? mTheme.hashCode() : 0;
+            this.mConfiguration = mContext.getResources().getConfiguration();
+
+            int mHashValue = Arrays.hashCode(this.mNames);
+            mHashValue = 31 * mHashValue + Arrays.hashCode(this.mValues);
+            mHashValue = 31 * mHashValue + mStyleRes;
+            mHashValue = 31 * mHashValue + mThemeHash;
+            this.mHash = 31 * mHashValue + mConfiguration.hashCode();
+        }
+
+        private Key(Key mSource, Resources.Theme mTheme, Configuration mConfiguration) {
+            this.mNames = mSource.mNames;
+            this.mValues = mSource.mValues;
+            this.mStyleRes = mSource.mStyleRes;
+            this.mTheme = mTheme;
+            this.mThemeHash = mSource.mThemeHash;
+            this.mConfiguration = mConfiguration;
+            this.mHash = mSource.mHash;
+        }
+
+        /**
+         * @return Tema ve yapılandırmanın kopyasını tutan, önbelleğe yazılacak anahtar
+         */
+        Key Snapshot() {
+            Resources.Theme mSnapshot = null;
+            if (mTheme != null) {
+                mSnapshot = mTheme.getResources().newTheme();
+                mSnapshot.setTo(mTheme);
+            }
+            return new Key(this, mSnapshot, new Configuration(mConfiguration));
+        }
+
+        private static boolean IsStyleableAttribute(int mName) {
+            for (int mAttr : R.styleable.MervBottomNavigationView) {
+                if (mAttr == mName) return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object mOther) {
+            if (this == mOther) return true;
+            if (!(mOther instanceof Key)) return false;
+            Key mKey = (Key) mOther;
+            return mHash == mKey.mHash
+                    && mStyleRes == mKey.mStyleRes
+                    && mThemeHash == mKey.mThemeHash
+                    && Arrays.equals(mNames, mKey.mNames)
+                    && Arrays.equals(mValues, mKey.mValues)
+                    && mConfiguration.equals(mKey.mConfiguration)
+                    && Objects.equals(mTheme, mKey.mTheme);
+        }
+
+        @Override
+        public int hashCode() {
+            return mHash;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.merv.bottomnavigationview.library.Animation;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * MervTransitionDriver'ın elle ilerletilen zamanlayıcıyla tam kesirlere oturduğunu doğrular.
+ */
+public class MervTransitionDriverTest {
+
+    private MervManualFrameScheduler mScheduler;
+    private MervTransitionDriver mDriver;
+    private float mLastFraction = -1f;
+    private int mEndCount;
+    private boolean mLastCanceled;
+
+    @Before
+    public void setUp() {
+        mScheduler = new MervManualFrameScheduler();
+        mDriver = new MervTransitionDriver(mScheduler, new MervTransitionDriver.Listener() {
+            @Override
+            public void onTransitionFrame(float mLinearFraction) {
+                mLastFraction = mLinearFraction;
+            }
+
+            @Override
+            public void onTransitionEnd(boolean mCanceled) {
+                mEndCount++;
+                mLastCanceled = mCanceled;
+            }
+        });
+        mDriver.setDuration(400);
+    }
+
+    @Test
+    public void advance_landsOnExactFractions() {
+        mDriver.start();
+        mScheduler.advanceBy(0);
+        assertEquals(0f, mLastFraction, 0f);
+        mScheduler.advanceBy(100);
+        assertEquals(0.25f, mLastFraction, 0f);
+        mScheduler.advanceBy(200);
+        assertEquals(0.75f, mLastFraction, 0f);
+        assertTrue(mDriver.isRunning());
+        mScheduler.advanceBy(100);
+        assertEquals(1f, mLastFraction, 0f);
+        assertFalse(mDriver.isRunning());
+        assertEquals(1, mEndCount);
+        assertFalse(mLastCanceled);
+        assertEquals(0, mScheduler.getPendingCount());
+    }
+
+    @Test
+    public void durationScale_stretchesTransition() {
+        mScheduler.setDurationScale(2f);
+        mDriver.start();
+        mScheduler.advanceBy(0);
+        mScheduler.advanceBy(400);
+        assertEquals(0.5f, mLastFraction, 0f);
+    }
+
+    @Test
+    public void zeroDurationScale_endsImmediately() {
+        mScheduler.setDurationScale(0f);
+        mDriver.start();
+        assertEquals(1f, mLastFraction, 0f);
+        assertEquals(1, mEndCount);
+        assertEquals(0, mScheduler.getPendingCount());
+    }
+
+    @Test
+    public void restart_cancelsRunningTransition() {
+        mDriver.start();
+        mScheduler.advanceBy(0);
+        mScheduler.advanceBy(100);
+        mDriver.start();
+        assertEquals(1, mEndCount);
+        assertTrue(mLastCanceled);
+        mScheduler.advanceBy(50);
+        assertEquals(0f, mLastFraction, 0f);
+        assertEquals(1, mScheduler.getPendingCount());
+    }
+}
@@ -0,0 +1,136 @@
+package com.merv.bottomnavigationview.library.Badge;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * MervBadgeStore'un güncellemeleri tek boşaltmada, öğe başına son değerle birleştirdiğini doğrular.
+ */
+public class MervBadgeStoreTest {
+
+    @Test
+    public void set_requestsOneDrainUntilDrained() {
+        MervBadgeStore mStore = new MervBadgeStore();
+        assertTrue(mStore.set(0, 1));
+        for (int mI = 2; mI < 200; mI++) {
+            assertFalse(mStore.set(0, mI));
+        }
+        assertFalse(mStore.set(3, MervBadgeStore.BADGE_DOT));
+
+        RecordingSink mSink = new RecordingSink();
+        mStore.drain(mSink);
+        assertEquals(2, mSink.mChanges.size());
+        assertArrayEquals(new int[]{0, 199}, mSink.mChanges.get(0));
+        assertArrayEquals(new int[]{3, MervBadgeStore.BADGE_DOT}, mSink.mChanges.get(1));
+
+        assertFalse(mStore.set(0, 199));
+        assertTrue(mStore.set(0, MervBadgeStore.BADGE_NONE));
+    }
+
+    @Test
+    public void drain_reportsMaxCountOnce() {
+        MervBadgeStore mStore = new MervBadgeStore();
+        assertFalse(mStore.setMaxCount(MervBadgeStore.DEFAULT_MAX_COUNT));
+        assertTrue(mStore.setMaxCount(9));
+        assertFalse(mStore.setMaxCount(999));
+
+        RecordingSink mSink = new RecordingSink();
+        mStore.drain(mSink);
+        assertEquals(999, mSink.mMaxCount);
+        assertTrue(mSink.mChanges.isEmpty());
+    }
+
+    @Test
+    public void concurrentWriters_coalesceToLatestValues() throws InterruptedException {
+        MervBadgeStore mStore = new MervBadgeStore();
+        int mThreads = 4;
+        int mUpdates = 1000;
+        AtomicInteger mScheduleRequests = new AtomicInteger();
+        CountDownLatch mStart = new CountDownLatch(1);
+        Thread[] mWriters = new Thread[mThreads];
+        for (int mT = 0; mT < mThreads; mT++) {
+            final int mIndex = mT;
+            mWriters[mT] = new Thread(() -> {
+                try {
+                    mStart.await();
+                } catch (InterruptedException mException) {
+                    return;
+                }
+                for (int mI = 1; mI <= mUpdates; mI++) {
+                    if (mStore.set(mIndex, mI)) mScheduleRequests.incrementAndGet();
+                }
+            });
+            mWriters[mT].start();
+        }
+        mStart.countDown();
+        for (Thread mWriter : mWriters) mWriter.join();
+
+        assertEquals(1, mScheduleRequests.get());
+        RecordingSink mSink = new RecordingSink();
+        mStore.drain(mSink);
+        assertEquals(mThreads, mSink.mChanges.size());
+        for (int[] mChange : mSink.mChanges) {
+            assertEquals(mUpdates, mChange[1]);
+        }
+    }
+
+    @Test
+    public void drain_dispatchesWithoutHoldingLock() throws InterruptedException {
+        MervBadgeStore mStore = new MervBadgeStore();
+        mStore.set(0, 1);
+        mStore.set(1, 2);
+        AtomicInteger mWriterResult = new AtomicInteger(-1);
+        RecordingSink mSink = new RecordingSink() {
+            @Override
+            public void onBadgeChanged(int mIndex, int mValue) {
+                super.onBadgeChanged(mIndex, mValue);
+                if (mIndex != 0) return;
+                // Yazan iş parçacığı, hedef çalışırken kilidi bekletilmeden alabilmelidir
+                Thread mWriter = new Thread(() -> mWriterResult.set(mStore.set(0, 5) ? 1 : 0));
+                mWriter.start();
+                try {
+                    mWriter.join(2000);
+                } catch (InterruptedException mException) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        mStore.drain(mSink);
+
+        assertEquals(1, mWriterResult.get());
+        assertArrayEquals(new int[]{0, 1}, mSink.mChanges.get(0));
+        assertArrayEquals(new int[]{1, 2}, mSink.mChanges.get(1));
+
+        RecordingSink mNext = new RecordingSink();
+        mStore.drain(mNext);
+        assertEquals(1, mNext.mChanges.size());
+        assertArrayEquals(new int[]{0, 5}, mNext.mChanges.get(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void set_rejectsNegativeIndex() {
+        new MervBadgeStore().set(-1, 1);
+    }
+
+    private static class RecordingSink implements MervBadgeStore.Sink {
+
+        final List<int[]> mChanges = new ArrayList<>();
+        int mMaxCount = -1;
+
+        @Override
+        public void onBadgeChanged(int mIndex, int mValue) {
+            mChanges.add(new int[]{mIndex, mValue});
+        }
+
+        @Override
+        public void onMaxCountChanged(int mMaxCount) {
+            this.mMaxCount = mMaxCount;
+        }
+    }
+}
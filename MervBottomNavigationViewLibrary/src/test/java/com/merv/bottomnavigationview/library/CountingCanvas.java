@@ -0,0 +1,143 @@
+package com.merv.bottomnavigationview.library;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Çizim çağrılarını yalnızca sayan Canvas. Gerçek çizim veya Robolectric kaydı yapmaz;
+ * böylece ölçülen süre ve bellek yalnızca görünümün kendi işidir.
+ * Kırpma alanı tüm görünüm olarak bildirilir (tam yeniden çizim); görünüm kaydırılmışsa çerçevenin
+ * yaptığı gibi içerik koordinatlarına ötelenir (setScrollX).
+ */
+final class CountingCanvas extends Canvas {
+
+    private final int mWidth;
+    private final int mHeight;
+    private int mSaveCount = 1;
+    private int mScrollX;
+    int mPathDraws;
+    int mDrawableDraws;
+    int mTextDraws;
+    int mOtherDraws;
+
+    /**
+     * scale çağrılarının X çarpanları (ilk 16 tanesi); bellek ayırmadan kaydedilir.
+     */
+    final float[] mScales = new float[16];
+    int mScaleCount;
+
+    /**
+     * Son drawCircle çağrısının merkez X'i (seçim dairesinin konumu).
+     */
+    float mLastCircleX = Float.NaN;
+
+    CountingCanvas(int mWidth, int mHeight) {
+        this.mWidth = mWidth;
+        this.mHeight = mHeight;
+    }
+
+    /**
+     * Görünümün kaydırmasını taklit eder: kırpma alanı [mScrollX, mScrollX + genişlik) olur.
+     */
+    void setScrollX(int mScrollX) {
+        this.mScrollX = mScrollX;
+    }
+
+    void resetCounts() {
+        mPathDraws = 0;
+        mDrawableDraws = 0;
+        mTextDraws = 0;
+        mOtherDraws = 0;
+        mScaleCount = 0;
+    }
+
+    @Override
+    public boolean getClipBounds(@NonNull Rect mBounds) {
+        mBounds.set(mScrollX, 0, mScrollX + mWidth, mHeight);
+        return true;
+    }
+
+    @Override
+    public int save() {
+        return mSaveCount++;
+    }
+
+    @Override
+    public void restoreToCount(int mCount) {
+        mSaveCount = mCount;
+    }
+
+    @Override
+    public void restore() {
+        if (mSaveCount > 1) mSaveCount--;
+    }
+
+    @Override
+    public void translate(float mDX, float mDY) {
+    }
+
+    @Override
+    public void scale(float mSX, float mSY) {
+        if (mScaleCount < mScales.length) {
+            mScales[mScaleCount++] = mSX;
+        }
+    }
+
+    @Override
+    public void drawPath(@NonNull Path mPath, @NonNull Paint mPaint) {
+        mPathDraws++;
+    }
+
+    @Override
+    public void drawText(@NonNull String mText, float mX, float mY, @NonNull Paint mPaint) {
+        mTextDraws++;
+    }
+
+    @Override
+    public void drawText(@NonNull CharSequence mText, int mStart, int mEnd, float mX, float mY, @NonNull Paint mPaint) {
+        mTextDraws++;
+    }
+
+    @Override
+    public void drawText(@NonNull String mText, int mStart, int mEnd, float mX, float mY, @NonNull Paint mPaint) {
+        mTextDraws++;
+    }
+
+    @Override
+    public void drawCircle(float mCX, float mCY, float mRadius, @NonNull Paint mPaint) {
+        mOtherDraws++;
+        mLastCircleX = mCX;
+    }
+
+    @Override
+    public void drawRect(@NonNull RectF mRect, @NonNull Paint mPaint) {
+        mOtherDraws++;
+    }
+
+    @Override
+    public void drawRect(float mLeft, float mTop, float mRight, float mBottom, @NonNull Paint mPaint) {
+        mOtherDraws++;
+    }
+
+    @Override
+    public void drawBitmap(@NonNull Bitmap mBitmap, float mLeft, float mTop, @Nullable Paint mPaint) {
+        mOtherDraws++;
+    }
+
+    @Override
+    public void drawBitmap(@NonNull Bitmap mBitmap, @Nullable Rect mSrc, @NonNull RectF mDst, @Nullable Paint mPaint) {
+        mOtherDraws++;
+    }
+
+    @Override
+    public void drawBitmap(@NonNull Bitmap mBitmap, @Nullable Rect mSrc, @NonNull Rect mDst, @Nullable Paint mPaint) {
+        mOtherDraws++;
+    }
+}
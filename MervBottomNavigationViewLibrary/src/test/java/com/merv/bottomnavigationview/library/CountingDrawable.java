@@ -0,0 +1,55 @@
+package com.merv.bottomnavigationview.library;
+
+import android.graphics.Canvas;
+import android.graphics.ColorFilter;
+import android.graphics.PixelFormat;
+import android.graphics.drawable.Drawable;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Çizildiğinde CountingCanvas'ın drawable sayacını artıran ikon.
+ * Görünümün seçili / seçilmemiş kopyalarını oluşturabilmesi için bir ConstantState sağlar.
+ */
+final class CountingDrawable extends Drawable {
+
+    private static final ConstantState STATE = new ConstantState() {
+        @NonNull
+        @Override
+        public Drawable newDrawable() {
+            return new CountingDrawable();
+        }
+
+        @Override
+        public int getChangingConfigurations() {
+            return 0;
+        }
+    };
+
+    @Nullable
+    @Override
+    public ConstantState getConstantState() {
+        return STATE;
+    }
+
+    @Override
+    public void draw(@NonNull Canvas mCanvas) {
+        if (mCanvas instanceof CountingCanvas) {
+            ((CountingCanvas) mCanvas).mDrawableDraws++;
+        }
+    }
+
+    @Override
+    public void setAlpha(int mAlpha) {
+    }
+
+    @Override
+    public void setColorFilter(@Nullable ColorFilter mColorFilter) {
+    }
+
+    @Override
+    public int getOpacity() {
+        return PixelFormat.TRANSLUCENT;
+    }
+}
@@ -0,0 +1,155 @@
+package com.merv.bottomnavigationview.library.Geometry;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * MervNavGeometry hesaplarının görünümün önceki yerleşim formülleriyle aynı sonuçları verdiğini doğrular.
+ */
+public class MervNavGeometryTest {
+
+    private MervNavGeometry mGeometry;
+
+    @Before
+    public void setUp() {
+        mGeometry = new MervNavGeometry();
+        mGeometry.setDensity(2f);
+        mGeometry.setIconSizes(72f, 48f);
+        mGeometry.setText(28f, 20f, -26f);
+        mGeometry.setItemCount(4);
+        mGeometry.setViewSize(1000, 300);
+        mGeometry.compute();
+    }
+
+    @Test
+    public void bumpAndBar_followLayoutFormulas() {
+        assertEquals(36f + 16f, mGeometry.getCircleRadius(), 0f);
+        assertEquals(52f + 8f, mGeometry.getBumpRadius(), 0f);
+        assertEquals(60f * 1.7f, mGeometry.getBumpHalfWidth(), 1e-4f);
+        assertEquals(72f + 20f + 28f + 20f, mGeometry.getBarHeight(), 0f);
+        assertEquals(60f + 24f, mGeometry.getBarTopY(), 0f);
+        assertEquals(mGeometry.getBarTopY(), mGeometry.getCircleCenterY(), 0f);
+        assertEquals((int) Math.ceil(60f + 140f + 24f), mGeometry.getDesiredHeight());
+        assertEquals(84f + 72f + 8f + 26f, mGeometry.getTextBaselineY(), 0f);
+    }
+
+    @Test
+    public void itemCenters_areSectionMidpoints() {
+        assertEquals(250f, mGeometry.getSectionWidth(), 0f);
+        assertEquals(125f, mGeometry.getItemCenterX(0), 0f);
+        assertEquals(875f, mGeometry.getItemCenterX(3), 0f);
+        assertEquals(500f, mGeometry.getItemCenterX(7), 0f);
+    }
+
+    @Test
+    public void indexAtX_mapsToSections() {
+        assertEquals(0, mGeometry.indexAtX(0f));
+        assertEquals(1, mGeometry.indexAtX(250f));
+        assertEquals(3, mGeometry.indexAtX(999f));
+        assertEquals(-1, mGeometry.indexAtX(1000f));
+        assertEquals(-1, mGeometry.indexAtX(-1f));
+    }
+
+    @Test
+    public void compute_skipsWhenInputsUnchanged() {
+        mGeometry.setIconSizes(72f, 48f);
+        mGeometry.setViewSize(1000, 320);
+        assertFalse(mGeometry.compute());
+        mGeometry.setItemCount(5);
+        assertTrue(mGeometry.compute());
+        assertEquals(100f, mGeometry.getItemCenterX(0), 0f);
+    }
+
+    @Test
+    public void bumpOutline_isSymmetricAndPeaksAtRadius() {
+        float[] mOutline = new float[MervNavGeometry.BUMP_OUTLINE_SIZE];
+        mGeometry.writeBumpOutline(mOutline);
+        assertEquals(-mGeometry.getBumpHalfWidth(), mOutline[0], 0f);
+        assertEquals(mGeometry.getBumpHalfWidth(), mOutline[12], 0f);
+        assertEquals(0f, mOutline[6], 0f);
+        assertEquals(-mGeometry.getBumpRadius(), mOutline[7], 0f);
+        assertEquals(-mOutline[2], mOutline[10], 1e-4f);
+        assertEquals(mOutline[5], mOutline[9], 0f);
+    }
+
+    @Test
+    public void overflow_scrollsBeyondMaxVisibleItems() {
+        mGeometry.setMaxVisibleItems(5);
+        mGeometry.setItemCount(20);
+        mGeometry.compute();
+
+        assertTrue(mGeometry.isScrollable());
+        assertEquals(200f, mGeometry.getSectionWidth(), 0f);
+        assertEquals(4000f, mGeometry.getContentWidth(), 0f);
+        assertEquals(3000, mGeometry.getMaxScrollX());
+        assertEquals(19, mGeometry.indexAtX(3999f));
+        assertEquals(0, mGeometry.scrollXForIndex(1));
+        assertEquals(1000, mGeometry.scrollXForIndex(7));
+        assertEquals(3000, mGeometry.scrollXForIndex(19));
+        assertEquals(5, mGeometry.visibleStartIndex(1000f));
+        assertEquals(9, mGeometry.visibleEndIndex(2000f));
+        assertEquals(10, mGeometry.visibleEndIndex(2001f));
+    }
+
+    @Test
+    public void overflow_isOffWhenItemsFit() {
+        mGeometry.setMaxVisibleItems(5);
+        mGeometry.compute();
+        assertFalse(mGeometry.isScrollable());
+        assertEquals(250f, mGeometry.getSectionWidth(), 0f);
+        assertEquals(0, mGeometry.getMaxScrollX());
+        assertEquals(0, mGeometry.scrollXForIndex(3));
+    }
+
+    @Test
+    public void weights_splitWidthByPrefixSums() {
+        mGeometry.setItemWeights(new float[]{1f, 3f, 2f, 2f}, 4);
+        assertTrue(mGeometry.compute());
+
+        assertEquals(125f, mGeometry.getItemWidth(0), 0f);
+        assertEquals(375f, mGeometry.getItemWidth(1), 0f);
+        assertEquals(62.5f, mGeometry.getItemCenterX(0), 0f);
+        assertEquals(312.5f, mGeometry.getItemCenterX(1), 0f);
+        assertEquals(875f, mGeometry.getItemCenterX(3), 0f);
+        assertEquals(375f, mGeometry.getMaxItemWidth(), 0f);
+
+        assertEquals(0, mGeometry.indexAtX(124.9f));
+        assertEquals(1, mGeometry.indexAtX(125f));
+        assertEquals(1, mGeometry.indexAtX(499f));
+        assertEquals(2, mGeometry.indexAtX(500f));
+        assertEquals(3, mGeometry.indexAtX(999f));
+        assertEquals(-1, mGeometry.indexAtX(1000f));
+        assertEquals(1, mGeometry.visibleStartIndex(300f));
+        assertEquals(1, mGeometry.visibleEndIndex(500f));
+        assertEquals(2, mGeometry.visibleEndIndex(500.5f));
+
+        mGeometry.setItemWeights(new float[]{1f, 3f, 2f, 2f}, 4);
+        assertFalse(mGeometry.compute());
+        mGeometry.setItemWeights(null, 0);
+        assertTrue(mGeometry.compute());
+        assertEquals(250f, mGeometry.getItemWidth(1), 0f);
+    }
+
+    @Test
+    public void weights_keepContentWidthInOverflow() {
+        mGeometry.setMaxVisibleItems(4);
+        mGeometry.setItemCount(8);
+        mGeometry.setItemWeights(new float[]{2f, 1f, 1f, 1f, 1f, 1f, 1f, 0.5f}, 8);
+        mGeometry.compute();
+
+        assertEquals(2000f, mGeometry.getContentWidth(), 0f);
+        assertEquals(7, mGeometry.indexAtX(1999f));
+        assertEquals(0, mGeometry.indexAtX(470f));
+        assertEquals(1, mGeometry.indexAtX(471f));
+    }
+
+    @Test
+    public void minimumHeight_isApplied() {
+        MervNavGeometry mSmall = new MervNavGeometry();
+        mSmall.setDensity(1f);
+        mSmall.compute();
+        assertEquals(48, mSmall.getDesiredHeight());
+    }
+}
@@ -0,0 +1,76 @@
+package com.merv.bottomnavigationview.library.Interpolar;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * MervBezierEasing arama tablosunun, kübik Bezier eğrisinin kesin çözümüne
+ * yeterince yakın olduğunu doğrular.
+ */
+public class MervBezierEasingTest {
+
+    @Test
+    public void cubic_matchesExactSolve() {
+        MervBezierEasing mEasing = MervBezierEasing.cubic(0.4f, 0f, 0.2f, 1f);
+        for (int mI = 0; mI <= 100; mI++) {
+            float mX = mI / 100f;
+            assertEquals(SolveCubic(0.4, 0.0, 0.2, 1.0, mX), mEasing.getInterpolation(mX), 1e-3f);
+        }
+    }
+
+    @Test
+    public void endpoints_areExact() {
+        MervBezierEasing mEasing = MervBezierEasing.cubic(0.34f, 1.56f, 0.64f, 1f);
+        assertEquals(0f, mEasing.getInterpolation(0f), 0f);
+        assertEquals(1f, mEasing.getInterpolation(1f), 0f);
+        assertEquals(0f, mEasing.getInterpolation(-0.5f), 0f);
+        assertEquals(1f, mEasing.getInterpolation(1.5f), 0f);
+    }
+
+    @Test
+    public void multiSegment_isContinuousAtJoin() {
+        MervBezierEasing mEasing = new MervBezierEasing.Builder()
+                .cubicTo(0.2f, 0f, 0.4f, 1.1f, 0.6f, 1.1f)
+                .cubicTo(0.7f, 1.1f, 0.9f, 1f, 1f, 1f)
+                .build();
+        assertEquals(1.1f, mEasing.getInterpolation(0.6f), 1e-3f);
+        assertEquals(
+                mEasing.getInterpolation(0.599f),
+                mEasing.getInterpolation(0.601f),
+                1e-2f
+        );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void controlPointOutsideSegment_isRejected() {
+        new MervBezierEasing.Builder().cubicTo(1.2f, 0f, 0.5f, 1f, 1f, 1f);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void curveNotEndingAtOne_isRejected() {
+        new MervBezierEasing.Builder().cubicTo(0.1f, 0f, 0.2f, 1f, 0.5f, 1f).build();
+    }
+
+    /**
+     * x(t) = x hedefi için t'yi ikiye bölme yöntemiyle çözer ve y(t) döndürür.
+     */
+    private static double SolveCubic(double mX1, double mY1, double mX2, double mY2, double mX) {
+        double mLow = 0.0;
+        double mHigh = 1.0;
+        for (int mI = 0; mI < 60; mI++) {
+            double mMid = (mLow + mHigh) / 2.0;
+            if (Bezier(mX1, mX2, mMid) < mX) {
+                mLow = mMid;
+            } else {
+                mHigh = mMid;
+            }
+        }
+        return Bezier(mY1, mY2, (mLow + mHigh) / 2.0);
+    }
+
+    private static double Bezier(double mP1, double mP2, double mT) {
+        double mInverse = 1.0 - mT;
+        return 3.0 * mInverse * mInverse * mT * mP1 + 3.0 * mInverse * mT * mT * mP2 + mT * mT * mT;
+    }
+}
@@ -0,0 +1,32 @@
+package com.merv.bottomnavigationview.library.Interpolar;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * MervEasing formüllerinin bilinen uç ve ara değerleri verdiğini doğrular.
+ * Framework eğrileriyle karşılaştırma MervInterpolatorTest'tedir.
+ */
+public class MervEasingTest {
+
+    @Test
+    public void endpoints_matchFrameworkCurves() {
+        for (int mType = MervEasing.LINEAR; mType <= MervEasing.FAST_OUT_SLOW_IN; mType++) {
+            if (mType == MervEasing.NONE) continue;
+            assertEquals("type " + mType, 0f, MervEasing.evaluate(mType, 0f), 1e-3f);
+            assertEquals("type " + mType, 1f, MervEasing.evaluate(mType, 1f), 1e-3f);
+        }
+        assertEquals(1f, MervEasing.evaluate(MervEasing.NONE, 0f), 0f);
+    }
+
+    @Test
+    public void midpoints_matchFrameworkCurves() {
+        assertEquals(0.25f, MervEasing.evaluate(MervEasing.ACCELERATE, 0.5f), 0f);
+        assertEquals(0.75f, MervEasing.evaluate(MervEasing.DECELERATE, 0.5f), 0f);
+        assertEquals(0.5f, MervEasing.evaluate(MervEasing.ACCELERATE_DECELERATE, 0.5f), 1e-6f);
+        assertEquals(1.125f, MervEasing.evaluate(MervEasing.OVERSHOOT, 0.5f), 1e-6f);
+        assertEquals(-0.125f, MervEasing.evaluate(MervEasing.ANTICIPATE, 0.5f), 1e-6f);
+        assertEquals(0.5f, MervEasing.evaluate(MervEasing.ANTICIPATE_OVERSHOOT, 0.5f), 1e-6f);
+    }
+}
@@ -0,0 +1,47 @@
+package com.merv.bottomnavigationview.library.Interpolar;
+
+import android.animation.TimeInterpolator;
+import android.view.animation.PathInterpolator;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.*;
+
+/**
+ * MervInterpolator'ın framework interpolatörlerini paylaştığını ve benchmark modülünün ölçtüğü
+ * MervEasing kopyasının kapalı formüllerde bu eğrilerle aynı değerleri verdiğini doğrular.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34, qualifiers = "xxhdpi")
+public class MervInterpolatorTest {
+
+    private static final int SAMPLE_COUNT = 101;
+
+    @Test
+    public void get_returnsSharedInstances() {
+        for (int mType = MervInterpolator.LINEAR; mType <= MervInterpolator.FAST_OUT_SLOW_IN; mType++) {
+            assertSame("type " + mType, MervInterpolator.get(mType), MervInterpolator.get(mType));
+        }
+        assertSame(MervInterpolator.get(MervInterpolator.OVERSHOOT), MervInterpolator.get(-1));
+    }
+
+    @Test
+    public void fastOutSlowIn_usesFrameworkPathInterpolator() {
+        assertTrue(MervInterpolator.get(MervInterpolator.FAST_OUT_SLOW_IN) instanceof PathInterpolator);
+    }
+
+    @Test
+    public void easingCopy_matchesFrameworkClosedFormCurves() {
+        for (int mType = MervInterpolator.LINEAR; mType <= MervInterpolator.ANTICIPATE_OVERSHOOT; mType++) {
+            TimeInterpolator mFramework = MervInterpolator.get(mType);
+            for (int mI = 0; mI < SAMPLE_COUNT; mI++) {
+                float mInput = mI / (float) (SAMPLE_COUNT - 1);
+                assertEquals("type " + mType + " at " + mInput,
+                        mFramework.getInterpolation(mInput), MervEasing.evaluate(mType, mInput), 1e-5f);
+            }
+        }
+    }
+}
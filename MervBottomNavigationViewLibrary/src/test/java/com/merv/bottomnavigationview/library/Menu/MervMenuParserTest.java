@@ -0,0 +1,40 @@
+package com.merv.bottomnavigationview.library.Menu;
+
+import android.content.Context;
+
+import com.merv.bottomnavigationview.library.R;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.*;
+
+/**
+ * MervMenuParser'ın öğeleri MenuBuilder ile aynı sırada döndürdüğünü ve geçersiz öğeleri attığını doğrular.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34, qualifiers = "xxhdpi")
+public class MervMenuParserTest {
+
+    @Test
+    public void parse_ordersByCategoryAndOrderInCategory() {
+        Context mContext = RuntimeEnvironment.getApplication();
+        MervMenuModel mModel = MervMenuParser.parse(mContext, R.menu.preview_menu);
+
+        assertEquals(6, mModel.getRawCount());
+        assertEquals(5, mModel.getCount());
+        int[] mExpectedIds = {
+                R.id.preview_search, R.id.preview_home, R.id.preview_favorite, R.id.preview_add, R.id.preview_reaction
+        };
+        String[] mExpectedTitles = {"Search", "Home", "Favorite", "Add", "Reaction"};
+        for (int mI = 0; mI < mExpectedIds.length; mI++) {
+            assertEquals(mExpectedIds[mI], mModel.getId(mI));
+            assertEquals(mExpectedTitles[mI], mModel.getTitle(mI));
+        }
+        assertEquals(R.drawable.ic_preview_search, mModel.getIconRes(0));
+        assertEquals(R.drawable.ic_preview_reaction, mModel.getIconRes(4));
+    }
+}
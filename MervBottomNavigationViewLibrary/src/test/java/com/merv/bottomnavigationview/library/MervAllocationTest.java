@@ -0,0 +1,129 @@
+package com.merv.bottomnavigationview.library;
+
+import android.os.SystemClock;
+import android.view.MotionEvent;
+
+import com.merv.bottomnavigationview.library.Animation.MervManualFrameScheduler;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.*;
+
+/**
+ * onDraw, DrawItems ve onTouchEvent yollarının kararlı durumda hiç bellek ayırmadığını doğrular.
+ * <p>
+ * Her senaryo önce ısınma turlarıyla (sınıf yükleme, gölge önbelleği, JIT) kararlı duruma getirilir,
+ * ardından ölçülen turlarda iş parçacığının ayırdığı bayt sayısının 0 olması beklenir.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34, qualifiers = "xxhdpi")
+public class MervAllocationTest {
+
+    private static final int ITEM_COUNT = 5;
+    private static final int VIEW_WIDTH_PX = 1080;
+    private static final long FRAME_MS = 16;
+    private static final int TRANSITION_MS = 400;
+    private static final int WARMUP_ROUNDS = 500;
+    private static final int MEASURED_ROUNDS = 100;
+
+    private MervManualFrameScheduler mScheduler;
+    private MervBottomNavigationView mView;
+    private CountingCanvas mCanvas;
+    private final MotionEvent[] mTaps = new MotionEvent[ITEM_COUNT];
+
+    @Before
+    public void setUp() {
+        NavViewFixture mFixture = NavViewFixture.create(
+                ITEM_COUNT, VIEW_WIDTH_PX, mNav -> mNav.setBottomNavItemAnimationDuration(TRANSITION_MS));
+        mScheduler = mFixture.mScheduler;
+        mView = mFixture.mView;
+        mCanvas = mFixture.mCanvas;
+
+        float mSectionWidth = VIEW_WIDTH_PX / (float) ITEM_COUNT;
+        long mNow = SystemClock.uptimeMillis();
+        for (int mI = 0; mI < ITEM_COUNT; mI++) {
+            mTaps[mI] = MotionEvent.obtain(
+                    mNow, mNow, MotionEvent.ACTION_DOWN, mSectionWidth * mI + mSectionWidth / 2f, 10f, 0
+            );
+        }
+    }
+
+    @After
+    public void tearDown() {
+        for (MotionEvent mTap : mTaps) {
+            if (mTap != null) mTap.recycle();
+        }
+    }
+
+    @Test
+    public void idleRedraw_allocatesNothing() {
+        for (int mI = 0; mI < WARMUP_ROUNDS; mI++) {
+            mView.onDraw(mCanvas);
+        }
+
+        long mOverhead = ThreadAllocations.overhead();
+        long mStart = ThreadAllocations.allocatedBytes();
+        for (int mI = 0; mI < MEASURED_ROUNDS; mI++) {
+            mView.onDraw(mCanvas);
+        }
+        assertEquals(0L, ThreadAllocations.allocatedBytes() - mStart - mOverhead);
+    }
+
+    @Test
+    public void repeatedTaps_allocateNothing() {
+        for (int mI = 0; mI < WARMUP_ROUNDS; mI++) {
+            TapAndDraw(mI);
+        }
+
+        long mOverhead = ThreadAllocations.overhead();
+        long mStart = ThreadAllocations.allocatedBytes();
+        for (int mI = 0; mI < MEASURED_ROUNDS; mI++) {
+            TapAndDraw(mI);
+        }
+        assertEquals(0L, ThreadAllocations.allocatedBytes() - mStart - mOverhead);
+    }
+
+    @Test
+    public void fullTransitions_allocateNothing() {
+        int mWarmupTransitions = WARMUP_ROUNDS / 10;
+        int mMeasuredTransitions = MEASURED_ROUNDS / 10;
+        for (int mI = 0; mI < mWarmupTransitions; mI++) {
+            RunTransition(mI);
+        }
+
+        long mOverhead = ThreadAllocations.overhead();
+        long mStart = ThreadAllocations.allocatedBytes();
+        for (int mI = 0; mI < mMeasuredTransitions; mI++) {
+            RunTransition(mI);
+        }
+        assertEquals(0L, ThreadAllocations.allocatedBytes() - mStart - mOverhead);
+    }
+
+    /**
+     * Sıradaki öğeye dokunur, geçişin ilk karesini çalıştırır ve çizer.
+     */
+    private void TapAndDraw(int mRound) {
+        mView.onTouchEvent(mTaps[(mRound + 1) % ITEM_COUNT]);
+        mScheduler.advanceBy(0);
+        mView.onDraw(mCanvas);
+    }
+
+    /**
+     * Sıradaki öğeye dokunur ve geçişi bitişine kadar kare kare çizer.
+     */
+    private void RunTransition(int mRound) {
+        mView.onTouchEvent(mTaps[(mRound * 2 + 1) % ITEM_COUNT]);
+        mScheduler.advanceBy(0);
+        mView.onDraw(mCanvas);
+        while (mScheduler.getPendingCount() > 0) {
+            mScheduler.advanceBy(FRAME_MS);
+            mView.onDraw(mCanvas);
+        }
+        mView.onDraw(mCanvas);
+    }
+}
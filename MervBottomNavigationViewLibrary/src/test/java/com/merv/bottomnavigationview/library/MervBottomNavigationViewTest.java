@@ -0,0 +1,84 @@
+package com.merv.bottomnavigationview.library;
+
+import com.merv.bottomnavigationview.library.Metrics.MervNavCounters;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.*;
+
+/**
+ * Setter'ların çizilen duruma ve devam eden seçim geçişine doğru yansıdığını doğrular.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34, qualifiers = "xxhdpi")
+public class MervBottomNavigationViewTest {
+
+    private static final long FRAME_MS = 16;
+    private static final int TRANSITION_MS = 300;
+    private static final int TRANSITION_FRAMES = (int) (TRANSITION_MS / FRAME_MS) + 2;
+
+    /**
+     * İkon boyutları değiştiğinde geçişte olmayan öğelerin de yeni boyutlarla çizildiğini doğrular.
+     * Seçili ikon referans boyutta (ölçeksiz), diğer dört ikon seçilmemiş boyut / referans oranında çizilmelidir.
+     */
+    @Test
+    public void iconSizeChange_resizesEveryItem() {
+        NavViewFixture mFixture = NavViewFixture.create();
+        MervBottomNavigationView mView = mFixture.mView;
+        CountingCanvas mCanvas = mFixture.mCanvas;
+
+        mView.setBottomNavUnselectedIconSize(30f);
+        mView.setBottomNavSelectedIconSize(48f);
+        mCanvas.resetCounts();
+        mView.onDraw(mCanvas);
+
+        assertEquals(4, mCanvas.mScaleCount);
+        for (int mI = 0; mI < mCanvas.mScaleCount; mI++) {
+            assertEquals(30f / 48f, mCanvas.mScales[mI], 1e-6f);
+        }
+    }
+
+    /**
+     * Geçiş sırasında görünür öğe sınırı değişirse geçişin seçili öğenin yeni merkezinde ve
+     * yeni kaydırma konumunda bittiğini doğrular.
+     */
+    @Test
+    public void maxVisibleItemsChange_duringTransition_endsAtNewCenter() {
+        NavViewFixture mFixture = NavViewFixture.create(mNav -> mNav.setBottomNavItemAnimationDuration(TRANSITION_MS));
+        MervBottomNavigationView mView = mFixture.mView;
+
+        mView.setBottomNavSelectedIndex(4);
+        mFixture.stepFrames(5, FRAME_MS);
+        // 3 görünür öğe: bölüm genişliği 360 px, öğe 4'ün merkezi 1620 px, en büyük kaydırma 720 px
+        mView.setBottomNavMaxVisibleItems(3);
+        mFixture.stepFrames(TRANSITION_FRAMES, FRAME_MS);
+
+        assertEquals(1L, mView.getCounters().get(MervNavCounters.TRANSITIONS_COMPLETED));
+        assertEquals(1620f, mFixture.mCanvas.mLastCircleX, 0.5f);
+        assertEquals(720, mView.getScrollX());
+    }
+
+    /**
+     * Geçiş sırasında öğe ağırlıkları değişirse geçişin seçili öğenin yeni merkezinde bittiğini doğrular.
+     */
+    @Test
+    public void itemWeightChange_duringTransition_endsAtNewCenter() {
+        NavViewFixture mFixture = NavViewFixture.create(mNav -> {
+            mNav.setBottomNavItemAnimationDuration(TRANSITION_MS);
+            mNav.setBottomNavItemWidthMode(MervBottomNavigationView.ITEM_WIDTH_WEIGHT);
+        });
+        MervBottomNavigationView mView = mFixture.mView;
+
+        mView.setBottomNavSelectedIndex(4);
+        mFixture.stepFrames(5, FRAME_MS);
+        // Ağırlıklar 3,1,1,1,1: son öğe 1080 / 7 genişliğinde, merkezi 1080 - 1080 / 14
+        mView.setBottomNavItemWeight(0, 3f);
+        mFixture.stepFrames(TRANSITION_FRAMES, FRAME_MS);
+
+        assertEquals(1L, mView.getCounters().get(MervNavCounters.TRANSITIONS_COMPLETED));
+        assertEquals(1080f - 1080f / 14f, mFixture.mCanvas.mLastCircleX, 0.5f);
+    }
+}
@@ -0,0 +1,282 @@
+package com.merv.bottomnavigationview.library;
+
+import android.content.Context;
+
+import androidx.annotation.Nullable;
+
+import com.merv.bottomnavigationview.library.Animation.MervManualFrameScheduler;
+import com.merv.bottomnavigationview.library.Metrics.MervNavCounters;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+/**
+ * Cihaz olmadan, JVM üzerinde kare başına onDraw maliyetini ölçen harness.
+ * <p>
+ * Görünüm 3/4/5 öğe, yaygın genişlikler ve her iki çizim moduyla oluşturulur; ilk öğeden son öğeye
+ * tam bir seçim geçişi, görünüme verilen MervManualFrameScheduler ile FRAME_MS adımlarla kare kare ilerletilir;
+ * böylece her kare tam olarak aynı kesire denk gelir.
+ * Her karede onDraw süresi, Canvas işlem sayıları (path, drawable, metin, diğer) ve iş parçacığının
+ * ayırdığı bayt sayısı kaydedilir; sonuç JSON rapor olarak yazılır.
+ * <p>
+ * Rapor yolu "merv.drawBenchmark.output" sistem özelliğiyle değiştirilebilir.
+ * Süreler Robolectric üzerindeki JVM süreleridir; cihaz süresi değil, sürümler arası karşılaştırma içindir.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34, qualifiers = "xxhdpi")
+public class MervDrawCostBenchmarkTest {
+
+    private static final int[] ITEM_COUNTS = {3, 4, 5};
+    private static final int[] WIDTHS_DP = {360, 411, 600};
+    private static final int[] RENDER_MODES = {
+            MervBottomNavigationView.RENDER_MODE_HARDWARE,
+            MervBottomNavigationView.RENDER_MODE_SOFTWARE
+    };
+
+    /**
+     * Bir karenin süresi (60 Hz).
+     */
+    private static final long FRAME_MS = 16;
+
+    /**
+     * Ölçülen geçişin süresi.
+     */
+    private static final int TRANSITION_MS = 300;
+
+    private static final String OUTPUT_PROPERTY = "merv.drawBenchmark.output";
+    private static final String DEFAULT_OUTPUT = "build/reports/merv-draw-benchmark/draw-cost.json";
+
+    @Test
+    public void selectionTransition_writesDrawCostReport() throws IOException {
+        StringBuilder mReport = new StringBuilder(64 * 1024);
+        mReport.append("{\n  \"frameMs\": ").append(FRAME_MS)
+                .append(",\n  \"transitionMs\": ").append(TRANSITION_MS)
+                .append(",\n  \"runs\": [");
+
+        boolean mFirst = true;
+        for (int mRenderMode : RENDER_MODES) {
+            for (int mItemCount : ITEM_COUNTS) {
+                for (int mWidthDp : WIDTHS_DP) {
+                    RunResult mResult = RunTransition(mItemCount, mWidthDp, mRenderMode);
+
+                    assertTrue(mResult.mFrameCount > 1);
+                    assertTrue(mResult.mPathDraws[0] > 0);
+                    if (mRenderMode == MervBottomNavigationView.RENDER_MODE_SOFTWARE) {
+                        // Yazılım modunda ikonlar ısınmada hazırlanan Bitmap'lerden kopyalanır
+                        assertEquals(0, mResult.mDrawableDraws[0]);
+                    } else {
+                        assertEquals(mItemCount, mResult.mDrawableDraws[0]);
+                    }
+
+                    if (!mFirst) mReport.append(',');
+                    mFirst = false;
+                    mResult.appendJson(mReport);
+                }
+            }
+        }
+        mReport.append("\n  ]\n}\n");
+
+        File mOutput = new File(System.getProperty(OUTPUT_PROPERTY, DEFAULT_OUTPUT));
+        File mParent = mOutput.getAbsoluteFile().getParentFile();
+        if (mParent != null) {
+            Files.createDirectories(mParent.toPath());
+        }
+        Files.write(mOutput.toPath(), mReport.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Taşma modunda bir karede yalnızca görünür öğelerin çizildiğini, böylece kare maliyetinin
+     * öğe sayısıyla büyümediğini doğrular.
+     */
+    @Test
+    public void overflowMode_drawsOnlyVisibleItems() {
+        Context mContext = RuntimeEnvironment.getApplication();
+        int mWidthPx = Math.round(411 * mContext.getResources().getDisplayMetrics().density);
+        for (int mItemCount : new int[]{8, 30}) {
+            NavViewFixture mFixture = NavViewFixture.create(
+                    mItemCount, mWidthPx, mNav -> mNav.setBottomNavMaxVisibleItems(5));
+            MervBottomNavigationView mView = mFixture.mView;
+            MervManualFrameScheduler mScheduler = mFixture.mScheduler;
+            CountingCanvas mCanvas = mFixture.mCanvas;
+            assertTrue(mCanvas.mDrawableDraws <= 6);
+
+            mView.setBottomNavSelectedIndex(mItemCount - 1);
+            StepFrames(mView, mScheduler, mCanvas, 30, null);
+            assertTrue(mView.getScrollX() > 0);
+            mCanvas.setScrollX(mView.getScrollX());
+            mCanvas.resetCounts();
+            mView.onDraw(mCanvas);
+            assertTrue(mCanvas.mDrawableDraws <= 6);
+        }
+    }
+
+    /**
+     * Büyüme / küçülme animasyonunun Canvas ölçeğiyle yapıldığını, yani geçiş boyunca ikon sınırlarının
+     * (ve dolayısıyla Drawable'ın kendi önbelleğinin) değişmediğini ve seçim değişince ikonlara
+     * renk tonu uygulanmadığını (hazır kopyalar kullanıldığını) doğrular. Seçim boyutu değiştirmediği için
+     * geçiş sonunda düzen isteği de yapılmamalıdır.
+     */
+    @Test
+    public void selectionTransition_keepsIconBoundsAndTintsFixed() {
+        NavViewFixture mFixture = NavViewFixture.create(mNav -> mNav.setBottomNavItemAnimationDuration(TRANSITION_MS));
+        MervBottomNavigationView mView = mFixture.mView;
+
+        mView.setBottomNavSelectedIndex(4);
+        mFixture.stepFrames((int) (TRANSITION_MS / FRAME_MS) + 2, FRAME_MS);
+        assertEquals(0L, mView.getCounters().get(MervNavCounters.DRAWABLE_BOUNDS_CHANGES));
+        assertEquals(0L, mView.getCounters().get(MervNavCounters.DRAWABLE_TINT_CHANGES));
+        assertEquals(1L, mView.getCounters().get(MervNavCounters.TRANSITIONS_COMPLETED));
+        assertEquals(0L, mView.getCounters().get(MervNavCounters.LAYOUT_REQUESTS));
+    }
+
+    /**
+     * Tek bir yapılandırma için görünümü hazırlar, bir ısınma geçişi çalıştırır ve
+     * ardından ilk öğeden son öğeye geçişi kare kare ölçer.
+     */
+    private static RunResult RunTransition(int mItemCount, int mWidthDp, int mRenderMode) {
+        Context mContext = RuntimeEnvironment.getApplication();
+        float mDensity = mContext.getResources().getDisplayMetrics().density;
+        int mWidthPx = Math.round(mWidthDp * mDensity);
+
+        NavViewFixture mFixture = NavViewFixture.create(mItemCount, mWidthPx, mNav -> {
+            mNav.setBottomNavRenderMode(mRenderMode);
+            mNav.setBottomNavItemAnimationDuration(TRANSITION_MS);
+        });
+        MervBottomNavigationView mView = mFixture.mView;
+        MervManualFrameScheduler mScheduler = mFixture.mScheduler;
+        CountingCanvas mCanvas = mFixture.mCanvas;
+        int mLastIndex = mItemCount - 1;
+        int mFrameCount = (int) ((TRANSITION_MS + FRAME_MS - 1) / FRAME_MS) + 2;
+
+        // Isınma: sınıf yükleme, gölge önbelleği ve JIT ölçüme karışmasın
+        mView.setBottomNavSelectedIndex(mLastIndex);
+        StepFrames(mView, mScheduler, mCanvas, mFrameCount, null);
+        mView.setBottomNavSelectedIndex(0);
+        StepFrames(mView, mScheduler, mCanvas, mFrameCount, null);
+
+        RunResult mResult = new RunResult(mItemCount, mWidthDp, mRenderMode, mFrameCount);
+        mView.setBottomNavSelectedIndex(mLastIndex);
+        StepFrames(mView, mScheduler, mCanvas, mFrameCount, mResult);
+        return mResult;
+    }
+
+    /**
+     * İlk kare geçişin kesir 0 karesidir; sonraki her karede saat FRAME_MS ilerletilir,
+     * geçiş karesi çalışır ve onDraw ölçülür.
+     */
+    private static void StepFrames(
+            MervBottomNavigationView mView,
+            MervManualFrameScheduler mScheduler,
+            CountingCanvas mCanvas,
+            int mFrameCount,
+            @Nullable RunResult mResult
+    ) {
+        long mAllocOverhead = ThreadAllocations.overhead();
+
+        for (int mFrame = 0; mFrame < mFrameCount; mFrame++) {
+            mScheduler.advanceBy(mFrame == 0 ? 0L : FRAME_MS);
+            mCanvas.resetCounts();
+            long mAllocStart = ThreadAllocations.allocatedBytes();
+            long mStart = System.nanoTime();
+            mView.onDraw(mCanvas);
+            long mDrawNs = System.nanoTime() - mStart;
+            long mAllocated = Math.max(0L, ThreadAllocations.allocatedBytes() - mAllocStart - mAllocOverhead);
+
+            if (mResult != null) {
+                mResult.record(mFrame, mDrawNs, mAllocated, mCanvas);
+            }
+        }
+    }
+
+    /**
+     * Bir yapılandırmanın kare başına ölçümleri.
+     */
+    private static final class RunResult {
+
+        private final int mItemCount;
+        private final int mWidthDp;
+        private final int mRenderMode;
+        private final int mFrameCount;
+        private final long[] mDrawNs;
+        private final long[] mAllocatedBytes;
+        private final int[] mPathDraws;
+        private final int[] mDrawableDraws;
+        private final int[] mTextDraws;
+        private final int[] mOtherDraws;
+
+        RunResult(int mItemCount, int mWidthDp, int mRenderMode, int mFrameCount) {
+            this.mItemCount = mItemCount;
+            this.mWidthDp = mWidthDp;
+            this.mRenderMode = mRenderMode;
+            this.mFrameCount = mFrameCount;
+            this.mDrawNs = new long[mFrameCount];
+            this.mAllocatedBytes = new long[mFrameCount];
+            this.mPathDraws = new int[mFrameCount];
+            this.mDrawableDraws = new int[mFrameCount];
+            this.mTextDraws = new int[mFrameCount];
+            this.mOtherDraws = new int[mFrameCount];
+        }
+
+        void record(int mFrame, long mNs, long mBytes, CountingCanvas mCanvas) {
+            mDrawNs[mFrame] = mNs;
+            mAllocatedBytes[mFrame] = mBytes;
+            mPathDraws[mFrame] = mCanvas.mPathDraws;
+            mDrawableDraws[mFrame] = mCanvas.mDrawableDraws;
+            mTextDraws[mFrame] = mCanvas.mTextDraws;
+            mOtherDraws[mFrame] = mCanvas.mOtherDraws;
+        }
+
+        void appendJson(StringBuilder mOut) {
+            long[] mSorted = Arrays.copyOf(mDrawNs, mFrameCount);
+            Arrays.sort(mSorted);
+            long mTotalNs = 0L;
+            long mTotalBytes = 0L;
+            long mMaxBytes = 0L;
+            for (int mI = 0; mI < mFrameCount; mI++) {
+                mTotalNs += mDrawNs[mI];
+                mTotalBytes += mAllocatedBytes[mI];
+                mMaxBytes = Math.max(mMaxBytes, mAllocatedBytes[mI]);
+            }
+            int mP95Index = Math.min(mFrameCount - 1, (int) Math.ceil(mFrameCount * 0.95) - 1);
+
+            mOut.append("\n    {")
+                    .append("\"items\": ").append(mItemCount)
+                    .append(", \"widthDp\": ").append(mWidthDp)
+                    .append(", \"renderMode\": \"")
+                    .append(mRenderMode == MervBottomNavigationView.RENDER_MODE_SOFTWARE ? "SOFTWARE" : "HARDWARE")
+                    .append('"');
+            mOut.append(",\n     \"summary\": {")
+                    .append("\"frames\": ").append(mFrameCount)
+                    .append(", \"meanDrawNs\": ").append(mTotalNs / mFrameCount)
+                    .append(", \"p95DrawNs\": ").append(mSorted[mP95Index])
+                    .append(", \"maxDrawNs\": ").append(mSorted[mFrameCount - 1])
+                    .append(", \"totalAllocatedBytes\": ").append(mTotalBytes)
+                    .append(", \"maxAllocatedBytesPerFrame\": ").append(mMaxBytes)
+                    .append('}');
+            mOut.append(",\n     \"frames\": [");
+            for (int mI = 0; mI < mFrameCount; mI++) {
+                if (mI > 0) mOut.append(',');
+                mOut.append(String.format(
+                        Locale.ROOT,
+                        "\n       {\"frame\": %d, \"drawNs\": %d, \"allocatedBytes\": %d, "
+                                + "\"pathDraws\": %d, \"drawableDraws\": %d, \"textDraws\": %d, \"otherDraws\": %d}",
+                        mI, mDrawNs[mI], mAllocatedBytes[mI],
+                        mPathDraws[mI], mDrawableDraws[mI], mTextDraws[mI], mOtherDraws[mI]
+                ));
+            }
+            mOut.append("\n     ]}");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.merv.bottomnavigationview.library;
+
+import android.graphics.Color;
+import android.os.Looper;
+
+import com.merv.bottomnavigationview.library.Metrics.MervNavCounters;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * edit()...apply() işleminin değişiklikleri tek düzen ve tek yeniden çizim isteğiyle uyguladığını doğrular.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34, qualifiers = "xxhdpi")
+public class MervNavEditorTest {
+
+    private MervBottomNavigationView mView;
+
+    @Before
+    public void setUp() {
+        mView = NavViewFixture.create().mView;
+    }
+
+    @Test
+    public void apply_requestsOneLayoutAndOneInvalidate() {
+        mView.edit()
+                .setBottomNavTextSize(40f)
+                .setBottomNavTextMarginTop(20f)
+                .setBottomNavSelectedIconSize(90f)
+                .setBottomNavUnselectedIconSize(60f)
+                .setBottomNavCircleColor(Color.RED)
+                .setBottomNavMaxVisibleItems(3)
+                .apply();
+
+        MervNavCounters mCounters = mView.getCounters();
+        assertEquals(1L, mCounters.get(MervNavCounters.LAYOUT_REQUESTS));
+        assertEquals(1L, mCounters.get(MervNavCounters.INVALIDATE_CALLS));
+        assertEquals(3, mView.getBottomNavMaxVisibleItems());
+    }
+
+    @Test
+    public void separateSetters_requestLayoutEachTime() {
+        mView.setBottomNavTextSize(40f);
+        mView.setBottomNavTextMarginTop(20f);
+        mView.setBottomNavSelectedIconSize(90f);
+
+        assertEquals(3L, mView.getCounters().get(MervNavCounters.LAYOUT_REQUESTS));
+    }
+
+    @Test
+    public void sizeNeutralChanges_doNotRequestLayout() {
+        // İstenen yükseklik en büyük ikon boyutuna bağlıdır; seçili ikondan küçük kalan değişiklik boyutu etkilemez
+        mView.edit()
+                .setBottomNavUnselectedIconSize(30f)
+                .setBottomNavCircleColor(Color.RED)
+                .apply();
+        mView.setAddItem(new CountingDrawable(), "Item 5");
+
+        assertEquals(0L, mView.getCounters().get(MervNavCounters.LAYOUT_REQUESTS));
+    }
+
+    @Test
+    public void apply_fromBackgroundThread_appliesOnMainLooper() throws InterruptedException {
+        AtomicReference<Throwable> mError = new AtomicReference<>();
+        Thread mWorker = new Thread(() -> {
+            try {
+                mView.edit().setBottomNavMaxVisibleItems(2).setBottomNavTextSize(40f).apply();
+            } catch (Throwable mThrowable) {
+                mError.set(mThrowable);
+            }
+        });
+        mWorker.start();
+        mWorker.join();
+
+        assertNull(mError.get());
+        assertEquals(0, mView.getBottomNavMaxVisibleItems());
+        assertEquals(0L, mView.getCounters().get(MervNavCounters.LAYOUT_REQUESTS));
+
+        shadowOf(Looper.getMainLooper()).idle();
+
+        MervNavCounters mCounters = mView.getCounters();
+        assertEquals(2, mView.getBottomNavMaxVisibleItems());
+        assertEquals(1L, mCounters.get(MervNavCounters.LAYOUT_REQUESTS));
+        assertEquals(1L, mCounters.get(MervNavCounters.INVALIDATE_CALLS));
+    }
+
+    @Test
+    public void editor_rejectsInvalidValuesAndReuse() {
+        MervNavEditor mEditor = mView.edit();
+        assertThrows(IllegalArgumentException.class, () -> mEditor.setBottomNavRenderMode(7));
+        assertThrows(IllegalArgumentException.class, () -> mEditor.setBottomNavMaxVisibleItems(-1));
+
+        mEditor.setBottomNavCircleColor(Color.RED).apply();
+        assertThrows(IllegalStateException.class, () -> mEditor.setBottomNavCircleColor(Color.BLUE));
+        assertThrows(IllegalStateException.class, mEditor::apply);
+    }
+}
@@ -0,0 +1,41 @@
+package com.merv.bottomnavigationview.library.Metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * MervNavCounters'ın okuyup sıfırlama davranışını doğrular.
+ */
+public class MervNavCountersTest {
+
+    @Test
+    public void snapshotAndReset_copiesAndClears() {
+        MervNavCounters mCounters = new MervNavCounters();
+        mCounters.increment(MervNavCounters.FRAMES_DRAWN);
+        mCounters.increment(MervNavCounters.FRAMES_DRAWN);
+        mCounters.increment(MervNavCounters.LAYOUT_REQUESTS);
+
+        MervNavCounters mSnapshot = new MervNavCounters();
+        assertSame(mSnapshot, mCounters.snapshotAndReset(mSnapshot));
+        assertEquals(2L, mSnapshot.get(MervNavCounters.FRAMES_DRAWN));
+        assertEquals(1L, mSnapshot.get(MervNavCounters.LAYOUT_REQUESTS));
+        assertEquals(0L, mSnapshot.get(MervNavCounters.PATH_REBUILDS));
+        for (int mI = 0; mI < MervNavCounters.COUNTER_COUNT; mI++) {
+            assertEquals(0L, mCounters.get(mI));
+        }
+
+        mCounters.increment(MervNavCounters.TRANSITIONS_STARTED);
+        mCounters.snapshotAndReset(mSnapshot);
+        assertEquals(0L, mSnapshot.get(MervNavCounters.FRAMES_DRAWN));
+        assertEquals(1L, mSnapshot.get(MervNavCounters.TRANSITIONS_STARTED));
+    }
+
+    @Test
+    public void names_coverAllCounters() {
+        for (int mI = 0; mI < MervNavCounters.COUNTER_COUNT; mI++) {
+            assertNotNull(MervNavCounters.getName(mI));
+        }
+        assertEquals("framesDrawn", MervNavCounters.getName(MervNavCounters.FRAMES_DRAWN));
+    }
+}
@@ -0,0 +1,55 @@
+package com.merv.bottomnavigationview.library.Metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * MervTransitionMetrics özet değerlerinin ve halka tamponun doğru çalıştığını doğrular.
+ */
+public class MervTransitionMetricsTest {
+
+    @Test
+    public void summary_coversAllFrames() {
+        MervTransitionMetrics mMetrics = new MervTransitionMetrics();
+        mMetrics.setFrameBudgetNanos(10L);
+        mMetrics.begin(0, 3, 1_000L);
+        for (int mI = 1; mI <= 20; mI++) {
+            mMetrics.recordFrame(mI, 1_000L + mI * 100L);
+        }
+        mMetrics.finish(false);
+
+        assertFalse(mMetrics.isRecording());
+        assertEquals(0, mMetrics.getFromIndex());
+        assertEquals(3, mMetrics.getToIndex());
+        assertEquals(20, mMetrics.getFrameCount());
+        assertEquals(10, mMetrics.getFramesOverBudget());
+        assertEquals(20L, mMetrics.getWorstDrawNanos());
+        assertEquals(19L, mMetrics.getP95DrawNanos());
+        assertEquals(2_000L, mMetrics.getTotalDurationNanos());
+        assertFalse(mMetrics.isCanceled());
+    }
+
+    @Test
+    public void ringBuffer_keepsWorstAcrossOverflow() {
+        MervTransitionMetrics mMetrics = new MervTransitionMetrics(4);
+        mMetrics.begin(1, 2, 0L);
+        mMetrics.recordFrame(500L, 10L);
+        for (int mI = 0; mI < 8; mI++) {
+            mMetrics.recordFrame(5L, 20L + mI);
+        }
+        mMetrics.finish(true);
+
+        assertEquals(9, mMetrics.getFrameCount());
+        assertEquals(500L, mMetrics.getWorstDrawNanos());
+        assertEquals(5L, mMetrics.getP95DrawNanos());
+        assertTrue(mMetrics.isCanceled());
+    }
+
+    @Test
+    public void recordFrame_isIgnoredWhenNotRecording() {
+        MervTransitionMetrics mMetrics = new MervTransitionMetrics();
+        mMetrics.recordFrame(100L, 100L);
+        assertEquals(0, mMetrics.getFrameCount());
+    }
+}
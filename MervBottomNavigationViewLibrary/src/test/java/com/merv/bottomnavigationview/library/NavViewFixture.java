@@ -0,0 +1,89 @@
+package com.merv.bottomnavigationview.library;
+
+import android.content.Context;
+import android.view.View;
+
+import androidx.annotation.Nullable;
+
+import com.merv.bottomnavigationview.library.Animation.MervManualFrameScheduler;
+
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.function.Consumer;
+
+/**
+ * Testler için hazır görünüm: elle ilerletilen kare zamanlayıcısı verilmiş, CountingDrawable öğeleri eklenmiş,
+ * verilen genişlikte ölçülüp yerleştirilmiş ve bir kez çizilmiş MervBottomNavigationView ile onun CountingCanvas'ı.
+ * Sayaçlar ilk çizimden sonra sıfırlanır.
+ */
+final class NavViewFixture {
+
+    static final int DEFAULT_ITEM_COUNT = 5;
+    static final int DEFAULT_WIDTH_PX = 1080;
+
+    final MervBottomNavigationView mView;
+    final MervManualFrameScheduler mScheduler;
+    final CountingCanvas mCanvas;
+
+    private NavViewFixture(MervBottomNavigationView mView, MervManualFrameScheduler mScheduler) {
+        this.mView = mView;
+        this.mScheduler = mScheduler;
+        this.mCanvas = new CountingCanvas(mView.getWidth(), mView.getHeight());
+    }
+
+    /**
+     * @return 1080 px genişliğinde, 5 öğeli görünüm
+     */
+    static NavViewFixture create() {
+        return create(DEFAULT_ITEM_COUNT, DEFAULT_WIDTH_PX, null);
+    }
+
+    /**
+     * @param mConfigure Öğeler eklenmeden önce görünümü ayarlar (süre, mod vb.); null olabilir
+     * @return 1080 px genişliğinde, 5 öğeli görünüm
+     */
+    static NavViewFixture create(@Nullable Consumer<MervBottomNavigationView> mConfigure) {
+        return create(DEFAULT_ITEM_COUNT, DEFAULT_WIDTH_PX, mConfigure);
+    }
+
+    /**
+     * @param mItemCount  Eklenecek öğe sayısı
+     * @param mWidthPx    Görünümün tam (EXACTLY) genişliği
+     * @param mConfigure  Öğeler eklenmeden önce görünümü ayarlar (süre, mod vb.); null olabilir
+     * @return Ölçülmüş, yerleştirilmiş ve bir kez çizilmiş görünüm
+     */
+    static NavViewFixture create(int mItemCount, int mWidthPx,
+                                 @Nullable Consumer<MervBottomNavigationView> mConfigure) {
+        Context mContext = RuntimeEnvironment.getApplication();
+        MervManualFrameScheduler mScheduler = new MervManualFrameScheduler();
+        MervBottomNavigationView mView = new MervBottomNavigationView(mContext);
+        mView.setFrameScheduler(mScheduler);
+        if (mConfigure != null) {
+            mConfigure.accept(mView);
+        }
+        for (int mI = 0; mI < mItemCount; mI++) {
+            mView.setAddItem(new CountingDrawable(), "Item " + mI);
+        }
+        mView.measure(
+                View.MeasureSpec.makeMeasureSpec(mWidthPx, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED)
+        );
+        mView.layout(0, 0, mView.getMeasuredWidth(), mView.getMeasuredHeight());
+
+        NavViewFixture mFixture = new NavViewFixture(mView, mScheduler);
+        mView.onDraw(mFixture.mCanvas);
+        mView.getCounters().reset();
+        return mFixture;
+    }
+
+    /**
+     * İlk kare geçişin kesir 0 karesidir; sonraki her karede saat mFrameMs ilerletilir ve görünüm çizilir.
+     */
+    void stepFrames(int mFrameCount, long mFrameMs) {
+        for (int mFrame = 0; mFrame < mFrameCount; mFrame++) {
+            mScheduler.advanceBy(mFrame == 0 ? 0L : mFrameMs);
+            mCanvas.resetCounts();
+            mView.onDraw(mCanvas);
+        }
+    }
+}
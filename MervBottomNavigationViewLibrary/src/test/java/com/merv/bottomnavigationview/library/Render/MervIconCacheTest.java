@@ -0,0 +1,95 @@
+package com.merv.bottomnavigationview.library.Render;
+
+import android.content.Context;
+import android.graphics.drawable.Drawable;
+import android.view.ContextThemeWrapper;
+
+import com.merv.bottomnavigationview.library.R;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.*;
+
+/**
+ * MervIconCache'in ikonu bir kez yükleyip durumunu sonraki isteklerle paylaştığını doğrular.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34, qualifiers = "xxhdpi")
+public class MervIconCacheTest {
+
+    private Context mContext;
+
+    @Before
+    public void setUp() {
+        mContext = RuntimeEnvironment.getApplication();
+        MervIconCache.clear();
+    }
+
+    @After
+    public void tearDown() {
+        MervIconCache.clear();
+    }
+
+    @Test
+    public void obtain_sharesConstantStateAcrossInstances() {
+        Drawable mFirst = MervIconCache.obtain(mContext, R.drawable.ic_preview_home);
+        Drawable mSecond = MervIconCache.obtain(mContext, R.drawable.ic_preview_home);
+
+        assertNotSame(mFirst, mSecond);
+        assertSame(mFirst.getConstantState(), mSecond.getConstantState());
+        assertEquals(1, MervIconCache.size());
+    }
+
+    @Test
+    public void mutate_doesNotChangeCachedState() {
+        Drawable mTinted = MervIconCache.obtain(mContext, R.drawable.ic_preview_home);
+        Drawable.ConstantState mShared = mTinted.getConstantState();
+        mTinted.mutate().setTint(0xFFFF0000);
+
+        Drawable mNext = MervIconCache.obtain(mContext, R.drawable.ic_preview_home);
+        assertSame(mShared, mNext.getConstantState());
+        assertNotSame(mShared, mTinted.getConstantState());
+    }
+
+    @Test
+    public void themes_areComparedByAppliedStyles() {
+        Context mFirst = new ContextThemeWrapper(mContext, android.R.style.Theme_Material_Light);
+        Context mSecond = new ContextThemeWrapper(mContext, android.R.style.Theme_Material_Light);
+        Context mDark = new ContextThemeWrapper(mContext, android.R.style.Theme_Material);
+
+        Drawable mIcon = MervIconCache.obtain(mFirst, R.drawable.ic_preview_home);
+        Drawable mSameTheme = MervIconCache.obtain(mSecond, R.drawable.ic_preview_home);
+        assertSame(mIcon.getConstantState(), mSameTheme.getConstantState());
+        assertEquals(1, MervIconCache.size());
+
+        MervIconCache.obtain(mDark, R.drawable.ic_preview_home);
+        assertEquals(2, MervIconCache.size());
+    }
+
+    @Test
+    public void themeChangedAfterCaching_doesNotReuseOldState() {
+        Context mThemed = new ContextThemeWrapper(mContext, android.R.style.Theme_Material_Light);
+        MervIconCache.obtain(mThemed, R.drawable.ic_preview_home);
+
+        mThemed.getTheme().applyStyle(android.R.style.Theme_Material, true);
+        MervIconCache.obtain(mThemed, R.drawable.ic_preview_home);
+
+        assertEquals(2, MervIconCache.size());
+    }
+
+    @Test
+    public void configurationChange_loadsSeparately() {
+        MervIconCache.obtain(mContext, R.drawable.ic_preview_home);
+
+        RuntimeEnvironment.setQualifiers("+land-ldrtl");
+        MervIconCache.obtain(RuntimeEnvironment.getApplication(), R.drawable.ic_preview_home);
+
+        assertEquals(2, MervIconCache.size());
+    }
+}
@@ -0,0 +1,56 @@
+package com.merv.bottomnavigationview.library.Render;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.drawable.ColorDrawable;
+import android.graphics.drawable.Drawable;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.*;
+
+/**
+ * İkon Bitmap önbelleğinin boyut kovalarını, yeniden kullanımı ve bütçe aşımında LRU çıkarmayı doğrular.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class MervIconRasterCacheTest {
+
+    @Test
+    public void bucketSize_snapsToEndpointsAndIntermediateSteps() {
+        assertEquals(60, MervIconRasterCache.bucketSize(60f, 60f, 120f));
+        assertEquals(120, MervIconRasterCache.bucketSize(120f, 60f, 120f));
+        assertEquals(72, MervIconRasterCache.bucketSize(73f, 60f, 120f));
+        assertEquals(120, MervIconRasterCache.bucketSize(130f, 60f, 120f));
+    }
+
+    @Test
+    public void draw_reusesBitmapAndEvictsLeastRecentlyUsed() {
+        MervIconRasterCache mCache = new MervIconRasterCache();
+        mCache.setBudgetBytes(2 * 10 * 10 * 4);
+        Canvas mCanvas = new Canvas(Bitmap.createBitmap(50, 50, Bitmap.Config.ARGB_8888));
+        Drawable mFirst = new ColorDrawable(0xFFFF0000);
+        Drawable mSecond = new ColorDrawable(0xFF00FF00);
+        Drawable mThird = new ColorDrawable(0xFF0000FF);
+
+        assertTrue(mCache.draw(mCanvas, mFirst, 0, 10, 0f, 0f, 10f));
+        assertTrue(mCache.draw(mCanvas, mSecond, 0, 10, 0f, 0f, 10f));
+        assertTrue(mCache.draw(mCanvas, mFirst, 0, 10, 0f, 0f, 12f));
+        assertEquals(2, mCache.getEntryCount());
+
+        // Bütçe doluyken en eski (mSecond) çıkarılır
+        assertTrue(mCache.draw(mCanvas, mThird, 0, 10, 0f, 0f, 10f));
+        assertEquals(2, mCache.getEntryCount());
+        assertEquals(2 * 10 * 10 * 4, mCache.getByteCount());
+
+        // Bütçeden büyük bir Bitmap üretilmez
+        assertFalse(mCache.draw(mCanvas, mFirst, 0, 40, 0f, 0f, 40f));
+
+        mCache.clear();
+        assertEquals(0, mCache.getEntryCount());
+        assertEquals(0L, mCache.getByteCount());
+    }
+}
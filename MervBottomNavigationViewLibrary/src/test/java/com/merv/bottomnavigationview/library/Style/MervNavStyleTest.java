@@ -0,0 +1,97 @@
+package com.merv.bottomnavigationview.library.Style;
+
+import android.app.Activity;
+import android.util.AttributeSet;
+import android.view.ContextThemeWrapper;
+
+import com.merv.bottomnavigationview.library.R;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.*;
+
+/**
+ * Ayrıştırılmış stilin aynı öznitelikler için paylaşıldığını, farklı öznitelikler için ayrı tutulduğunu doğrular.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34, qualifiers = "xxhdpi")
+public class MervNavStyleTest {
+
+    private Activity mActivity;
+
+    @Before
+    public void setUp() {
+        mActivity = Robolectric.buildActivity(Activity.class).setup().get();
+        MervNavStyle.clearCache();
+    }
+
+    @After
+    public void tearDown() {
+        MervNavStyle.clearCache();
+    }
+
+    @Test
+    public void sameAttributes_shareParsedStyle() {
+        MervNavStyle mFirst = MervNavStyle.obtain(mActivity, BuildAttributes("#FF0000"));
+        MervNavStyle mSecond = MervNavStyle.obtain(mActivity, BuildAttributes("#FF0000"));
+
+        assertSame(mFirst, mSecond);
+        assertEquals(0xFFFF0000, mFirst.getCircleColor());
+        assertEquals(250, mFirst.getAnimationDuration());
+    }
+
+    @Test
+    public void differentAttributes_parseSeparately() {
+        MervNavStyle mRed = MervNavStyle.obtain(mActivity, BuildAttributes("#FF0000"));
+        MervNavStyle mBlue = MervNavStyle.obtain(mActivity, BuildAttributes("#0000FF"));
+
+        assertNotSame(mRed, mBlue);
+        assertEquals(0xFF0000FF, mBlue.getCircleColor());
+    }
+
+    @Test
+    public void recreatedActivity_sharesParsedStyle() {
+        MervNavStyle mFirst = MervNavStyle.obtain(mActivity, BuildAttributes("#FF0000"));
+        Activity mRecreated = Robolectric.buildActivity(Activity.class).setup().get();
+
+        assertSame(mFirst, MervNavStyle.obtain(mRecreated, BuildAttributes("#FF0000")));
+    }
+
+    @Test
+    public void differentTheme_parsesSeparately() {
+        MervNavStyle mDefault = MervNavStyle.obtain(mActivity, BuildAttributes("#FF0000"));
+        ContextThemeWrapper mThemed = new ContextThemeWrapper(mActivity, android.R.style.Theme_Material_Light);
+
+        assertNotSame(mDefault, MervNavStyle.obtain(mThemed, BuildAttributes("#FF0000")));
+    }
+
+    @Test
+    public void orientationChange_reparsesQualifiedResources() {
+        AttributeSet mAttributes = Robolectric.buildAttributeSet()
+                .addAttribute(R.attr.mBottomNavSelectedIconSize, "@dimen/preview_selected_icon_size")
+                .build();
+        MervNavStyle mPortrait = MervNavStyle.obtain(mActivity, mAttributes);
+
+        RuntimeEnvironment.setQualifiers("+land");
+        Activity mLandscape = Robolectric.buildActivity(Activity.class).setup().get();
+        MervNavStyle mRotated = MervNavStyle.obtain(mLandscape, mAttributes);
+
+        assertNotSame(mPortrait, mRotated);
+        assertEquals(36f * 3f, mPortrait.getSelectedIconSize(), 0.01f);
+        assertEquals(28f * 3f, mRotated.getSelectedIconSize(), 0.01f);
+    }
+
+    private static AttributeSet BuildAttributes(String mCircleColor) {
+        return Robolectric.buildAttributeSet()
+                .addAttribute(R.attr.mBottomNavCircleColor, mCircleColor)
+                .addAttribute(R.attr.mBottomNavItemAnimationDuration, "250")
+                .build();
+    }
+}
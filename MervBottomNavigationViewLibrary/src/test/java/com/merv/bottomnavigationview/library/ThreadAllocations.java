@@ -0,0 +1,30 @@
+package com.merv.bottomnavigationview.library;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Geçerli iş parçacığının ayırdığı toplam bayt sayısını okuyan test yardımcısı (HotSpot ThreadMXBean).
+ */
+final class ThreadAllocations {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private ThreadAllocations() {
+    }
+
+    /**
+     * @return Geçerli iş parçacığının şimdiye kadar ayırdığı bayt sayısı
+     */
+    static long allocatedBytes() {
+        return THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * @return İki ardışık allocatedBytes() çağrısı arasında ölçümün kendisinin ayırdığı bayt sayısı
+     */
+    static long overhead() {
+        long mStart = allocatedBytes();
+        return allocatedBytes() - mStart;
+    }
+}
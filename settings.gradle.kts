@@ -22,3 +22,4 @@ dependencyResolutionManagement {
 rootProject.name = "MervBottomNavigationView"
 include(":app")
 include(":MervBottomNavigationViewLibrary")
+include(":MervBottomNavigationViewBenchmark")